@@ -0,0 +1,21 @@
+package com.example.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Streaming of the article catalog export.
+ *
+ * @param timeout time the export may take to stream the whole catalog, instead of
+ *                the default timeout of asynchronous requests.
+ * @author Evhen Malysh
+ */
+@Validated
+@ConfigurationProperties(prefix = "museum.articles.export")
+public record ArticleExportProperties(
+        @DefaultValue("30m") Duration timeout
+) {
+}
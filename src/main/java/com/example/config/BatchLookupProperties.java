@@ -0,0 +1,40 @@
+package com.example.config;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Limits of the endpoints resolving a set of IDs in one call.
+ *
+ * @param maxIds upper bound of the distinct IDs a client can request at once.
+ * @author Evhen Malysh
+ */
+@Validated
+@ConfigurationProperties(prefix = "museum.batch-lookup")
+public record BatchLookupProperties(
+        @DefaultValue("100") @Positive int maxIds
+) {
+
+    public static final String TOO_MANY_IDS = "At most %d distinct IDs can be requested at once, got %d";
+
+    /**
+     * Resolve the IDs to look up for the requested ones.
+     *
+     * @param requestedIds IDs requested by the client, possibly repeated.
+     * @return distinct IDs in the order of their first request.
+     * @throws IllegalArgumentException if there are more than {@link #maxIds()} distinct IDs.
+     */
+    public List<Long> distinct(final Collection<Long> requestedIds) {
+        var ids = new LinkedHashSet<>(requestedIds);
+        if (ids.size() > maxIds) {
+            throw new IllegalArgumentException(String.format(TOO_MANY_IDS, maxIds, ids.size()));
+        }
+        return List.copyOf(ids);
+    }
+}
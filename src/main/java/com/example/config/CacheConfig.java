@@ -0,0 +1,45 @@
+package com.example.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caches of single entity DTO lookups, of the sealed buckets of the event calendar
+ * and of the rendered event feeds.
+ * Size, TTL and statistics recording are configured by {@code spring.cache.caffeine.spec}.
+ *
+ * @author Evhen Malysh
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    public static final String ARTICLES = "articles";
+    public static final String EVENTS = "events";
+    public static final String AUTHORS = "authors";
+    public static final String USERS = "users";
+    public static final String EVENT_CALENDAR = "eventCalendar";
+    public static final String EVENT_FEEDS = "eventFeeds";
+
+    /**
+     * Caffeine cache manager that defers puts and evictions until the surrounding
+     * transaction commits, so a rolled back write never reaches the cache.
+     *
+     * @param cacheProperties {@code spring.cache} properties.
+     * @return transaction aware cache manager.
+     */
+    @Bean
+    public CacheManager cacheManager(final CacheProperties cacheProperties) {
+        var caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        caffeineCacheManager.setCacheNames(cacheProperties.getCacheNames());
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
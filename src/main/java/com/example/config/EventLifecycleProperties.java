@@ -0,0 +1,23 @@
+package com.example.config;
+
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Schedule of the event status lifecycle job.
+ *
+ * @param cron         cron expression of the job runs, "-" disables the job.
+ * @param archiveAfter time after the start of an event when it is archived.
+ * @author Evhen Malysh
+ */
+@Validated
+@ConfigurationProperties(prefix = "museum.events.lifecycle")
+public record EventLifecycleProperties(
+        @DefaultValue("0 * * * * *") @NotBlank String cron,
+        @DefaultValue("1d") Duration archiveAfter
+) {
+}
@@ -0,0 +1,27 @@
+package com.example.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Period;
+
+/**
+ * Management of the monthly partitions of the events table.
+ *
+ * @param cron        cron expression of the job runs, "-" disables the scheduled runs.
+ * @param monthsAhead number of months after the current one that must have a partition.
+ * @param detachAfter age of a month, in years and months, after which its partition is detached
+ *                    from the events table.
+ * @author Evhen Malysh
+ */
+@Validated
+@ConfigurationProperties(prefix = "museum.events.partitions")
+public record EventPartitionProperties(
+        @DefaultValue("0 0 3 * * *") @NotBlank String cron,
+        @DefaultValue("12") @Positive int monthsAhead,
+        @DefaultValue("2y") Period detachAfter
+) {
+}
@@ -0,0 +1,26 @@
+package com.example.config;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Server-sent stream of event changes.
+ *
+ * @param queueSize maximum number of changes waiting to be sent to one subscriber,
+ *                  a subscriber falling further behind is disconnected.
+ * @param senders   number of threads writing changes to the subscribers.
+ * @param timeout   time after which a subscription is closed, clients reconnect on their own.
+ * @author Evhen Malysh
+ */
+@Validated
+@ConfigurationProperties(prefix = "museum.events.stream")
+public record EventStreamProperties(
+        @DefaultValue("64") @Positive int queueSize,
+        @DefaultValue("4") @Positive int senders,
+        @DefaultValue("30m") Duration timeout
+) {
+}
@@ -0,0 +1,34 @@
+package com.example.config;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Page size limits of the cursor paginated list endpoints.
+ *
+ * @param defaultSize page size used when the client does not request one.
+ * @param maxSize     upper bound of the page size a client can request.
+ * @author Evhen Malysh
+ */
+@Validated
+@ConfigurationProperties(prefix = "museum.pagination")
+public record PaginationProperties(
+        @DefaultValue("20") @Positive int defaultSize,
+        @DefaultValue("100") @Positive int maxSize
+) {
+
+    /**
+     * Resolve the page size to use for the requested one.
+     *
+     * @param requestedSize page size requested by the client, may be null.
+     * @return requested size capped by {@link #maxSize()}, or {@link #defaultSize()} if none requested.
+     */
+    public int resolve(final Integer requestedSize) {
+        if (requestedSize == null) {
+            return Math.min(defaultSize, maxSize);
+        }
+        return Math.min(requestedSize, maxSize);
+    }
+}
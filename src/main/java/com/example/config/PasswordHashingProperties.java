@@ -0,0 +1,32 @@
+package com.example.config;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Worker pool and cost of password hashing.
+ *
+ * @param threads        number of threads hashing passwords, bounding the CPU hashing can take.
+ * @param queueSize      maximum number of passwords waiting for a free thread.
+ * @param queueTimeout   time a caller waits for room in the queue before it is turned away.
+ * @param targetDuration time one hash should take, the iterations are adjusted to stay close to it.
+ * @param minIterations  lower bound of the iterations, kept even if hashing is slower than the target.
+ * @param maxIterations  upper bound of the iterations.
+ * @author Evhen Malysh
+ */
+@Validated
+@ConfigurationProperties(prefix = "museum.users.password-hashing")
+public record PasswordHashingProperties(
+        @DefaultValue("2") @Positive int threads,
+        @DefaultValue("32") @PositiveOrZero int queueSize,
+        @DefaultValue("1s") Duration queueTimeout,
+        @DefaultValue("50ms") Duration targetDuration,
+        @DefaultValue("100000") @Positive int minIterations,
+        @DefaultValue("1000000") @Positive int maxIterations
+) {
+}
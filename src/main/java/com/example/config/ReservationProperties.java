@@ -0,0 +1,26 @@
+package com.example.config;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Batching of the seat reservations written to the database.
+ *
+ * @param batchSize      maximum number of reservations persisted in one transaction.
+ * @param flushInterval  delay between the end of one flush of pending reservations and the start of the next.
+ * @param requestTimeout time a reservation may wait for its flush; a reservation still queued
+ *                       when it expires is dropped and its seats are returned.
+ * @author Evhen Malysh
+ */
+@Validated
+@ConfigurationProperties(prefix = "museum.reservations")
+public record ReservationProperties(
+        @DefaultValue("500") @Positive int batchSize,
+        @DefaultValue("10ms") Duration flushInterval,
+        @DefaultValue("5s") Duration requestTimeout
+) {
+}
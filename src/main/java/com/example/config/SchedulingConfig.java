@@ -0,0 +1,14 @@
+package com.example.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the background jobs declared with {@link org.springframework.scheduling.annotation.Scheduled}.
+ *
+ * @author Evhen Malysh
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
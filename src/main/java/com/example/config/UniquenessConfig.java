@@ -0,0 +1,53 @@
+package com.example.config;
+
+import com.example.repositories.museum.AuthorRepository;
+import com.example.repositories.users.UserRepository;
+import com.example.services.uniqueness.BloomFilter;
+import com.example.services.uniqueness.UniquenessFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+
+/**
+ * Uniqueness filters of the values checked before registrations, seeded from the database at startup.
+ *
+ * @author Evhen Malysh
+ */
+@Configuration
+@RequiredArgsConstructor
+public class UniquenessConfig {
+
+    private final UniquenessProperties uniquenessProperties;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    @Bean
+    public UniquenessFilter<String> authorUsernames(final AuthorRepository authorRepository) {
+        return seed("author-usernames", authorRepository.count(),
+                add -> authorRepository.streamAllUsernames().forEach(add));
+    }
+
+    @Bean
+    public UniquenessFilter<Long> authorUserIds(final AuthorRepository authorRepository) {
+        return seed("author-user-ids", authorRepository.count(),
+                add -> authorRepository.streamAllUserIds().forEach(add));
+    }
+
+    @Bean
+    public UniquenessFilter<String> userEmails(final UserRepository userRepository) {
+        return seed("user-emails", userRepository.count(),
+                add -> userRepository.streamAllEmails().forEach(add));
+    }
+
+    private <K> UniquenessFilter<K> seed(final String domain, final long count, final Consumer<Consumer<K>> values) {
+        var expectedInsertions = Math.max(uniquenessProperties.expectedInsertions(), count * 2);
+        var filter = new UniquenessFilter<K>(domain,
+                new BloomFilter(expectedInsertions, uniquenessProperties.falsePositiveProbability()), meterRegistry);
+        transactionTemplate.executeWithoutResult(status -> values.accept(filter::add));
+        return filter;
+    }
+}
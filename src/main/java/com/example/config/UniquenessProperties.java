@@ -0,0 +1,24 @@
+package com.example.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * In-memory pre-checks of unique usernames, author accounts and emails.
+ *
+ * @param expectedInsertions       minimum number of values each filter is sized for,
+ *                                 a filter is sized for twice the values found at startup if that is more.
+ * @param falsePositiveProbability share of the free values that still need a database check
+ *                                 once a filter holds the values it is sized for.
+ * @author Evhen Malysh
+ */
+@Validated
+@ConfigurationProperties(prefix = "museum.uniqueness")
+public record UniquenessProperties(
+        @DefaultValue("100000") @Positive long expectedInsertions,
+        @DefaultValue("0.01") @Positive @DecimalMax(value = "1", inclusive = false) double falsePositiveProbability
+) {
+}
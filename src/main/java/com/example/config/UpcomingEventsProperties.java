@@ -0,0 +1,19 @@
+package com.example.config;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * In-memory list of the upcoming events.
+ *
+ * @param size maximum number of the earliest upcoming events kept in memory.
+ * @author Evhen Malysh
+ */
+@Validated
+@ConfigurationProperties(prefix = "museum.events.upcoming")
+public record UpcomingEventsProperties(
+        @DefaultValue("100") @Positive int size
+) {
+}
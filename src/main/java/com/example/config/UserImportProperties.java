@@ -0,0 +1,20 @@
+package com.example.config;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Batching of bulk user imports.
+ *
+ * @param batchSize number of valid rows whose passwords are hashed together and
+ *                  which are then written in one transaction.
+ * @author Evhen Malysh
+ */
+@Validated
+@ConfigurationProperties(prefix = "museum.users.import")
+public record UserImportProperties(
+        @DefaultValue("500") @Positive int batchSize
+) {
+}
@@ -9,4 +9,5 @@ public class ArticleConstraints {
     public static final int MAX_TITLE_LENGTH = 300;
     public static final int MIN_CONTENT_LENGTH = 30;
     public static final int MAX_CONTENT_LENGTH = 3000;
+    public static final int MAX_BULK_SIZE = 1000;
 }
@@ -10,4 +10,14 @@ public class AuthorConstraints {
      * Maximum length of user`s firstname
      */
     public static final int MAX_USERNAME_LENGTH = 30;
+
+    /**
+     * Number of the latest articles listed on the profile of an author
+     */
+    public static final int PROFILE_LATEST_ARTICLES = 5;
+
+    /**
+     * Number of the upcoming events listed on the profile of an author
+     */
+    public static final int PROFILE_UPCOMING_EVENTS = 5;
 }
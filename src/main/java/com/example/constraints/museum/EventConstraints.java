@@ -9,4 +9,7 @@ public class EventConstraints {
     public static final int MAX_TITLE_LENGTH = 300;
     public static final int MIN_CONTENT_LENGTH = 30;
     public static final int MAX_CONTENT_LENGTH = 3000;
+    public static final int MAX_SEATS_PER_RESERVATION = 10;
+    public static final int MAX_CALENDAR_BUCKETS = 366;
+    public static final int MAX_EVENTS_PER_CALENDAR_BUCKET = 20;
 }
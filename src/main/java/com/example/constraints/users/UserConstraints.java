@@ -12,6 +12,12 @@ public class UserConstraints {
      */
     public static final String PASSWORD_REGEXP = "^(?=.*[A-Za-z])(?=.*\\d)[A-Za-z\\d]{8,}$";
 
+    /**
+     * Format of a stored password: algorithm, iterations, salt and hash,
+     * the last two Base64 encoded without padding.
+     */
+    public static final String ENCODED_PASSWORD_REGEXP = "^pbkdf2-sha256\\$\\d+\\$[A-Za-z0-9+/]+\\$[A-Za-z0-9+/]+$";
+
     /**
      * Email validation regular expression.
      */
@@ -31,4 +37,14 @@ public class UserConstraints {
      * Maximum length of the password.
      */
     public static final int PASSWORD_MAX_LENGTH = 25;
+
+    /**
+     * Maximum length of a stored password.
+     */
+    public static final int ENCODED_PASSWORD_MAX_LENGTH = 255;
+
+    /**
+     * Maximum number of rejected rows reported back by a bulk user import.
+     */
+    public static final int MAX_REPORTED_IMPORT_REJECTIONS = 100;
 }
@@ -12,7 +12,7 @@ import org.hibernate.proxy.HibernateProxy;
 import org.springframework.validation.annotation.Validated;
 
 import java.time.LocalDateTime;
-import java.util.LinkedHashSet;
+import java.util.EnumSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -54,21 +54,23 @@ public class Article {
 
     /**
      * Content of article.
+     * Loaded on first access only, which requires bytecode enhancement of the entity.
      */
-    @Column(name = "content", nullable = false)
+    @Basic(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
     @NotNull
     @NotBlank
     @Size(min = MIN_CONTENT_LENGTH, max = MAX_CONTENT_LENGTH)
     private String content;
 
     /**
-     * Collection of #tags related to the article.
+     * Collection of #tags related to the article, stored as a bitmask.
      */
     @Setter(AccessLevel.PRIVATE)
-    @ElementCollection(targetClass = ArticleTag.class)
-    @CollectionTable(name = "article_tags")
-    @Enumerated(EnumType.STRING)
-    private Set<ArticleTag> tags = new LinkedHashSet<>();
+    @Convert(converter = ArticleTagsConverter.class)
+    @Column(name = "tags_mask", nullable = false)
+    private Set<ArticleTag> tags = EnumSet.noneOf(ArticleTag.class);
 
     /**
      * Author of the article.
@@ -151,6 +153,8 @@ public class Article {
 
     /**
      * Enum representing the tags for web articles on a museum webpage.
+     * Tags are stored by ordinal, see {@link ArticleTagsConverter}, so new tags
+     * must only be appended.
      *
      * @author Evhen Malysh
      */
@@ -0,0 +1,112 @@
+package com.example.domain.museum;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.proxy.HibernateProxy;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * ArticleSummary is a denormalized, read-only list entry of an {@link Article}
+ * together with its author username. Rows are maintained by the article and
+ * author services whenever the data they are copied from changes.
+ *
+ * @author Evhen Malysh
+ */
+@Entity
+@Immutable
+@Table(name = "article_summaries", indexes = {
+        @Index(name = "idx_article_summary_author_id_created_at", columnList = "author_id, created_at DESC, id DESC"),
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@ToString
+public class ArticleSummary {
+
+    /**
+     * Unique identifier, same as of the summarized article.
+     */
+    @Id
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    /**
+     * Title string of article.
+     */
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    /**
+     * Collection of #tags related to the article, stored as a bitmask.
+     */
+    @Convert(converter = ArticleTagsConverter.class)
+    @Column(name = "tags_mask", nullable = false)
+    private Set<Article.ArticleTag> tags = EnumSet.noneOf(Article.ArticleTag.class);
+
+    /**
+     * ID of the article author.
+     */
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    /**
+     * Username of the article author.
+     */
+    @Column(name = "author_username")
+    private String authorUsername;
+
+    /**
+     * Timestamp of the article creation.
+     */
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Override
+    public final boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null) {
+            return false;
+        }
+        Class<?> oEffectiveClass;
+        if (o instanceof HibernateProxy hibernateProxy) {
+            oEffectiveClass = hibernateProxy
+                    .getHibernateLazyInitializer()
+                    .getPersistentClass();
+        } else {
+            oEffectiveClass = o.getClass();
+        }
+        Class<?> thisEffectiveClass;
+        if (this instanceof HibernateProxy hibernateProxy) {
+            thisEffectiveClass = hibernateProxy
+                    .getHibernateLazyInitializer()
+                    .getPersistentClass();
+        } else {
+            thisEffectiveClass = this.getClass();
+        }
+        if (thisEffectiveClass != oEffectiveClass) {
+            return false;
+        }
+        ArticleSummary summary = (ArticleSummary) o;
+        return getId() != null && Objects.equals(getId(), summary.getId());
+    }
+
+    @Override
+    public final int hashCode() {
+        if (this instanceof HibernateProxy hibernateProxy) {
+            return hibernateProxy
+                    .getHibernateLazyInitializer()
+                    .getPersistentClass()
+                    .hashCode();
+        }
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.domain.museum;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Stores a set of {@link Article.ArticleTag} as an integer bitmask,
+ * where the bit at the position of the tag ordinal is set for every tag of the set.
+ * New tags must therefore only be appended to the end of the enum.
+ *
+ * @author Evhen Malysh
+ */
+@Converter
+public class ArticleTagsConverter implements AttributeConverter<Set<Article.ArticleTag>, Integer> {
+
+    /**
+     * Encode tags as a bitmask.
+     *
+     * @param tags tags to encode, may be null.
+     * @return bitmask of the tags, 0 if there are none.
+     */
+    public static int toMask(final Collection<Article.ArticleTag> tags) {
+        var mask = 0;
+        if (tags != null) {
+            for (var tag : tags) {
+                mask |= 1 << tag.ordinal();
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Decode tags from a bitmask.
+     *
+     * @param mask bitmask of the tags.
+     * @return set of the tags whose bits are set.
+     */
+    public static Set<Article.ArticleTag> fromMask(final int mask) {
+        var tags = EnumSet.noneOf(Article.ArticleTag.class);
+        for (var tag : Article.ArticleTag.values()) {
+            if ((mask & 1 << tag.ordinal()) != 0) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(final Set<Article.ArticleTag> tags) {
+        return toMask(tags);
+    }
+
+    @Override
+    public Set<Article.ArticleTag> convertToEntityAttribute(final Integer mask) {
+        return fromMask(mask == null ? 0 : mask);
+    }
+}
@@ -34,9 +34,9 @@ import lombok.ToString;
 @Entity
 @Validated
 @Table(name = "authors",
-        indexes = {@Index(name = "idx_author_username", columnList = "username")},
         uniqueConstraints = {
-                @UniqueConstraint(name = "uc_author_user_id", columnNames = {"user_id"})
+                @UniqueConstraint(name = "uc_author_user_id", columnNames = {"user_id"}),
+                @UniqueConstraint(name = "uc_author_username", columnNames = {"username"})
         })
 @NoArgsConstructor
 @Getter
@@ -26,7 +26,7 @@ import static com.example.constraints.museum.EventConstraints.*;
 @Validated
 @Table(name = "events", indexes = {
         @Index(name = "idx_event_title", columnList = "title"),
-        @Index(name = "idx_event_timing", columnList = "timing")
+        @Index(name = "idx_event_timing_id", columnList = "timing, id")
 })
 @NoArgsConstructor
 @Getter
@@ -52,8 +52,11 @@ public class Event {
 
     /**
      * Content of event web-post.
+     * Loaded on first access only, which requires bytecode enhancement of the entity.
      */
-    @Column(name = "content", nullable = false)
+    @Basic(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
     @NotNull
     @NotBlank
     @Size(min = MIN_CONTENT_LENGTH, max = MAX_CONTENT_LENGTH)
@@ -200,6 +203,15 @@ public class Event {
         /**
          * Event has been archived and is no longer active.
          */
-        ARCHIVED
+        ARCHIVED;
+
+        /**
+         * Check whether seats of an event with this status can be reserved.
+         *
+         * @return true if the event is upcoming or ongoing and has seats left.
+         */
+        public boolean isBookable() {
+            return this == SCHEDULED || this == ACTIVE || this == TRANSFERRED;
+        }
     }
 }
@@ -0,0 +1,129 @@
+package com.example.domain.museum;
+
+import com.example.domain.users.User;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.proxy.HibernateProxy;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Reservation is domain model of seats booked by a user on an event.
+ *
+ * @author Evhen Malysh
+ */
+@Entity
+@Validated
+@Table(name = "reservations", indexes = {
+        @Index(name = "idx_reservation_event_id", columnList = "event_id"),
+        @Index(name = "idx_reservation_user_id", columnList = "user_id")
+})
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString
+public class Reservation {
+
+    /**
+     * Unique identifier.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    /**
+     * Event the seats are booked on.
+     */
+    @NotNull
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+
+    /**
+     * User the seats are booked for.
+     */
+    @NotNull
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    /**
+     * Number of booked seats.
+     */
+    @NotNull
+    @Positive
+    @Column(name = "seats", nullable = false)
+    private Integer seats;
+
+    /**
+     * Timestamp of record creation.
+     */
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    /**
+     * @param reservedEvent event the seats are booked on.
+     * @param reservingUser user the seats are booked for.
+     * @param reservedSeats number of booked seats.
+     */
+    public Reservation(final @NotNull Event reservedEvent,
+                       final @NotNull User reservingUser,
+                       final @NotNull @Positive Integer reservedSeats) {
+        this.event = reservedEvent;
+        this.user = reservingUser;
+        this.seats = reservedSeats;
+    }
+
+    @Override
+    public final boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null) {
+            return false;
+        }
+        Class<?> oEffectiveClass;
+        if (o instanceof HibernateProxy hibernateProxy) {
+            oEffectiveClass = hibernateProxy
+                    .getHibernateLazyInitializer()
+                    .getPersistentClass();
+        } else {
+            oEffectiveClass = o.getClass();
+        }
+        Class<?> thisEffectiveClass;
+        if (this instanceof HibernateProxy hibernateProxy) {
+            thisEffectiveClass = hibernateProxy
+                    .getHibernateLazyInitializer()
+                    .getPersistentClass();
+        } else {
+            thisEffectiveClass = this.getClass();
+        }
+        if (thisEffectiveClass != oEffectiveClass) {
+            return false;
+        }
+        Reservation reservation = (Reservation) o;
+        return getId() != null && Objects.equals(getId(), reservation.getId());
+    }
+
+    @Override
+    public final int hashCode() {
+        if (this instanceof HibernateProxy hibernateProxy) {
+            return hibernateProxy
+                    .getHibernateLazyInitializer()
+                    .getPersistentClass()
+                    .hashCode();
+        }
+        return getClass().hashCode();
+    }
+}
@@ -21,7 +21,10 @@ import static com.example.constraints.users.UserConstraints.*;
  * @author Evhen Malysh
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uc_user_email", columnNames = {"email"})
+        })
 @NoArgsConstructor
 @Getter
 @Setter
@@ -64,12 +67,13 @@ public class User {
     private String email;
 
     /**
-     * The password of the user.
+     * The hash of the password of the user.
      */
     @Column(name = "password", nullable = false)
     @NotNull
-    @Pattern(regexp = PASSWORD_REGEXP)
-    @Size(max = PASSWORD_MAX_LENGTH)
+    @Pattern(regexp = ENCODED_PASSWORD_REGEXP)
+    @Size(max = ENCODED_PASSWORD_MAX_LENGTH)
+    @ToString.Exclude
     private String password;
 
     /**
@@ -99,7 +103,7 @@ public class User {
             final @NotNull @NotBlank String firstName,
             final @NotNull @NotBlank String lastName,
             final @NotNull @Email String email,
-            final @NotNull @Pattern(regexp = PASSWORD_REGEXP) String password) {
+            final @NotNull @Pattern(regexp = ENCODED_PASSWORD_REGEXP) String password) {
         this.firstName = firstName;
         this.lastName = lastName;
         this.email = email;
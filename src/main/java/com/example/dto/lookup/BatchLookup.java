@@ -0,0 +1,54 @@
+package com.example.dto.lookup;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.validation.annotation.Validated;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Result of resolving a set of IDs in one call.
+ *
+ * @param found      records of the found IDs, in the order the IDs were requested.
+ * @param missingIds requested IDs without a record, in the order they were requested.
+ * @param <T>        type of the records.
+ * @author Evhen Malysh
+ */
+@Validated
+public record BatchLookup<T>(
+        @NotNull List<T> found,
+        @NotNull List<Long> missingIds
+) implements Serializable {
+
+    /**
+     * Match fetched rows to the requested IDs.
+     *
+     * @param ids     distinct requested IDs.
+     * @param rows    rows fetched for the IDs, in any order.
+     * @param idOfRow function returning the ID of a row.
+     * @param <T>     type of the records.
+     * @return lookup with the rows ordered as the IDs and the IDs without a row.
+     */
+    public static <T> BatchLookup<T> of(final List<Long> ids,
+                                        final Collection<T> rows,
+                                        final Function<T, Long> idOfRow) {
+        Map<Long, T> rowsById = rows.stream()
+                .collect(Collectors.toMap(idOfRow, Function.identity()));
+        var found = new ArrayList<T>(rowsById.size());
+        var missingIds = new ArrayList<Long>();
+        for (var id : ids) {
+            var row = rowsById.get(id);
+            if (row != null) {
+                found.add(row);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new BatchLookup<>(List.copyOf(found), List.copyOf(missingIds));
+    }
+}
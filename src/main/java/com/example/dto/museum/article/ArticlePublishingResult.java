@@ -0,0 +1,26 @@
+package com.example.dto.museum.article;
+
+import org.springframework.validation.annotation.Validated;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Outcome of a single {@link ArticlePublishingForm} of a bulk publishing request.
+ * Either the ID of the published article or the reasons the form was rejected is set.
+ */
+@Validated
+public record ArticlePublishingResult(
+        int index,
+        Long id,
+        List<String> errors
+) implements Serializable {
+
+    public static ArticlePublishingResult published(final int index, final Long id) {
+        return new ArticlePublishingResult(index, id, List.of());
+    }
+
+    public static ArticlePublishingResult rejected(final int index, final List<String> errors) {
+        return new ArticlePublishingResult(index, null, errors);
+    }
+}
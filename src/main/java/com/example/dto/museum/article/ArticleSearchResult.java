@@ -0,0 +1,27 @@
+package com.example.dto.museum.article;
+
+import com.example.domain.museum.Article;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.springframework.validation.annotation.Validated;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * DTO for {@link Article} found by full-text search.
+ */
+@Validated
+public record ArticleSearchResult(
+        @NotNull @Positive Long id,
+        @NotNull @NotBlank String title,
+        Set<Article.ArticleTag> tags,
+        @NotNull @Positive Long authorId,
+        @NotNull @NotBlank String authorUsername,
+        @NotNull LocalDateTime createdAt,
+        @NotNull Float rank,
+        @NotNull String headline
+) implements Serializable {
+}
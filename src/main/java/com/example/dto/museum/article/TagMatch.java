@@ -0,0 +1,19 @@
+package com.example.dto.museum.article;
+
+/**
+ * How articles are matched against the requested tags.
+ *
+ * @author Evhen Malysh
+ */
+public enum TagMatch {
+
+    /**
+     * Article has at least one of the requested tags.
+     */
+    ANY,
+
+    /**
+     * Article has every requested tag.
+     */
+    ALL
+}
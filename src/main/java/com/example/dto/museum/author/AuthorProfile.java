@@ -0,0 +1,29 @@
+package com.example.dto.museum.author;
+
+import com.example.domain.museum.Author;
+import com.example.dto.museum.article.ArticleWithoutContent;
+import com.example.dto.museum.event.EventWithoutContent;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.validation.annotation.Validated;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Profile page of an {@link Author}.
+ *
+ * @param author         the author.
+ * @param articleCount   number of articles of the author.
+ * @param latestArticles latest articles of the author, newest first.
+ * @param upcomingEvents earliest upcoming events of the author.
+ * @author Evhen Malysh
+ */
+@Validated
+public record AuthorProfile(
+        @NotNull AuthorShortResponse author,
+        @NotNull @PositiveOrZero Long articleCount,
+        @NotNull List<ArticleWithoutContent> latestArticles,
+        @NotNull List<EventWithoutContent> upcomingEvents
+) implements Serializable {
+}
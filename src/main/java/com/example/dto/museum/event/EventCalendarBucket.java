@@ -0,0 +1,29 @@
+package com.example.dto.museum.event;
+
+import com.example.domain.museum.Event;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.validation.annotation.Validated;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Events of one day, week or month of a calendar.
+ * The counts cover every event of the bucket, while only the first events
+ * by timing are listed, up to a fixed number per bucket.
+ */
+@Validated
+public record EventCalendarBucket(
+        @NotNull LocalDateTime start,
+        @PositiveOrZero long total,
+        @NotNull Map<Event.EventStatus, Long> countsByStatus,
+        @NotNull List<EventStub> events
+) implements Serializable {
+
+    public static EventCalendarBucket empty(final LocalDateTime start) {
+        return new EventCalendarBucket(start, 0, Map.of(), List.of());
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.dto.museum.event;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * Length of the buckets of an event calendar.
+ * Buckets start where PostgreSQL {@code date_trunc} puts them, weeks start on Monday.
+ *
+ * @author Evhen Malysh
+ */
+public enum EventCalendarPeriod {
+    DAY(ChronoUnit.DAYS, day -> day),
+    WEEK(ChronoUnit.WEEKS, TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)),
+    MONTH(ChronoUnit.MONTHS, TemporalAdjusters.firstDayOfMonth());
+
+    private final ChronoUnit step;
+    private final TemporalAdjuster firstDay;
+
+    EventCalendarPeriod(final ChronoUnit step, final TemporalAdjuster firstDay) {
+        this.step = step;
+        this.firstDay = firstDay;
+    }
+
+    /**
+     * Start of the bucket the given time falls into.
+     *
+     * @param timing time inside the bucket.
+     * @return start of the bucket.
+     */
+    public LocalDateTime start(final LocalDateTime timing) {
+        return timing.truncatedTo(ChronoUnit.DAYS).with(firstDay);
+    }
+
+    /**
+     * Start of the bucket following the bucket with the given start.
+     *
+     * @param start start of a bucket.
+     * @return start of the next bucket, which is the end of the given one.
+     */
+    public LocalDateTime next(final LocalDateTime start) {
+        return start.plus(1, step);
+    }
+
+    /**
+     * Name of the period as a {@code date_trunc} field.
+     *
+     * @return field name, e.g. "month".
+     */
+    public String field() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
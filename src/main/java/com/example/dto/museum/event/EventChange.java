@@ -0,0 +1,22 @@
+package com.example.dto.museum.event;
+
+import com.example.domain.museum.Event;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.validation.annotation.Validated;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Change of the status or of the free seats of an {@link Event}, published once it is committed.
+ */
+@Validated
+public record EventChange(
+        @NotNull @Positive Long eventId,
+        @NotNull Event.EventStatus status,
+        @PositiveOrZero Integer remainingSeats,
+        @NotNull LocalDateTime changedAt
+) implements Serializable {
+}
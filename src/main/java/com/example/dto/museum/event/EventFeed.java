@@ -0,0 +1,17 @@
+package com.example.dto.museum.event;
+
+import com.example.dto.versioning.ResourceVersion;
+
+import java.io.Serializable;
+
+/**
+ * Rendered iCalendar feed of events, with the version of the events it was rendered from.
+ *
+ * @param body    the feed, UTF-8 encoded.
+ * @param version number of events and their latest update, not known if the feed is empty.
+ */
+public record EventFeed(
+        byte[] body,
+        ResourceVersion version
+) implements Serializable {
+}
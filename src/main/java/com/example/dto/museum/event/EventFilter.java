@@ -0,0 +1,40 @@
+package com.example.dto.museum.event;
+
+import com.example.domain.museum.Event;
+import jakarta.validation.constraints.Positive;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.validation.annotation.Validated;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Criteria of an event search. Every criterion is optional, and the ones given are combined.
+ *
+ * @param statuses    statuses of the events, null or empty for events of any status.
+ * @param authorId    ID of the author of the events.
+ * @param minCapacity minimum capacity of the events, inclusive.
+ * @param maxCapacity maximum capacity of the events, inclusive.
+ * @param from        start of the time window of the events, inclusive.
+ * @param to          end of the time window of the events, exclusive.
+ * @author Evhen Malysh
+ */
+@Validated
+public record EventFilter(
+        Set<Event.EventStatus> statuses,
+        @Positive Long authorId,
+        @Positive Integer minCapacity,
+        @Positive Integer maxCapacity,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+) implements Serializable {
+
+    /**
+     * @return true if at least one criterion is given.
+     */
+    public boolean hasCriteria() {
+        return statuses != null && !statuses.isEmpty() || authorId != null || minCapacity != null
+                || maxCapacity != null || from != null || to != null;
+    }
+}
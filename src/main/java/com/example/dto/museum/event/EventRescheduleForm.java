@@ -0,0 +1,23 @@
+package com.example.dto.museum.event;
+
+import com.example.domain.museum.Event;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.validation.annotation.Validated;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * Request to shift the timing of all {@link Event}s matching a filter.
+ *
+ * @param filter criteria of the events to move.
+ * @param offset offset added to the timing of the events, negative to move them earlier.
+ * @author Evhen Malysh
+ */
+@Validated
+public record EventRescheduleForm(
+        @NotNull @Valid EventFilter filter,
+        @NotNull Duration offset
+) implements Serializable {
+}
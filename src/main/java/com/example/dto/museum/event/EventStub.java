@@ -0,0 +1,22 @@
+package com.example.dto.museum.event;
+
+import com.example.domain.museum.Event;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.springframework.validation.annotation.Validated;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Minimal DTO for {@link Event}, enough to place it on a calendar.
+ */
+@Validated
+public record EventStub(
+        @NotNull @Positive Long id,
+        @NotNull @NotBlank String title,
+        @NotNull LocalDateTime timing,
+        @NotNull Event.EventStatus status
+) implements Serializable {
+}
@@ -0,0 +1,29 @@
+package com.example.dto.museum.reservation;
+
+import com.example.domain.museum.Reservation;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.springframework.validation.annotation.Validated;
+
+import java.io.Serializable;
+
+import static com.example.constraints.museum.EventConstraints.MAX_SEATS_PER_RESERVATION;
+
+/**
+ * DTO for {@link Reservation}
+ */
+@Validated
+public record ReservationForm(
+
+        @NotNull
+        @Positive
+        Long userId,
+
+        @NotNull
+        @Positive
+        @Max(MAX_SEATS_PER_RESERVATION)
+        Integer seats
+
+) implements Serializable {
+}
@@ -0,0 +1,22 @@
+package com.example.dto.museum.reservation;
+
+import com.example.domain.museum.Reservation;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.springframework.validation.annotation.Validated;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for {@link Reservation}
+ */
+@Validated
+public record ReservationResponse(
+        @NotNull @Positive Long id,
+        @NotNull @Positive Long eventId,
+        @NotNull @Positive Long userId,
+        @NotNull @Positive Integer seats,
+        @NotNull LocalDateTime createdAt
+) implements Serializable {
+}
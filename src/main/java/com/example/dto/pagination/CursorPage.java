@@ -0,0 +1,43 @@
+package com.example.dto.pagination;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.validation.annotation.Validated;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset (cursor) paginated list.
+ *
+ * @param content    records of the page.
+ * @param nextCursor opaque cursor of the next page, or null if this page is the last one.
+ * @param <T>        type of the page records.
+ * @author Evhen Malysh
+ */
+@Validated
+public record CursorPage<T>(
+        @NotNull List<T> content,
+        String nextCursor
+) implements Serializable {
+
+    /**
+     * Build a page from rows fetched with a limit of {@code size + 1}.
+     * The extra row only signals that a next page exists and is not returned.
+     *
+     * @param rows           fetched rows, at most {@code size + 1}.
+     * @param size           requested page size.
+     * @param cursorOfRecord function returning the cursor that points after given record.
+     * @param <T>            type of the page records.
+     * @return page with at most {@code size} records.
+     */
+    public static <T> CursorPage<T> of(final List<T> rows,
+                                       final int size,
+                                       final Function<T, String> cursorOfRecord) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        var content = List.copyOf(rows.subList(0, size));
+        return new CursorPage<>(content, cursorOfRecord.apply(content.get(size - 1)));
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.dto.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Encoding and decoding of the opaque keyset pagination cursors.
+ *
+ * @author Evhen Malysh
+ */
+public class Cursors {
+    private Cursors() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * ID to start from when no cursor is given. All IDs are positive.
+     */
+    public static final long FIRST_ID = 0L;
+
+    private static final String INVALID_CURSOR = "Invalid cursor: %s";
+    private static final String KEY_SEPARATOR = "|";
+
+    /**
+     * Position after a record in an ordering by timestamp, then by ID.
+     *
+     * @param timing timestamp of the record.
+     * @param id     ID of the record.
+     */
+    public record TimingKey(LocalDateTime timing, long id) {
+    }
+
+    /**
+     * Encode a cursor pointing after the record with given ID.
+     *
+     * @param id ID of the last record of the page.
+     * @return opaque cursor.
+     */
+    public static String encodeId(final long id) {
+        return encode(Long.toString(id));
+    }
+
+    /**
+     * Decode the ID from a cursor created by {@link #encodeId(long)}.
+     *
+     * @param cursor opaque cursor, may be null or blank for the first page.
+     * @return ID to continue after.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    public static long decodeId(final String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST_ID;
+        }
+        try {
+            var id = Long.parseLong(decode(cursor));
+            if (id < FIRST_ID) {
+                throw new IllegalArgumentException(String.format(INVALID_CURSOR, cursor));
+            }
+            return id;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format(INVALID_CURSOR, cursor), e);
+        }
+    }
+
+    /**
+     * Encode a cursor pointing at the given offset of a ranked result list.
+     *
+     * @param offset number of results already returned.
+     * @return opaque cursor.
+     */
+    public static String encodeOffset(final long offset) {
+        return encodeId(offset);
+    }
+
+    /**
+     * Decode the offset from a cursor created by {@link #encodeOffset(long)}.
+     *
+     * @param cursor opaque cursor, may be null or blank for the first page.
+     * @return number of results to skip.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    public static long decodeOffset(final String cursor) {
+        return decodeId(cursor);
+    }
+
+    /**
+     * Encode a cursor pointing after the record with given timestamp and ID.
+     *
+     * @param timing timestamp of the last record of the page.
+     * @param id     ID of the last record of the page.
+     * @return opaque cursor.
+     */
+    public static String encodeTimingKey(final LocalDateTime timing, final long id) {
+        return encode(timing + KEY_SEPARATOR + id);
+    }
+
+    /**
+     * Decode the position from a cursor created by {@link #encodeTimingKey(LocalDateTime, long)}.
+     *
+     * @param cursor opaque cursor, may be null or blank for the first page.
+     * @param from   timestamp to start from when there is no cursor.
+     * @return TimingKey to continue after.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    public static TimingKey decodeTimingKey(final String cursor, final LocalDateTime from) {
+        if (cursor == null || cursor.isBlank()) {
+            return new TimingKey(from, FIRST_ID);
+        }
+        var value = decode(cursor);
+        var separator = value.lastIndexOf(KEY_SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException(String.format(INVALID_CURSOR, cursor));
+        }
+        try {
+            var timing = LocalDateTime.parse(value.substring(0, separator));
+            var id = Long.parseLong(value.substring(separator + 1));
+            if (id < FIRST_ID) {
+                throw new IllegalArgumentException(String.format(INVALID_CURSOR, cursor));
+            }
+            return new TimingKey(timing, id);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException(String.format(INVALID_CURSOR, cursor), e);
+        }
+    }
+
+    private static String encode(final String value) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(final String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format(INVALID_CURSOR, cursor), e);
+        }
+    }
+}
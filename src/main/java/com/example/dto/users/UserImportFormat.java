@@ -0,0 +1,20 @@
+package com.example.dto.users;
+
+/**
+ * Format of the users of a bulk import.
+ *
+ * @author Evhen Malysh
+ */
+public enum UserImportFormat {
+
+    /**
+     * Comma separated values with a header row naming the columns
+     * {@code first_name}, {@code last_name}, {@code email} and {@code password}.
+     */
+    CSV,
+
+    /**
+     * One {@link UserRegistrationForm} JSON object per line.
+     */
+    NDJSON
+}
@@ -0,0 +1,22 @@
+package com.example.dto.users;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import org.springframework.validation.annotation.Validated;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Row of a bulk user import that was not imported because it is invalid.
+ *
+ * @param row    number of the row, starting at 1 with the first data row.
+ * @param errors reasons the row was rejected.
+ * @author Evhen Malysh
+ */
+@Validated
+public record UserImportRejection(
+        @Positive long row,
+        @NotEmpty List<String> errors
+) implements Serializable {
+}
@@ -0,0 +1,28 @@
+package com.example.dto.users;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.validation.annotation.Validated;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Outcome of a bulk user import.
+ *
+ * @param received   number of rows read from the input.
+ * @param imported   number of users created.
+ * @param duplicates number of valid rows skipped because their email is taken
+ *                   by an existing user or by an earlier row of the input.
+ * @param rejected   number of invalid rows.
+ * @param rejections the first of the invalid rows with their errors.
+ * @author Evhen Malysh
+ */
+@Validated
+public record UserImportResult(
+        long received,
+        long imported,
+        long duplicates,
+        long rejected,
+        @NotNull List<UserImportRejection> rejections
+) implements Serializable {
+}
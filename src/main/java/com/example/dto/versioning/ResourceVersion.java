@@ -0,0 +1,48 @@
+package com.example.dto.versioning;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Version of a resource representation, used as validator of conditional requests.
+ * A single resource is versioned by its ID, a list by the number of its records;
+ * both together with the latest update timestamp of the data they are built from.
+ *
+ * @param key          ID of a single resource or number of records of a list.
+ * @param lastModified latest update timestamp, null if unknown.
+ * @author Evhen Malysh
+ */
+public record ResourceVersion(
+        Long key,
+        LocalDateTime lastModified
+) implements Serializable {
+
+    /**
+     * @return true if the version can be used as a validator.
+     */
+    public boolean isKnown() {
+        return key != null && lastModified != null;
+    }
+
+    /**
+     * @return strong entity tag of the version.
+     */
+    public String eTag() {
+        var micros = ChronoUnit.MICROS.between(Instant.EPOCH, toInstant());
+        return "\"" + key + "-" + Long.toHexString(micros) + "\"";
+    }
+
+    /**
+     * @return last modification time in milliseconds since the epoch.
+     */
+    public long lastModifiedMillis() {
+        return toInstant().toEpochMilli();
+    }
+
+    private Instant toInstant() {
+        return lastModified.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.repositories.museum;
+
+import com.example.dto.museum.article.ArticlePublishingForm;
+
+import java.util.List;
+
+/**
+ * Bulk write operations on articles that bypass the persistence context.
+ *
+ * @author Evhen Malysh
+ */
+public interface ArticleBulkRepository {
+
+    /**
+     * Insert new articles and their summaries using JDBC batches.
+     * The forms must be valid and refer to existing authors.
+     *
+     * @param forms forms of the articles to insert.
+     * @return IDs of the inserted articles, in the order of the forms.
+     */
+    List<Long> insertAll(List<ArticlePublishingForm> forms);
+}
@@ -0,0 +1,72 @@
+package com.example.repositories.museum;
+
+import com.example.domain.museum.ArticleTagsConverter;
+import com.example.dto.museum.article.ArticlePublishingForm;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * JDBC implementation of {@link ArticleBulkRepository}.
+ * IDs are allocated from the identity sequence up front in a single query,
+ * so the article rows can be sent as batches instead of one
+ * insert-and-return-key round trip per article.
+ *
+ * @author Evhen Malysh
+ */
+@RequiredArgsConstructor
+public class ArticleBulkRepositoryImpl implements ArticleBulkRepository {
+
+    /**
+     * Number of rows sent to the database per batch.
+     */
+    static final int BATCH_SIZE = 500;
+
+    private static final String NEXT_IDS = """
+            SELECT nextval(pg_get_serial_sequence('articles', 'id'))
+            FROM generate_series(1, ?)
+            """;
+
+    private static final String INSERT_ARTICLE = """
+            INSERT INTO articles (id, title, content, tags_mask, author_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_SUMMARIES = """
+            INSERT INTO article_summaries (id, title, tags_mask, author_id, author_username, created_at)
+            SELECT a.id, a.title, a.tags_mask, au.id, au.username, a.created_at
+            FROM articles a
+            JOIN authors au ON au.id = a.author_id
+            WHERE a.id = ANY (?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> insertAll(final List<ArticlePublishingForm> forms) {
+        if (forms.isEmpty()) {
+            return List.of();
+        }
+        var ids = jdbcTemplate.queryForList(NEXT_IDS, Long.class, forms.size());
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        var indexes = IntStream.range(0, forms.size()).boxed().toList();
+
+        jdbcTemplate.batchUpdate(INSERT_ARTICLE, indexes, BATCH_SIZE, (ps, i) -> {
+            var form = forms.get(i);
+            ps.setLong(1, ids.get(i));
+            ps.setString(2, form.title());
+            ps.setString(3, form.content());
+            ps.setInt(4, ArticleTagsConverter.toMask(form.tags()));
+            ps.setLong(5, form.authorId());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+        jdbcTemplate.update(INSERT_SUMMARIES, ps ->
+                ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())));
+        return ids;
+    }
+}
@@ -2,33 +2,49 @@ package com.example.repositories.museum;
 
 
 import com.example.domain.museum.Article;
+import com.example.domain.museum.ArticleTagsConverter;
+import com.example.dto.museum.article.ArticleSearchResult;
 import com.example.dto.museum.article.ArticleWithContent;
 import com.example.dto.museum.article.ArticleWithoutContent;
+import com.example.dto.versioning.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * @author Evhen Malysh
  */
-public interface ArticleRepository extends JpaRepository<Article, Long> {
+public interface ArticleRepository extends JpaRepository<Article, Long>, ArticleBulkRepository {
+
+    /**
+     * Number of rows fetched from the database cursor per round trip while streaming.
+     */
+    String STREAM_FETCH_SIZE = "500";
 
     record ArticleDbRowWithContent(
             Long id,
             String title,
             String content,
+            Set<Article.ArticleTag> tags,
             Long authorId,
             String authorUsername,
             LocalDateTime createdAt) {
 
-
+        ArticleWithContent toArticleWithContent() {
+            return new ArticleWithContent(id, title, content, tags, authorId, authorUsername, createdAt);
+        }
     }
     @Query("""
             SELECT new com.example.repositories.museum.ArticleRepository$ArticleDbRowWithContent
@@ -36,6 +52,7 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
                 a.id,
                 a.title,
                 a.content,
+                a.tags,
                 a.author.id,
                 a.author.username,
                 a.createdAt)
@@ -45,48 +62,60 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
             """)
     List<ArticleDbRowWithContent> loadAllArticlesDataWithContentByAuthorId(Long authorId);
 
-
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
     @Query("""
-            SELECT a.tags
+            SELECT new com.example.repositories.museum.ArticleRepository$ArticleDbRowWithContent
+            (
+                a.id,
+                a.title,
+                a.content,
+                a.tags,
+                a.author.id,
+                a.author.username,
+                a.createdAt)
             FROM Article a
-            WHERE a.id = ?1
+            ORDER BY a.id
             """)
-    Set<Article.ArticleTag> loadArticleTagsById(Long id);
+    Stream<ArticleDbRowWithContent> streamAllArticleDataWithContent();
 
     default List<ArticleWithContent> findAllWithBodyByAuthorId(Long authorId) {
-        var articlesData = loadAllArticlesDataWithContentByAuthorId(authorId);
-        var resultList = new ArrayList<ArticleWithContent>();
-
-        articlesData.forEach(a -> {
-            var tags = loadArticleTagsById(a.id);
-            var articleTagWithBody = new ArticleWithContent(
-                    a.id,
-                    a.title,
-                    a.content,
-                    tags,
-                    a.authorId,
-                    a.authorUsername,
-                    a.createdAt
-            );
-            resultList.add(articleTagWithBody);
-        });
-        return resultList;
+        return loadAllArticlesDataWithContentByAuthorId(authorId).stream()
+                .map(ArticleDbRowWithContent::toArticleWithContent)
+                .toList();
+    }
+
+    /**
+     * Pass all articles with content, ordered by ID, to the given action.
+     * Rows are read through a database cursor, so memory use does not depend
+     * on the number of articles. Must be called inside a transaction.
+     *
+     * @param action action to perform on each article.
+     */
+    default void forEachWithContent(Consumer<ArticleWithContent> action) {
+        try (var rows = streamAllArticleDataWithContent()) {
+            rows.map(ArticleDbRowWithContent::toArticleWithContent)
+                    .forEach(action);
+        }
     }
 
     record ArticleDbRowWithoutContent(
             Long id,
             String title,
+            Set<Article.ArticleTag> tags,
             Long authorId,
             String authorUsername,
             LocalDateTime createdAt) {
 
-
+        ArticleWithoutContent toArticleWithoutContent() {
+            return new ArticleWithoutContent(id, title, tags, authorId, authorUsername, createdAt);
+        }
     }
     @Query("""
             SELECT new com.example.repositories.museum.ArticleRepository$ArticleDbRowWithoutContent
             (
                 a.id,
                 a.title,
+                a.tags,
                 a.author.id,
                 a.author.username,
                 a.createdAt)
@@ -96,22 +125,102 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
     List<ArticleDbRowWithoutContent> loadAllArticleDataWithoutContent();
 
     default List<ArticleWithoutContent> findAllWithoutContent() {
-        var articlesData = loadAllArticleDataWithoutContent();
-        var resultList = new ArrayList<ArticleWithoutContent>();
-
-        articlesData.forEach(a -> {
-            var tags = loadArticleTagsById(a.id);
-            var articleTagWithoutBody = new ArticleWithoutContent(
-                    a.id,
-                    a.title,
-                    tags,
-                    a.authorId,
-                    a.authorUsername,
-                    a.createdAt
-            );
-            resultList.add(articleTagWithoutBody);
-        });
-        return resultList;
+        return loadAllArticleDataWithoutContent().stream()
+                .map(ArticleDbRowWithoutContent::toArticleWithoutContent)
+                .toList();
+    }
+
+    @Query("""
+            SELECT new com.example.repositories.museum.ArticleRepository$ArticleDbRowWithoutContent
+            (
+                a.id,
+                a.title,
+                a.tags,
+                a.author.id,
+                a.author.username,
+                a.createdAt)
+            FROM Article a
+            WHERE a.id IN :ids
+            """)
+    List<ArticleDbRowWithoutContent> loadArticleDataWithoutContentByIdIn(Collection<Long> ids);
+
+    /**
+     * Retrieve the articles with the given IDs, without their content.
+     *
+     * @param ids IDs of the articles.
+     * @return ArticleWithoutContent list of the found articles, in no particular order.
+     */
+    default List<ArticleWithoutContent> findAllWithoutContentByIdIn(Collection<Long> ids) {
+        return loadArticleDataWithoutContentByIdIn(ids).stream()
+                .map(ArticleDbRowWithoutContent::toArticleWithoutContent)
+                .toList();
+    }
+
+    interface ArticleSearchRow {
+        Long getId();
+
+        String getTitle();
+
+        Integer getTagsMask();
+
+        Long getAuthorId();
+
+        String getAuthorUsername();
+
+        LocalDateTime getCreatedAt();
+
+        Float getRank();
+
+        String getHeadline();
+    }
+
+    /**
+     * Rank the articles matching a web search style query against the indexed
+     * search vector. Only the rows of the requested page are joined back to
+     * read their content for the highlighted headline.
+     *
+     * @param query  web search style query, e.g. {@code "ancient pottery" -roman}.
+     * @param limit  maximum number of rows to return.
+     * @param offset number of best ranked rows to skip.
+     * @return rows ordered by rank, best match first.
+     */
+    @Query(nativeQuery = true, value = """
+            WITH ranked AS (
+                SELECT a.id, ts_rank_cd(a.search_vector, q) AS rank, q AS query
+                FROM articles a, websearch_to_tsquery('english', :query) q
+                WHERE a.search_vector @@ q
+                ORDER BY rank DESC, a.id
+                LIMIT :limit OFFSET :offset
+            )
+            SELECT
+                a.id AS id,
+                a.title AS title,
+                a.tags_mask AS tagsMask,
+                au.id AS authorId,
+                au.username AS authorUsername,
+                a.created_at AS createdAt,
+                r.rank AS rank,
+                ts_headline('english', a.content, r.query,
+                        'StartSel=<b>, StopSel=</b>, MaxFragments=2, MaxWords=30, MinWords=10') AS headline
+            FROM ranked r
+            JOIN articles a ON a.id = r.id
+            JOIN authors au ON au.id = a.author_id
+            ORDER BY r.rank DESC, a.id
+            """)
+    List<ArticleSearchRow> searchArticleData(String query, int limit, long offset);
+
+    default List<ArticleSearchResult> search(String query, int limit, long offset) {
+        return searchArticleData(query, limit, offset).stream()
+                .map(a -> new ArticleSearchResult(
+                        a.getId(),
+                        a.getTitle(),
+                        ArticleTagsConverter.fromMask(a.getTagsMask()),
+                        a.getAuthorId(),
+                        a.getAuthorUsername(),
+                        a.getCreatedAt(),
+                        a.getRank(),
+                        a.getHeadline()))
+                .toList();
     }
 
     @Query("""
@@ -120,6 +229,7 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
                 a.id,
                 a.title,
                 a.content,
+                a.tags,
                 a.author.id,
                 a.author.username,
                 a.createdAt)
@@ -130,22 +240,61 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
     Optional<ArticleDbRowWithContent> loadArticleDataWithContentById(Long id);
 
     default Optional<ArticleWithContent> findArticleWithContentById(Long id) {
-        var article = loadArticleDataWithContentById(id);
-        var tags = loadArticleTagsById(id);
+        return loadArticleDataWithContentById(id)
+                .map(ArticleDbRowWithContent::toArticleWithContent);
+    }
 
-        return article.map(a -> new ArticleWithContent(
-                a.id,
-                a.title,
-                a.content,
-                tags,
-                a.authorId,
-                a.authorUsername,
-                a.createdAt
-        ));
+    @Query("""
+            SELECT new com.example.dto.versioning.ResourceVersion(count(a), max(greatest(a.updatedAt, a.author.updatedAt)))
+            FROM Article a
+            """)
+    ResourceVersion loadVersion();
+
+    /**
+     * Version of the article list, computed from the number of articles and their latest update.
+     *
+     * @return ResourceVersion of the list, empty if there are no articles.
+     */
+    default Optional<ResourceVersion> findVersion() {
+        return Optional.of(loadVersion()).filter(ResourceVersion::isKnown);
+    }
+
+    @Query("""
+            SELECT new com.example.dto.versioning.ResourceVersion(a.id, greatest(a.updatedAt, a.author.updatedAt))
+            FROM Article a
+            WHERE a.id = :id
+            """)
+    Optional<ResourceVersion> loadVersionById(Long id);
+
+    /**
+     * Version of the article with given ID, computed from its ID and latest update.
+     *
+     * @param id ID of the article.
+     * @return ResourceVersion of the article, empty if it is not found.
+     */
+    default Optional<ResourceVersion> findVersionById(Long id) {
+        return loadVersionById(id).filter(ResourceVersion::isKnown);
+    }
+
+    @Query("""
+            SELECT new com.example.dto.versioning.ResourceVersion(count(a), max(greatest(a.updatedAt, a.author.updatedAt)))
+            FROM Article a
+            WHERE a.author.id = :authorId
+            """)
+    ResourceVersion loadVersionByAuthorId(Long authorId);
+
+    /**
+     * Version of the list of articles by given author.
+     *
+     * @param authorId ID of the author.
+     * @return ResourceVersion of the list, empty if the author has no articles.
+     */
+    default Optional<ResourceVersion> findVersionByAuthorId(Long authorId) {
+        return Optional.of(loadVersionByAuthorId(authorId)).filter(ResourceVersion::isKnown);
     }
 
     @Transactional
     @Modifying
-    @Query("update Article a set a.title = :title, a.content = :content where a.id = :id")
+    @Query("update Article a set a.title = :title, a.content = :content, a.updatedAt = local datetime where a.id = :id")
     void updateTitleAndBodyById(String title, String content, Long id);
 }
@@ -0,0 +1,191 @@
+package com.example.repositories.museum;
+
+import com.example.domain.museum.Article;
+import com.example.domain.museum.ArticleSummary;
+import com.example.domain.museum.ArticleTagsConverter;
+import com.example.dto.museum.article.ArticleWithoutContent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read model of article list entries. Every query reads the single
+ * {@code article_summaries} table, the rows of which are kept in sync
+ * with articles and authors by the refresh methods.
+ *
+ * @author Evhen Malysh
+ */
+public interface ArticleSummaryRepository extends JpaRepository<ArticleSummary, Long> {
+
+    @Query("""
+            SELECT new com.example.dto.museum.article.ArticleWithoutContent
+            (
+                s.id,
+                s.title,
+                s.tags,
+                s.authorId,
+                s.authorUsername,
+                s.createdAt)
+            FROM ArticleSummary s
+            ORDER BY s.id
+            """)
+    List<ArticleWithoutContent> findAllWithoutContent();
+
+    @Query("""
+            SELECT new com.example.dto.museum.article.ArticleWithoutContent
+            (
+                s.id,
+                s.title,
+                s.tags,
+                s.authorId,
+                s.authorUsername,
+                s.createdAt)
+            FROM ArticleSummary s
+            WHERE s.id > :afterId
+            ORDER BY s.id
+            """)
+    List<ArticleWithoutContent> loadSummariesAfterId(Long afterId, Pageable pageable);
+
+    /**
+     * Find a page of articles ordered by ID, starting after the given ID.
+     *
+     * @param afterId ID of the last article of the previous page.
+     * @param limit   maximum number of articles to return.
+     * @return ArticleWithoutContent list of at most {@code limit} articles.
+     */
+    default List<ArticleWithoutContent> findPageWithoutContent(Long afterId, int limit) {
+        return loadSummariesAfterId(afterId, Pageable.ofSize(limit));
+    }
+
+    interface ArticleSummaryRow {
+        Long getId();
+
+        String getTitle();
+
+        Integer getTagsMask();
+
+        Long getAuthorId();
+
+        String getAuthorUsername();
+
+        LocalDateTime getCreatedAt();
+
+        default ArticleWithoutContent toArticleWithoutContent() {
+            return new ArticleWithoutContent(
+                    getId(),
+                    getTitle(),
+                    ArticleTagsConverter.fromMask(getTagsMask()),
+                    getAuthorId(),
+                    getAuthorUsername(),
+                    getCreatedAt());
+        }
+    }
+
+    @Query(nativeQuery = true, value = """
+            SELECT
+                s.id AS id,
+                s.title AS title,
+                s.tags_mask AS tagsMask,
+                s.author_id AS authorId,
+                s.author_username AS authorUsername,
+                s.created_at AS createdAt
+            FROM article_summaries s
+            WHERE s.id > :afterId
+              AND (s.tags_mask & :mask) <> 0
+            ORDER BY s.id
+            LIMIT :limit
+            """)
+    List<ArticleSummaryRow> loadSummariesHavingAnyTagAfterId(int mask, Long afterId, int limit);
+
+    @Query(nativeQuery = true, value = """
+            SELECT
+                s.id AS id,
+                s.title AS title,
+                s.tags_mask AS tagsMask,
+                s.author_id AS authorId,
+                s.author_username AS authorUsername,
+                s.created_at AS createdAt
+            FROM article_summaries s
+            WHERE s.id > :afterId
+              AND (s.tags_mask & :mask) = :mask
+            ORDER BY s.id
+            LIMIT :limit
+            """)
+    List<ArticleSummaryRow> loadSummariesHavingAllTagsAfterId(int mask, Long afterId, int limit);
+
+    /**
+     * Find a page of articles having at least one of the given tags, ordered by ID.
+     * The tags are matched by a bitwise predicate on the tags bitmask column.
+     *
+     * @param tags    tags to match.
+     * @param afterId ID of the last article of the previous page.
+     * @param limit   maximum number of articles to return.
+     * @return ArticleWithoutContent list of at most {@code limit} articles.
+     */
+    default List<ArticleWithoutContent> findPageHavingAnyTag(Collection<Article.ArticleTag> tags,
+                                                             Long afterId,
+                                                             int limit) {
+        return loadSummariesHavingAnyTagAfterId(ArticleTagsConverter.toMask(tags), afterId, limit).stream()
+                .map(ArticleSummaryRow::toArticleWithoutContent)
+                .toList();
+    }
+
+    /**
+     * Find a page of articles having all the given tags, ordered by ID.
+     * The tags are matched by a bitwise predicate on the tags bitmask column.
+     *
+     * @param tags    tags to match.
+     * @param afterId ID of the last article of the previous page.
+     * @param limit   maximum number of articles to return.
+     * @return ArticleWithoutContent list of at most {@code limit} articles.
+     */
+    default List<ArticleWithoutContent> findPageHavingAllTags(Collection<Article.ArticleTag> tags,
+                                                              Long afterId,
+                                                              int limit) {
+        return loadSummariesHavingAllTagsAfterId(ArticleTagsConverter.toMask(tags), afterId, limit).stream()
+                .map(ArticleSummaryRow::toArticleWithoutContent)
+                .toList();
+    }
+
+    /**
+     * Copy the current state of the article with given ID and its author into the summary.
+     * Pending changes are flushed first, so the article may be saved in the same transaction.
+     *
+     * @param id ID of the article.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(nativeQuery = true, value = """
+            INSERT INTO article_summaries (id, title, tags_mask, author_id, author_username, created_at)
+            SELECT a.id, a.title, a.tags_mask, au.id, au.username, a.created_at
+            FROM articles a
+            JOIN authors au ON au.id = a.author_id
+            WHERE a.id = :id
+            ON CONFLICT (id) DO UPDATE SET
+                title = excluded.title,
+                tags_mask = excluded.tags_mask,
+                author_id = excluded.author_id,
+                author_username = excluded.author_username,
+                created_at = excluded.created_at
+            """)
+    void refreshById(Long id);
+
+    /**
+     * Copy the current username of the author with given ID into the summaries of their articles.
+     *
+     * @param authorId ID of the author.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(nativeQuery = true, value = """
+            UPDATE article_summaries s
+            SET author_username = au.username
+            FROM authors au
+            WHERE au.id = :authorId
+              AND s.author_id = au.id
+            """)
+    void refreshAuthorUsername(Long authorId);
+}
@@ -0,0 +1,32 @@
+package com.example.repositories.museum;
+
+import com.example.domain.museum.Event;
+import com.example.dto.museum.author.AuthorProfile;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Profile of an author, read with a single statement.
+ *
+ * @author Evhen Malysh
+ */
+public interface AuthorProfileRepository {
+
+    /**
+     * Find the profile of the author with given ID.
+     *
+     * @param id             ID of the author.
+     * @param now            events taking place after this time are upcoming.
+     * @param eventStatuses  statuses of the listed upcoming events.
+     * @param latestArticles maximum number of the latest articles.
+     * @param upcomingEvents maximum number of the upcoming events.
+     * @return AuthorProfile, empty if the author is not found.
+     */
+    Optional<AuthorProfile> findProfileById(Long id,
+                                            LocalDateTime now,
+                                            Collection<Event.EventStatus> eventStatuses,
+                                            int latestArticles,
+                                            int upcomingEvents);
+}
@@ -0,0 +1,134 @@
+package com.example.repositories.museum;
+
+import com.example.domain.museum.ArticleTagsConverter;
+import com.example.domain.museum.Event;
+import com.example.dto.museum.article.ArticleWithoutContent;
+import com.example.dto.museum.author.AuthorProfile;
+import com.example.dto.museum.author.AuthorShortResponse;
+import com.example.dto.museum.event.EventWithoutContent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC implementation of {@link AuthorProfileRepository}.
+ * The author, the count of their articles, their latest articles and their upcoming events
+ * are read by one statement returning a single row. The articles and events are aggregated
+ * into parallel arrays, one per column, by lateral subqueries bounded by their limits,
+ * which read the (author_id, created_at) and (author_id, timing) indexes in order.
+ *
+ * @author Evhen Malysh
+ */
+@RequiredArgsConstructor
+public class AuthorProfileRepositoryImpl implements AuthorProfileRepository {
+
+    private static final String SELECT_PROFILE = """
+            SELECT au.id, au.username, u.first_name, u.last_name,
+                   (SELECT count(*) FROM article_summaries s WHERE s.author_id = au.id),
+                   la.ids, la.titles, la.tags_masks, la.created_ats,
+                   ue.ids, ue.titles, ue.timings, ue.capacities, ue.statuses
+            FROM authors au
+            JOIN users u ON u.id = au.user_id
+            CROSS JOIN LATERAL (
+                SELECT array_agg(s.id ORDER BY s.created_at DESC, s.id DESC) AS ids,
+                       array_agg(s.title ORDER BY s.created_at DESC, s.id DESC) AS titles,
+                       array_agg(s.tags_mask ORDER BY s.created_at DESC, s.id DESC) AS tags_masks,
+                       array_agg(s.created_at ORDER BY s.created_at DESC, s.id DESC) AS created_ats
+                FROM (
+                    SELECT s.id, s.title, s.tags_mask, s.created_at
+                    FROM article_summaries s
+                    WHERE s.author_id = au.id
+                    ORDER BY s.created_at DESC, s.id DESC
+                    LIMIT ?
+                ) s
+            ) la
+            CROSS JOIN LATERAL (
+                SELECT array_agg(e.id ORDER BY e.timing, e.id) AS ids,
+                       array_agg(e.title ORDER BY e.timing, e.id) AS titles,
+                       array_agg(e.timing ORDER BY e.timing, e.id) AS timings,
+                       array_agg(e.capacity ORDER BY e.timing, e.id) AS capacities,
+                       array_agg(e.status ORDER BY e.timing, e.id) AS statuses
+                FROM (
+                    SELECT e.id, e.title, e.timing, e.capacity, e.status
+                    FROM events e
+                    WHERE e.author_id = au.id
+                      AND e.timing > ?
+                      AND e.status = ANY (?)
+                    ORDER BY e.timing, e.id
+                    LIMIT ?
+                ) e
+            ) ue
+            WHERE au.id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<AuthorProfile> findProfileById(final Long id,
+                                                   final LocalDateTime now,
+                                                   final Collection<Event.EventStatus> eventStatuses,
+                                                   final int latestArticles,
+                                                   final int upcomingEvents) {
+        var statuses = eventStatuses.stream().map(Event.EventStatus::name).toArray(String[]::new);
+        return jdbcTemplate.query(SELECT_PROFILE,
+                        ps -> {
+                            ps.setInt(1, latestArticles);
+                            ps.setTimestamp(2, Timestamp.valueOf(now));
+                            ps.setArray(3, ps.getConnection().createArrayOf("varchar", statuses));
+                            ps.setInt(4, upcomingEvents);
+                            ps.setLong(5, id);
+                        },
+                        (rs, rowNum) -> {
+                            var author = new AuthorShortResponse(rs.getLong(1), rs.getString(2),
+                                    rs.getString(3), rs.getString(4));
+                            var articleIds = elements(rs.getArray(6), Long.class);
+                            var articleTitles = elements(rs.getArray(7), String.class);
+                            var articleTagsMasks = elements(rs.getArray(8), Integer.class);
+                            var articleCreatedAts = elements(rs.getArray(9), Timestamp.class);
+                            var articles = new ArrayList<ArticleWithoutContent>(articleIds.size());
+                            for (var i = 0; i < articleIds.size(); i++) {
+                                articles.add(new ArticleWithoutContent(articleIds.get(i), articleTitles.get(i),
+                                        ArticleTagsConverter.fromMask(articleTagsMasks.get(i)),
+                                        author.id(), author.username(), toLocalDateTime(articleCreatedAts.get(i))));
+                            }
+                            var eventIds = elements(rs.getArray(10), Long.class);
+                            var eventTitles = elements(rs.getArray(11), String.class);
+                            var eventTimings = elements(rs.getArray(12), Timestamp.class);
+                            var eventCapacities = elements(rs.getArray(13), Integer.class);
+                            var eventStatusNames = elements(rs.getArray(14), String.class);
+                            var events = new ArrayList<EventWithoutContent>(eventIds.size());
+                            for (var i = 0; i < eventIds.size(); i++) {
+                                events.add(new EventWithoutContent(eventIds.get(i), eventTitles.get(i),
+                                        eventTimings.get(i).toLocalDateTime(), eventCapacities.get(i),
+                                        Event.EventStatus.valueOf(eventStatusNames.get(i)),
+                                        author.id(), author.username()));
+                            }
+                            return new AuthorProfile(author, rs.getLong(5), List.copyOf(articles), List.copyOf(events));
+                        })
+                .stream()
+                .findFirst();
+    }
+
+    private static <T> List<T> elements(final Array array, final Class<T> type) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        var elements = new ArrayList<T>();
+        for (var element : (Object[]) array.getArray()) {
+            elements.add(type.cast(element));
+        }
+        return elements;
+    }
+
+    private static LocalDateTime toLocalDateTime(final Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -3,18 +3,26 @@ package com.example.repositories.museum;
 
 import com.example.domain.museum.Author;
 import com.example.dto.museum.author.AuthorShortResponse;
+import com.example.dto.versioning.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * @author Evhen Malysh
  */
-public interface AuthorRepository extends JpaRepository<Author, Long> {
+public interface AuthorRepository extends JpaRepository<Author, Long>, AuthorProfileRepository {
 
     /**
      * Retrieve all authors.
@@ -33,6 +41,27 @@ public interface AuthorRepository extends JpaRepository<Author, Long> {
             """)
     List<AuthorShortResponse> findAllAuthors();
 
+    /**
+     * Retrieve a page of authors ordered by ID, starting after the given ID.
+     *
+     * @param afterId  ID of the last author of the previous page.
+     * @param pageable page request limiting the number of authors.
+     * @return AuthorShortResponse list of the page.
+     */
+    @Query("""
+            SELECT new com.example.dto.museum.author.AuthorShortResponse
+            (
+                a.id,
+                a.username,
+                a.user.firstName,
+                a.user.lastName
+            )
+            FROM Author a
+            WHERE a.id > :afterId
+            ORDER BY a.id
+            """)
+    List<AuthorShortResponse> findAuthorsAfterId(Long afterId, Pageable pageable);
+
     /**
      * Retrieve an author by ID.
      *
@@ -52,6 +81,57 @@ public interface AuthorRepository extends JpaRepository<Author, Long> {
             """)
     Optional<AuthorShortResponse> findAuthorById(Long id);
 
+    /**
+     * Retrieve the authors with the given IDs.
+     *
+     * @param ids IDs of the authors.
+     * @return AuthorShortResponse list of the found authors, in no particular order.
+     */
+    @Query("""
+            SELECT new com.example.dto.museum.author.AuthorShortResponse
+            (
+                a.id,
+                a.username,
+                a.user.firstName,
+                a.user.lastName
+            )
+            FROM Author a
+            WHERE a.id IN :ids
+            """)
+    List<AuthorShortResponse> findAuthorsByIdIn(Collection<Long> ids);
+
+    @Query("""
+            SELECT new com.example.dto.versioning.ResourceVersion(count(a), max(greatest(a.updatedAt, a.user.updatedAt)))
+            FROM Author a
+            """)
+    ResourceVersion loadVersion();
+
+    /**
+     * Version of the author list, computed from the number of authors and their latest update.
+     *
+     * @return ResourceVersion of the list, empty if there are no authors.
+     */
+    default Optional<ResourceVersion> findVersion() {
+        return Optional.of(loadVersion()).filter(ResourceVersion::isKnown);
+    }
+
+    @Query("""
+            SELECT new com.example.dto.versioning.ResourceVersion(a.id, greatest(a.updatedAt, a.user.updatedAt))
+            FROM Author a
+            WHERE a.id = :id
+            """)
+    Optional<ResourceVersion> loadVersionById(Long id);
+
+    /**
+     * Version of the author with given ID, computed from its ID and latest update.
+     *
+     * @param id ID of the author.
+     * @return ResourceVersion of the author, empty if it is not found.
+     */
+    default Optional<ResourceVersion> findVersionById(Long id) {
+        return loadVersionById(id).filter(ResourceVersion::isKnown);
+    }
+
     /**
      * Update username of the user with given ID.
      *
@@ -60,7 +140,7 @@ public interface AuthorRepository extends JpaRepository<Author, Long> {
      */
     @Transactional
     @Modifying
-    @Query("update Author a set a.username = ?1 where a.id = ?2")
+    @Query("update Author a set a.username = ?1, a.updatedAt = local datetime where a.id = ?2")
     void updateUsernameById(String username, Long id);
 
     /**
@@ -70,4 +150,48 @@ public interface AuthorRepository extends JpaRepository<Author, Long> {
      * @return true if user with the given username is existing or false if not.
      */
     boolean existsByUsername(String username);
+
+    /**
+     * Check if an author other than the one with given ID has the given username.
+     *
+     * @param username username of the author.
+     * @param id       ID of the author to leave out.
+     * @return true if another author has the username.
+     */
+    boolean existsByUsernameAndIdNot(String username, Long id);
+
+    /**
+     * Check whether the user with given ID already has an author.
+     *
+     * @param userId ID of the user.
+     * @return true if an author of the user exists.
+     */
+    boolean existsByUserId(Long userId);
+
+    /**
+     * Stream the usernames of all authors. Must be called inside a transaction.
+     *
+     * @return Stream of the usernames.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ArticleRepository.STREAM_FETCH_SIZE))
+    @Query("SELECT a.username FROM Author a WHERE a.username IS NOT NULL")
+    Stream<String> streamAllUsernames();
+
+    /**
+     * Stream the IDs of the users having an author. Must be called inside a transaction.
+     *
+     * @return Stream of the user IDs.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ArticleRepository.STREAM_FETCH_SIZE))
+    @Query("SELECT a.user.id FROM Author a")
+    Stream<Long> streamAllUserIds();
+
+    /**
+     * Retrieve those of the given IDs that belong to existing authors.
+     *
+     * @param ids IDs to check.
+     * @return set of the IDs of existing authors.
+     */
+    @Query("SELECT a.id FROM Author a WHERE a.id IN :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
 }
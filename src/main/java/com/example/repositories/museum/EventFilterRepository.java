@@ -0,0 +1,51 @@
+package com.example.repositories.museum;
+
+import com.example.dto.museum.event.EventChange;
+import com.example.dto.museum.event.EventFilter;
+import com.example.dto.museum.event.EventWithoutContent;
+import com.example.dto.pagination.Cursors;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Search and bulk changes of events by any combination of criteria.
+ *
+ * @author Evhen Malysh
+ */
+public interface EventFilterRepository {
+
+    /**
+     * Find a page of the events matching the filter, ordered by timing, then by ID.
+     * Only the criteria given by the filter are added to the query.
+     *
+     * @param filter criteria of the events.
+     * @param after  position of the last event of the previous page, or null for the first page.
+     * @param limit  maximum number of events to return.
+     * @return EventWithoutContent list of at most {@code limit} events.
+     */
+    List<EventWithoutContent> findFiltered(EventFilter filter, Cursors.TimingKey after, int limit);
+
+    /**
+     * Shift the timing of the events matching the filter with a single statement.
+     * Canceled and archived events are left unchanged, and so are the events the offset
+     * would move into the past. Moved events become TRANSFERRED, or stay FULL if no seats are left.
+     *
+     * @param filter criteria of the events.
+     * @param offset offset added to the timing of the events.
+     * @param now    current time, used as update timestamp.
+     * @return EventChange list of the moved events.
+     */
+    List<EventChange> rescheduleFiltered(EventFilter filter, Duration offset, LocalDateTime now);
+
+    /**
+     * Cancel the events matching the filter with a single statement.
+     * Canceled and archived events are left unchanged.
+     *
+     * @param filter criteria of the events.
+     * @param now    current time, used as update timestamp.
+     * @return EventChange list of the canceled events.
+     */
+    List<EventChange> cancelFiltered(EventFilter filter, LocalDateTime now);
+}
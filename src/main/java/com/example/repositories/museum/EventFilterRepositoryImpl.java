@@ -0,0 +1,166 @@
+package com.example.repositories.museum;
+
+import com.example.domain.museum.Event;
+import com.example.dto.museum.event.EventChange;
+import com.example.dto.museum.event.EventFilter;
+import com.example.dto.museum.event.EventWithoutContent;
+import com.example.dto.pagination.Cursors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JDBC implementation of {@link EventFilterRepository}.
+ * The WHERE clause holds a predicate for each criterion given, so the planner
+ * can pick the (status, timing, id) or (author_id, timing, id) index that fits
+ * the combination, and read the events in page order from it.
+ * Bulk changes are single UPDATE statements over the same predicates.
+ *
+ * @author Evhen Malysh
+ */
+@RequiredArgsConstructor
+public class EventFilterRepositoryImpl implements EventFilterRepository {
+
+    private static final String SELECT_EVENTS = """
+            SELECT e.id, e.title, e.timing, e.capacity, e.status, a.id, a.username
+            FROM events e
+            JOIN authors a ON a.id = e.author_id
+            WHERE TRUE
+            """;
+
+    private static final String ORDER_AND_LIMIT = """
+            ORDER BY e.timing, e.id
+            LIMIT ?
+            """;
+
+    private static final String RESCHEDULE_EVENTS = """
+            UPDATE events e
+            SET timing = e.timing + ? * INTERVAL '1 microsecond',
+                status = CASE WHEN e.reserved_seats = e.capacity THEN 'FULL' ELSE 'TRANSFERRED' END,
+                updated_at = ?
+            WHERE e.timing + ? * INTERVAL '1 microsecond' > ?
+            """;
+
+    private static final String CANCEL_EVENTS = """
+            UPDATE events e
+            SET status = 'CANCELED',
+                updated_at = ?
+            WHERE TRUE
+            """;
+
+    private static final String RETURNING_CHANGES = """
+            RETURNING e.id, e.status, e.capacity - e.reserved_seats
+            """;
+
+    private static final Set<Event.EventStatus> CHANGEABLE_STATUSES = Set.of(
+            Event.EventStatus.SCHEDULED, Event.EventStatus.ACTIVE,
+            Event.EventStatus.FULL, Event.EventStatus.TRANSFERRED);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<EventWithoutContent> findFiltered(final EventFilter filter,
+                                                  final Cursors.TimingKey after,
+                                                  final int limit) {
+        var sql = new StringBuilder(SELECT_EVENTS);
+        var args = new ArrayList<>();
+        appendCriteria(sql, args, filter);
+        if (after != null) {
+            sql.append("  AND (e.timing, e.id) > (?, ?)\n");
+            args.add(Timestamp.valueOf(after.timing()));
+            args.add(after.id());
+        }
+        sql.append(ORDER_AND_LIMIT);
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new EventWithoutContent(
+                        rs.getLong(1),
+                        rs.getString(2),
+                        rs.getTimestamp(3).toLocalDateTime(),
+                        rs.getInt(4),
+                        Event.EventStatus.valueOf(rs.getString(5)),
+                        rs.getLong(6),
+                        rs.getString(7)),
+                args.toArray());
+    }
+
+    @Override
+    public List<EventChange> rescheduleFiltered(final EventFilter filter,
+                                                final Duration offset,
+                                                final LocalDateTime now) {
+        var sql = new StringBuilder(RESCHEDULE_EVENTS);
+        var args = new ArrayList<>();
+        var micros = offset.dividedBy(ChronoUnit.MICROS.getDuration());
+        args.add(micros);
+        args.add(Timestamp.valueOf(now));
+        args.add(micros);
+        args.add(Timestamp.valueOf(now));
+        return update(sql, args, filter, now);
+    }
+
+    @Override
+    public List<EventChange> cancelFiltered(final EventFilter filter, final LocalDateTime now) {
+        var sql = new StringBuilder(CANCEL_EVENTS);
+        var args = new ArrayList<>();
+        args.add(Timestamp.valueOf(now));
+        return update(sql, args, filter, now);
+    }
+
+    private List<EventChange> update(final StringBuilder sql,
+                                     final List<Object> args,
+                                     final EventFilter filter,
+                                     final LocalDateTime now) {
+        appendStatuses(sql, args, CHANGEABLE_STATUSES);
+        appendCriteria(sql, args, filter);
+        sql.append(RETURNING_CHANGES);
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new EventChange(rs.getLong(1), Event.EventStatus.valueOf(rs.getString(2)),
+                        rs.getInt(3), now),
+                args.toArray());
+    }
+
+    private static void appendCriteria(final StringBuilder sql, final List<Object> args, final EventFilter filter) {
+        if (filter.statuses() != null && !filter.statuses().isEmpty()) {
+            appendStatuses(sql, args, filter.statuses());
+        }
+        if (filter.authorId() != null) {
+            sql.append("  AND e.author_id = ?\n");
+            args.add(filter.authorId());
+        }
+        if (filter.minCapacity() != null) {
+            sql.append("  AND e.capacity >= ?\n");
+            args.add(filter.minCapacity());
+        }
+        if (filter.maxCapacity() != null) {
+            sql.append("  AND e.capacity <= ?\n");
+            args.add(filter.maxCapacity());
+        }
+        if (filter.from() != null) {
+            sql.append("  AND e.timing >= ?\n");
+            args.add(Timestamp.valueOf(filter.from()));
+        }
+        if (filter.to() != null) {
+            sql.append("  AND e.timing < ?\n");
+            args.add(Timestamp.valueOf(filter.to()));
+        }
+    }
+
+    private static void appendStatuses(final StringBuilder sql,
+                                       final List<Object> args,
+                                       final Set<Event.EventStatus> statuses) {
+        sql.append("  AND e.status IN (")
+                .append(String.join(", ", Collections.nCopies(statuses.size(), "?")))
+                .append(")\n");
+        statuses.stream().map(Event.EventStatus::name).sorted().forEach(args::add);
+    }
+}
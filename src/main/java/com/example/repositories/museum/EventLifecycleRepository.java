@@ -0,0 +1,49 @@
+package com.example.repositories.museum;
+
+import com.example.dto.museum.event.EventChange;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Set-based status transitions of events, driven by their timing.
+ *
+ * @author Evhen Malysh
+ */
+public interface EventLifecycleRepository {
+
+    /**
+     * Outcome of a status transition.
+     *
+     * @param changes      changes of the events moved to the new status.
+     * @param oldestTiming timing of the longest overdue moved event, null if none was moved.
+     */
+    record StatusTransition(List<EventChange> changes, LocalDateTime oldestTiming) {
+
+        /**
+         * Number of events moved to the new status.
+         *
+         * @return number of moved events.
+         */
+        public int rows() {
+            return changes.size();
+        }
+    }
+
+    /**
+     * Move scheduled and transferred events which have started to ACTIVE.
+     *
+     * @param now current time.
+     * @return StatusTransition of the moved events.
+     */
+    StatusTransition activateStarted(LocalDateTime now);
+
+    /**
+     * Move events which started before the given time to ARCHIVED, whatever their status is.
+     *
+     * @param startedBefore events with an earlier timing are archived.
+     * @param now           current time.
+     * @return StatusTransition of the moved events.
+     */
+    StatusTransition archiveStartedBefore(LocalDateTime startedBefore, LocalDateTime now);
+}
@@ -0,0 +1,67 @@
+package com.example.repositories.museum;
+
+import com.example.domain.museum.Event;
+import com.example.dto.museum.event.EventChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * JDBC implementation of {@link EventLifecycleRepository}.
+ * Every transition is a single UPDATE over the partial index of the events
+ * that are not archived, returning the moved events.
+ *
+ * @author Evhen Malysh
+ */
+@RequiredArgsConstructor
+public class EventLifecycleRepositoryImpl implements EventLifecycleRepository {
+
+    private static final String ACTIVATE_STARTED = """
+            UPDATE events
+            SET status = 'ACTIVE', updated_at = ?
+            WHERE status IN ('SCHEDULED', 'TRANSFERRED')
+              AND status <> 'ARCHIVED'
+              AND timing <= ?
+            RETURNING id, status, capacity - reserved_seats, timing
+            """;
+
+    private static final String ARCHIVE_STARTED_BEFORE = """
+            UPDATE events
+            SET status = 'ARCHIVED', updated_at = ?
+            WHERE status <> 'ARCHIVED'
+              AND timing < ?
+            RETURNING id, status, capacity - reserved_seats, timing
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public StatusTransition activateStarted(final LocalDateTime now) {
+        return transition(ACTIVATE_STARTED, now, now);
+    }
+
+    @Override
+    public StatusTransition archiveStartedBefore(final LocalDateTime startedBefore, final LocalDateTime now) {
+        return transition(ARCHIVE_STARTED_BEFORE, now, startedBefore);
+    }
+
+    private StatusTransition transition(final String sql, final LocalDateTime now, final LocalDateTime timing) {
+        var changes = new ArrayList<EventChange>();
+        var oldestTiming = new AtomicReference<LocalDateTime>();
+        jdbcTemplate.query(sql,
+                (RowCallbackHandler) rs -> {
+                    changes.add(new EventChange(rs.getLong(1), Event.EventStatus.valueOf(rs.getString(2)),
+                            rs.getInt(3), now));
+                    var moved = rs.getTimestamp(4).toLocalDateTime();
+                    oldestTiming.accumulateAndGet(moved, (oldest, next) ->
+                            oldest == null || next.isBefore(oldest) ? next : oldest);
+                },
+                Timestamp.valueOf(now), Timestamp.valueOf(timing));
+        return new StatusTransition(changes, oldestTiming.get());
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.repositories.museum;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Management of the monthly partitions of the events table.
+ *
+ * @author Evhen Malysh
+ */
+public interface EventPartitionRepository {
+
+    /**
+     * Find the months which have their own partition.
+     *
+     * @return YearMonth list in ascending order.
+     */
+    List<YearMonth> findPartitionMonths();
+
+    /**
+     * Create the partition of a month, moving its events out of the default partition.
+     * Must be called inside a transaction.
+     *
+     * @param month month of the partition.
+     */
+    void createPartition(YearMonth month);
+
+    /**
+     * Detach the partition of a month from the events table.
+     * The partition is kept as a standalone table holding the archive of that month,
+     * and the reservations of its events are moved to an archive table of the same month.
+     * Must be called inside a transaction.
+     *
+     * @param month month of the partition.
+     */
+    void detachPartition(YearMonth month);
+}
@@ -0,0 +1,93 @@
+package com.example.repositories.museum;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link EventPartitionRepository}.
+ * Partitions are named after their month, e.g. {@code events_y2023m08}, and so are
+ * the archives of the reservations of their events, e.g. {@code reservations_y2023m08}.
+ *
+ * @author Evhen Malysh
+ */
+@RequiredArgsConstructor
+public class EventPartitionRepositoryImpl implements EventPartitionRepository {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'events_y'yyyy'm'MM");
+    private static final DateTimeFormatter RESERVATION_ARCHIVE_NAME =
+            DateTimeFormatter.ofPattern("'reservations_y'yyyy'm'MM");
+
+    private static final String FIND_PARTITIONS = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'events'::regclass
+              AND c.relname LIKE 'events\\_y%'
+            ORDER BY c.relname
+            """;
+
+    private static final String CREATE_TABLE = "CREATE TABLE %s (LIKE events INCLUDING DEFAULTS INCLUDING CONSTRAINTS)";
+
+    // Events of the month scheduled before its partition existed are in the default partition,
+    // which must not hold them anymore when the partition is attached
+    private static final String MOVE_FROM_DEFAULT = """
+            WITH moved AS (
+                DELETE FROM events_default
+                WHERE timing >= ? AND timing < ?
+                RETURNING *
+            )
+            INSERT INTO %s SELECT * FROM moved
+            """;
+
+    private static final String ATTACH = "ALTER TABLE events ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')";
+
+    private static final String CREATE_RESERVATION_ARCHIVE =
+            "CREATE TABLE %s (LIKE reservations INCLUDING DEFAULTS INCLUDING CONSTRAINTS)";
+
+    // Reservations have no foreign key to the partitioned events table, so the reservations
+    // of a detached month would otherwise be left pointing at events the table no longer has
+    private static final String ARCHIVE_RESERVATIONS = """
+            WITH moved AS (
+                DELETE FROM reservations r
+                USING %s e
+                WHERE r.event_id = e.id
+                RETURNING r.*
+            )
+            INSERT INTO %s SELECT * FROM moved
+            """;
+
+    private static final String DETACH = "ALTER TABLE events DETACH PARTITION %s";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<YearMonth> findPartitionMonths() {
+        return jdbcTemplate.queryForList(FIND_PARTITIONS, String.class).stream()
+                .map(name -> YearMonth.parse(name, PARTITION_NAME))
+                .toList();
+    }
+
+    @Override
+    public void createPartition(final YearMonth month) {
+        var name = PARTITION_NAME.format(month);
+        var from = month.atDay(1).atStartOfDay();
+        var to = month.plusMonths(1).atDay(1).atStartOfDay();
+        jdbcTemplate.execute(String.format(CREATE_TABLE, name));
+        jdbcTemplate.update(String.format(MOVE_FROM_DEFAULT, name), Timestamp.valueOf(from), Timestamp.valueOf(to));
+        jdbcTemplate.execute(String.format(ATTACH, name, Timestamp.valueOf(from), Timestamp.valueOf(to)));
+    }
+
+    @Override
+    public void detachPartition(final YearMonth month) {
+        var name = PARTITION_NAME.format(month);
+        var archive = RESERVATION_ARCHIVE_NAME.format(month);
+        jdbcTemplate.execute(String.format(CREATE_RESERVATION_ARCHIVE, archive));
+        jdbcTemplate.update(String.format(ARCHIVE_RESERVATIONS, name, archive));
+        jdbcTemplate.execute(String.format(DETACH, name));
+    }
+}
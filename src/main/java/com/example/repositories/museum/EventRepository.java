@@ -1,18 +1,36 @@
 package com.example.repositories.museum;
 
 import com.example.domain.museum.Event;
+import com.example.dto.museum.event.EventCalendarBucket;
+import com.example.dto.museum.event.EventCalendarPeriod;
+import com.example.dto.museum.event.EventStub;
 import com.example.dto.museum.event.EventWithContent;
 import com.example.dto.museum.event.EventWithoutContent;
+import com.example.dto.pagination.Cursors;
+import com.example.dto.versioning.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Evhen Malysh
  */
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventLifecycleRepository,
+        EventPartitionRepository, EventFilterRepository {
 
     @Query("""
             SELECT new com.example.dto.museum.event.EventWithoutContent
@@ -26,9 +44,212 @@ public interface EventRepository extends JpaRepository<Event, Long> {
                 e.author.username
             )
             FROM Event e
+            ORDER BY e.timing, e.id
             """)
     List<EventWithoutContent> findAllEventsWithoutContent();
 
+    /**
+     * Retrieve a page of events ordered by ID, starting after the given ID.
+     *
+     * @param afterId  ID of the last event of the previous page.
+     * @param pageable page request limiting the number of events.
+     * @return EventWithoutContent list of the page.
+     */
+    @Query("""
+            SELECT new com.example.dto.museum.event.EventWithoutContent
+            (
+                e.id,
+                e.title,
+                e.timing,
+                e.capacity,
+                e.status,
+                e.author.id,
+                e.author.username
+            )
+            FROM Event e
+            WHERE e.id > :afterId
+            ORDER BY e.id
+            """)
+    List<EventWithoutContent> findEventsWithoutContentAfterId(Long afterId, Pageable pageable);
+
+    /**
+     * Retrieve the events with the given IDs, without their content.
+     *
+     * @param ids IDs of the events.
+     * @return EventWithoutContent list of the found events, in no particular order.
+     */
+    @Query("""
+            SELECT new com.example.dto.museum.event.EventWithoutContent
+            (
+                e.id,
+                e.title,
+                e.timing,
+                e.capacity,
+                e.status,
+                e.author.id,
+                e.author.username
+            )
+            FROM Event e
+            WHERE e.id IN :ids
+            """)
+    List<EventWithoutContent> findEventsWithoutContentByIdIn(Collection<Long> ids);
+
+    @Query("""
+            SELECT new com.example.dto.museum.event.EventWithoutContent
+            (
+                e.id,
+                e.title,
+                e.timing,
+                e.capacity,
+                e.status,
+                e.author.id,
+                e.author.username
+            )
+            FROM Event e
+            WHERE e.timing >= :from
+              AND e.timing < :to
+              AND (e.timing, e.id) > (:afterTiming, :afterId)
+            ORDER BY e.timing, e.id
+            """)
+    List<EventWithoutContent> loadEventsInWindowAfter(LocalDateTime from,
+                                                      LocalDateTime to,
+                                                      LocalDateTime afterTiming,
+                                                      Long afterId,
+                                                      Pageable pageable);
+
+    @Query("""
+            SELECT new com.example.dto.museum.event.EventWithoutContent
+            (
+                e.id,
+                e.title,
+                e.timing,
+                e.capacity,
+                e.status,
+                e.author.id,
+                e.author.username
+            )
+            FROM Event e
+            WHERE e.timing >= :from
+              AND e.timing < :to
+              AND (e.timing, e.id) > (:afterTiming, :afterId)
+              AND e.status = :status
+            ORDER BY e.timing, e.id
+            """)
+    List<EventWithoutContent> loadEventsInWindowWithStatusAfter(LocalDateTime from,
+                                                                LocalDateTime to,
+                                                                Event.EventStatus status,
+                                                                LocalDateTime afterTiming,
+                                                                Long afterId,
+                                                                Pageable pageable);
+
+    /**
+     * Find a page of events taking place in the given time window, ordered by timing, then by ID.
+     * The page continues after the given position, which is compared as a row value,
+     * so the scan of the (timing, id) index starts right at it.
+     *
+     * @param from   start of the window, inclusive.
+     * @param to     end of the window, exclusive.
+     * @param status status of the events, or null for events of any status.
+     * @param after  position of the last event of the previous page.
+     * @param limit  maximum number of events to return.
+     * @return EventWithoutContent list of at most {@code limit} events.
+     */
+    default List<EventWithoutContent> findPageInWindow(LocalDateTime from,
+                                                       LocalDateTime to,
+                                                       Event.EventStatus status,
+                                                       Cursors.TimingKey after,
+                                                       int limit) {
+        var pageable = Pageable.ofSize(limit);
+        if (status == null) {
+            return loadEventsInWindowAfter(from, to, after.timing(), after.id(), pageable);
+        }
+        return loadEventsInWindowWithStatusAfter(from, to, status, after.timing(), after.id(), pageable);
+    }
+
+    /**
+     * Retrieve the earliest events taking place after the given time, ordered by timing, then by ID.
+     *
+     * @param after    events must take place after this time.
+     * @param statuses statuses of the events.
+     * @param pageable page request limiting the number of events.
+     * @return EventWithoutContent list of the events.
+     */
+    @Query("""
+            SELECT new com.example.dto.museum.event.EventWithoutContent
+            (
+                e.id,
+                e.title,
+                e.timing,
+                e.capacity,
+                e.status,
+                e.author.id,
+                e.author.username
+            )
+            FROM Event e
+            WHERE e.timing > :after
+              AND e.status IN :statuses
+            ORDER BY e.timing, e.id
+            """)
+    List<EventWithoutContent> findUpcomingEvents(LocalDateTime after,
+                                                 Collection<Event.EventStatus> statuses,
+                                                 Pageable pageable);
+
+    record EventFeedRow(
+            Long id,
+            String title,
+            String content,
+            LocalDateTime timing,
+            Event.EventStatus status,
+            LocalDateTime updatedAt) {
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ArticleRepository.STREAM_FETCH_SIZE))
+    @Query("""
+            SELECT new com.example.repositories.museum.EventRepository$EventFeedRow
+            (
+                e.id,
+                e.title,
+                e.content,
+                e.timing,
+                e.status,
+                e.updatedAt
+            )
+            FROM Event e
+            ORDER BY e.timing, e.id
+            """)
+    Stream<EventFeedRow> streamEventFeedRows();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ArticleRepository.STREAM_FETCH_SIZE))
+    @Query("""
+            SELECT new com.example.repositories.museum.EventRepository$EventFeedRow
+            (
+                e.id,
+                e.title,
+                e.content,
+                e.timing,
+                e.status,
+                e.updatedAt
+            )
+            FROM Event e
+            WHERE e.author.id = :authorId
+            ORDER BY e.timing, e.id
+            """)
+    Stream<EventFeedRow> streamEventFeedRowsByAuthorId(Long authorId);
+
+    /**
+     * Pass the events of the feed, ordered by timing, then by ID, to the given action.
+     * Rows are read through a database cursor, so memory use does not depend
+     * on the number of events. Must be called inside a transaction.
+     *
+     * @param authorId ID of the author of the events, or null for the events of all authors.
+     * @param action   action to perform on each event.
+     */
+    default void forEachFeedRow(Long authorId, Consumer<EventFeedRow> action) {
+        try (var rows = authorId == null ? streamEventFeedRows() : streamEventFeedRowsByAuthorId(authorId)) {
+            rows.forEach(action);
+        }
+    }
+
     @Query("""
             SELECT new com.example.dto.museum.event.EventWithContent
             (
@@ -45,4 +266,145 @@ public interface EventRepository extends JpaRepository<Event, Long> {
             WHERE e.id = :id
             """)
     Optional<EventWithContent> findEventWithContentById(Long id);
+
+    @Query("""
+            SELECT new com.example.dto.versioning.ResourceVersion(count(e), max(greatest(e.updatedAt, e.author.updatedAt)))
+            FROM Event e
+            """)
+    ResourceVersion loadVersion();
+
+    /**
+     * Version of the event list, computed from the number of events and their latest update.
+     *
+     * @return ResourceVersion of the list, empty if there are no events.
+     */
+    default Optional<ResourceVersion> findVersion() {
+        return Optional.of(loadVersion()).filter(ResourceVersion::isKnown);
+    }
+
+    @Query("""
+            SELECT new com.example.dto.versioning.ResourceVersion(e.id, greatest(e.updatedAt, e.author.updatedAt))
+            FROM Event e
+            WHERE e.id = :id
+            """)
+    Optional<ResourceVersion> loadVersionById(Long id);
+
+    /**
+     * Version of the event with given ID, computed from its ID and latest update.
+     *
+     * @param id ID of the event.
+     * @return ResourceVersion of the event, empty if it is not found.
+     */
+    default Optional<ResourceVersion> findVersionById(Long id) {
+        return loadVersionById(id).filter(ResourceVersion::isKnown);
+    }
+
+    interface SeatsRow {
+        Integer getCapacity();
+
+        Integer getReservedSeats();
+
+        String getStatus();
+
+        default int getRemainingSeats() {
+            if (!Event.EventStatus.valueOf(getStatus()).isBookable()) {
+                return 0;
+            }
+            return getCapacity() - getReservedSeats();
+        }
+    }
+
+    @Query(nativeQuery = true, value = """
+            SELECT e.capacity AS capacity, e.reserved_seats AS reservedSeats, e.status AS status
+            FROM events e
+            WHERE e.id = :id
+            """)
+    Optional<SeatsRow> loadSeatsById(Long id);
+
+    /**
+     * Number of seats of the event with given ID that can still be reserved.
+     *
+     * @param id ID of the event.
+     * @return remaining seats, 0 if the event is not bookable, empty if it is not found.
+     */
+    default Optional<Integer> findRemainingSeatsById(Long id) {
+        return loadSeatsById(id).map(SeatsRow::getRemainingSeats);
+    }
+
+    interface CalendarCountRow {
+        LocalDateTime getBucketStart();
+
+        String getStatus();
+
+        Long getEvents();
+    }
+
+    @Query(nativeQuery = true, value = """
+            SELECT date_trunc(:field, e.timing) AS bucketStart, e.status AS status, count(*) AS events
+            FROM events e
+            WHERE e.timing >= :from
+              AND e.timing < :to
+            GROUP BY 1, 2
+            ORDER BY 1, 2
+            """)
+    List<CalendarCountRow> countEventsByBucketAndStatus(String field, LocalDateTime from, LocalDateTime to);
+
+    interface EventStubRow {
+        Long getId();
+
+        String getTitle();
+
+        LocalDateTime getTiming();
+
+        String getStatus();
+
+        default EventStub toEventStub() {
+            return new EventStub(getId(), getTitle(), getTiming(), Event.EventStatus.valueOf(getStatus()));
+        }
+    }
+
+    @Query(nativeQuery = true, value = """
+            SELECT s.id AS id, s.title AS title, s.timing AS timing, s.status AS status
+            FROM (
+                SELECT e.id, e.title, e.timing, e.status,
+                       row_number() OVER (PARTITION BY date_trunc(:field, e.timing) ORDER BY e.timing, e.id) AS n
+                FROM events e
+                WHERE e.timing >= :from
+                  AND e.timing < :to
+            ) s
+            WHERE s.n <= :perBucket
+            ORDER BY s.timing, s.id
+            """)
+    List<EventStubRow> loadFirstEventsByBucket(String field, LocalDateTime from, LocalDateTime to, int perBucket);
+
+    /**
+     * Find the calendar buckets of the given period that have events in the given time window.
+     * Counts are aggregated by the database, and only the first events of every bucket are read.
+     *
+     * @param period          length of the buckets.
+     * @param from            start of the window, inclusive, at the start of a bucket.
+     * @param to              end of the window, exclusive, at the start of a bucket.
+     * @param eventsPerBucket maximum number of events listed in a bucket.
+     * @return EventCalendarBucket list ordered by start, without the buckets having no events.
+     */
+    default List<EventCalendarBucket> findCalendar(EventCalendarPeriod period,
+                                                   LocalDateTime from,
+                                                   LocalDateTime to,
+                                                   int eventsPerBucket) {
+        var counts = new TreeMap<LocalDateTime, Map<Event.EventStatus, Long>>();
+        for (var row : countEventsByBucketAndStatus(period.field(), from, to)) {
+            counts.computeIfAbsent(row.getBucketStart(), start -> new EnumMap<>(Event.EventStatus.class))
+                    .put(Event.EventStatus.valueOf(row.getStatus()), row.getEvents());
+        }
+        var events = loadFirstEventsByBucket(period.field(), from, to, eventsPerBucket).stream()
+                .map(EventStubRow::toEventStub)
+                .collect(Collectors.groupingBy(event -> period.start(event.timing())));
+        return counts.entrySet().stream()
+                .map(bucket -> new EventCalendarBucket(
+                        bucket.getKey(),
+                        bucket.getValue().values().stream().mapToLong(Long::longValue).sum(),
+                        bucket.getValue(),
+                        events.getOrDefault(bucket.getKey(), List.of())))
+                .toList();
+    }
 }
@@ -0,0 +1,55 @@
+package com.example.repositories.museum;
+
+import com.example.domain.museum.Event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batched write operations of seat reservations that bypass the persistence context.
+ *
+ * @author Evhen Malysh
+ */
+public interface ReservationBatchRepository {
+
+    /**
+     * Reservation to insert.
+     *
+     * @param eventId   ID of the reserved event.
+     * @param userId    ID of the reserving user.
+     * @param seats     number of reserved seats.
+     * @param createdAt timestamp of the reservation.
+     */
+    record NewReservation(long eventId, long userId, int seats, LocalDateTime createdAt) {
+    }
+
+    /**
+     * Event the seats were added to, with its status after the addition.
+     *
+     * @param eventId ID of the event.
+     * @param status         status of the event, FULL if no seats are left.
+     * @param remainingSeats number of seats left after the claim.
+     */
+    record ClaimedSeats(long eventId, Event.EventStatus status, int remainingSeats) {
+    }
+
+    /**
+     * Add reserved seats to bookable events with a single statement, taking
+     * one row lock per event for the whole batch. Events that would exceed
+     * their capacity are left unchanged, events left without free seats become FULL.
+     *
+     * @param seatsByEventId number of seats to add, by event ID.
+     * @return ClaimedSeats list of the events the seats were added to.
+     */
+    List<ClaimedSeats> claimSeats(Map<Long, Integer> seatsByEventId);
+
+    /**
+     * Insert reservations using JDBC batches.
+     * Their seats must be claimed in the same transaction.
+     *
+     * @param reservations reservations to insert.
+     * @return IDs of the inserted reservations, in the order of the reservations.
+     */
+    List<Long> insertAll(List<NewReservation> reservations);
+}
@@ -0,0 +1,99 @@
+package com.example.repositories.museum;
+
+import com.example.domain.museum.Event;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * JDBC implementation of {@link ReservationBatchRepository}.
+ *
+ * @author Evhen Malysh
+ */
+@RequiredArgsConstructor
+public class ReservationBatchRepositoryImpl implements ReservationBatchRepository {
+
+    /**
+     * Number of rows sent to the database per batch.
+     */
+    static final int BATCH_SIZE = 500;
+
+    /**
+     * Claims the seats by event ID alone. The events are partitioned by timing, so the
+     * update probes the primary key index of every partition; the timing is not carried
+     * because a reschedule may move an event to another partition while its reservations
+     * are queued, and a stale timing would turn valid bookings away as full.
+     */
+    private static final String CLAIM_SEATS = """
+            UPDATE events e
+            SET reserved_seats = e.reserved_seats + c.seats,
+                status = CASE WHEN e.reserved_seats + c.seats = e.capacity THEN 'FULL' ELSE e.status END,
+                updated_at = CASE WHEN e.reserved_seats + c.seats = e.capacity THEN ? ELSE e.updated_at END
+            FROM unnest(?, ?) AS c(event_id, seats)
+            WHERE e.id = c.event_id
+              AND e.reserved_seats + c.seats <= e.capacity
+              AND e.status = ANY (?)
+            RETURNING e.id, e.status, e.capacity - e.reserved_seats
+            """;
+
+    private static final String NEXT_IDS = """
+            SELECT nextval(pg_get_serial_sequence('reservations', 'id'))
+            FROM generate_series(1, ?)
+            """;
+
+    private static final String INSERT_RESERVATION = """
+            INSERT INTO reservations (id, event_id, user_id, seats, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String[] BOOKABLE_STATUSES = Arrays.stream(Event.EventStatus.values())
+            .filter(Event.EventStatus::isBookable)
+            .map(Event.EventStatus::name)
+            .toArray(String[]::new);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ClaimedSeats> claimSeats(final Map<Long, Integer> seatsByEventId) {
+        if (seatsByEventId.isEmpty()) {
+            return List.of();
+        }
+        var eventIds = seatsByEventId.keySet().toArray(Long[]::new);
+        var seats = Arrays.stream(eventIds).map(seatsByEventId::get).toArray(Integer[]::new);
+        return jdbcTemplate.query(CLAIM_SEATS,
+                ps -> {
+                    var connection = ps.getConnection();
+                    ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+                    ps.setArray(2, connection.createArrayOf("bigint", eventIds));
+                    ps.setArray(3, connection.createArrayOf("integer", seats));
+                    ps.setArray(4, connection.createArrayOf("varchar", BOOKABLE_STATUSES));
+                },
+                (rs, rowNum) -> new ClaimedSeats(rs.getLong(1), Event.EventStatus.valueOf(rs.getString(2)),
+                        rs.getInt(3)));
+    }
+
+    @Override
+    public List<Long> insertAll(final List<NewReservation> reservations) {
+        if (reservations.isEmpty()) {
+            return List.of();
+        }
+        var ids = jdbcTemplate.queryForList(NEXT_IDS, Long.class, reservations.size());
+        var indexes = IntStream.range(0, reservations.size()).boxed().toList();
+
+        jdbcTemplate.batchUpdate(INSERT_RESERVATION, indexes, BATCH_SIZE, (ps, i) -> {
+            var reservation = reservations.get(i);
+            ps.setLong(1, ids.get(i));
+            ps.setLong(2, reservation.eventId());
+            ps.setLong(3, reservation.userId());
+            ps.setInt(4, reservation.seats());
+            ps.setTimestamp(5, Timestamp.valueOf(reservation.createdAt()));
+        });
+        return ids;
+    }
+}
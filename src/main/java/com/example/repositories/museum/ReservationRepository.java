@@ -0,0 +1,30 @@
+package com.example.repositories.museum;
+
+import com.example.domain.museum.Reservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+/**
+ * @author Evhen Malysh
+ */
+public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationBatchRepository {
+
+    /**
+     * Count the seats reserved on the event with given ID.
+     *
+     * @param eventId ID of the event.
+     * @return total number of reserved seats, 0 if there are no reservations.
+     */
+    @Query("SELECT coalesce(sum(r.seats), 0) FROM Reservation r WHERE r.event.id = :eventId")
+    long countSeatsByEventId(Long eventId);
+
+    /**
+     * Delete the reservations of the event with given ID.
+     *
+     * @param eventId ID of the event.
+     */
+    @Modifying
+    @Query("DELETE FROM Reservation r WHERE r.event.id = :eventId")
+    void deleteAllByEventId(Long eventId);
+}
@@ -0,0 +1,24 @@
+package com.example.repositories.users;
+
+import com.example.dto.users.UserRegistrationForm;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Bulk import of users that bypasses the persistence context.
+ *
+ * @author Evhen Malysh
+ */
+public interface UserImportRepository {
+
+    /**
+     * Import users with set based statements. The forms are streamed into a staging
+     * table, then merged into the users at once. Forms with the email of an existing
+     * user or of an earlier form are skipped. Must be called inside a transaction.
+     *
+     * @param forms valid forms of the users to import with their passwords hashed, consumed once.
+     * @return emails of the created users.
+     */
+    List<String> importAll(Stream<UserRegistrationForm> forms);
+}
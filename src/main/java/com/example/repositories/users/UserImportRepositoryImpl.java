@@ -0,0 +1,109 @@
+package com.example.repositories.users;
+
+import com.example.dto.users.UserRegistrationForm;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * JDBC implementation of {@link UserImportRepository}.
+ * The forms are sent with {@code COPY ... FROM STDIN} into a temporary staging table,
+ * so the import costs a constant number of statements instead of a few round trips
+ * per user, and duplicates are resolved by a single {@code INSERT ... ON CONFLICT}.
+ *
+ * @author Evhen Malysh
+ */
+@RequiredArgsConstructor
+public class UserImportRepositoryImpl implements UserImportRepository {
+
+    /**
+     * Number of characters buffered before they are sent to the COPY stream.
+     */
+    static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMPORARY TABLE user_import_staging (
+                row_number BIGINT NOT NULL,
+                first_name VARCHAR(255) NOT NULL,
+                last_name VARCHAR(255) NOT NULL,
+                email VARCHAR(255) NOT NULL,
+                password VARCHAR(255) NOT NULL
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_STAGING = """
+            COPY user_import_staging (row_number, first_name, last_name, email, password)
+            FROM STDIN (FORMAT csv)
+            """;
+
+    private static final String MERGE_STAGING = """
+            INSERT INTO users (first_name, last_name, email, password, created_at, updated_at)
+            SELECT s.first_name, s.last_name, s.email, s.password, ?, ?
+            FROM (
+                SELECT DISTINCT ON (email) *
+                FROM user_import_staging
+                ORDER BY email, row_number
+            ) s
+            ORDER BY s.row_number
+            ON CONFLICT (email) DO NOTHING
+            RETURNING email
+            """;
+
+    private static final String DROP_STAGING = "DROP TABLE user_import_staging";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<String> importAll(final Stream<UserRegistrationForm> forms) {
+        jdbcTemplate.execute(CREATE_STAGING);
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection ->
+                copy(connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING), forms));
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        var emails = jdbcTemplate.queryForList(MERGE_STAGING, String.class, now, now);
+        jdbcTemplate.execute(DROP_STAGING);
+        return emails;
+    }
+
+    private static long copy(final CopyIn copyIn, final Stream<UserRegistrationForm> forms) throws SQLException {
+        try {
+            var buffer = new StringBuilder(COPY_BUFFER_SIZE);
+            var rowNumber = 0L;
+            for (var iterator = forms.iterator(); iterator.hasNext(); ) {
+                var form = iterator.next();
+                buffer.append(++rowNumber).append(',');
+                appendField(buffer, form.firstName()).append(',');
+                appendField(buffer, form.lastName()).append(',');
+                appendField(buffer, form.email()).append(',');
+                appendField(buffer, form.password()).append('\n');
+                if (buffer.length() >= COPY_BUFFER_SIZE) {
+                    write(copyIn, buffer);
+                }
+            }
+            write(copyIn, buffer);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static StringBuilder appendField(final StringBuilder buffer, final String value) {
+        return buffer.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private static void write(final CopyIn copyIn, final StringBuilder buffer) throws SQLException {
+        var bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
@@ -3,16 +3,24 @@ package com.example.repositories.users;
 
 import com.example.domain.users.User;
 import com.example.dto.users.UserResponse;
+import com.example.dto.versioning.ResourceVersion;
+import com.example.repositories.museum.ArticleRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * @author Evhen Malysh
  */
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserImportRepository {
 
     @Query("""
             SELECT new com.example.dto.users.UserResponse
@@ -26,6 +34,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
             """)
     List<UserResponse> findAllDtos();
 
+    @Query("""
+            SELECT new com.example.dto.users.UserResponse
+            (
+                u.id,
+                u.firstName,
+                u.lastName,
+                u.email
+            )
+            FROM User u
+            WHERE u.id > :afterId
+            ORDER BY u.id
+            """)
+    List<UserResponse> findDtosAfterId(Long afterId, Pageable pageable);
+
     @Query("""
             SELECT new com.example.dto.users.UserResponse
             (
@@ -39,5 +61,59 @@ public interface UserRepository extends JpaRepository<User, Long> {
             """)
     Optional<UserResponse> findDtoById(Long id);
 
+    @Query("""
+            SELECT new com.example.dto.users.UserResponse
+            (
+                u.id,
+                u.firstName,
+                u.lastName,
+                u.email
+            )
+            FROM User u
+            WHERE u.id IN :ids
+            """)
+    List<UserResponse> findDtosByIdIn(Collection<Long> ids);
+
+    @Query("""
+            SELECT new com.example.dto.versioning.ResourceVersion(count(u), max(u.updatedAt))
+            FROM User u
+            """)
+    ResourceVersion loadVersion();
+
+    /**
+     * Version of the user list, computed from the number of users and their latest update.
+     *
+     * @return ResourceVersion of the list, empty if there are no users.
+     */
+    default Optional<ResourceVersion> findVersion() {
+        return Optional.of(loadVersion()).filter(ResourceVersion::isKnown);
+    }
+
+    @Query("""
+            SELECT new com.example.dto.versioning.ResourceVersion(u.id, u.updatedAt)
+            FROM User u
+            WHERE u.id = :id
+            """)
+    Optional<ResourceVersion> loadVersionById(Long id);
+
+    /**
+     * Version of the user with given ID, computed from its ID and latest update.
+     *
+     * @param id ID of the user.
+     * @return ResourceVersion of the user, empty if it is not found.
+     */
+    default Optional<ResourceVersion> findVersionById(Long id) {
+        return loadVersionById(id).filter(ResourceVersion::isKnown);
+    }
+
     boolean existsByEmail(String email);
+
+    /**
+     * Stream the emails of all users. Must be called inside a transaction.
+     *
+     * @return Stream of the emails.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ArticleRepository.STREAM_FETCH_SIZE))
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
 }
@@ -0,0 +1,66 @@
+package com.example.repositories.users.migrations;
+
+import com.example.services.users.passwords.PasswordHasher;
+import lombok.RequiredArgsConstructor;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the passwords stored before hashing was introduced with their hashes,
+ * so every stored password is verified the same way. The users are walked by ID
+ * in batches, and the passwords of a batch are hashed in parallel on the workers
+ * of {@link PasswordHasher}. Registered as a bean, so Flyway runs it with the
+ * hasher of the application.
+ *
+ * @author Evhen Malysh
+ */
+@Component
+@RequiredArgsConstructor
+public class V15__Hash_plaintext_passwords extends BaseJavaMigration {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_PLAINTEXT = """
+            SELECT id, password
+            FROM users
+            WHERE id > ?
+              AND password NOT LIKE 'pbkdf2-sha256$%'
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String UPDATE_PASSWORD = "UPDATE users SET password = ? WHERE id = ?";
+
+    private final PasswordHasher passwordHasher;
+
+    private record StoredPassword(long id, String password) {
+    }
+
+    @Override
+    public void migrate(final Context context) {
+        var jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        var lastId = 0L;
+        List<StoredPassword> batch;
+        do {
+            batch = jdbcTemplate.query(SELECT_PLAINTEXT,
+                    (rs, rowNum) -> new StoredPassword(rs.getLong(1), rs.getString(2)),
+                    lastId, BATCH_SIZE);
+            if (batch.isEmpty()) {
+                return;
+            }
+            var hashes = passwordHasher.hashAll(batch.stream().map(StoredPassword::password).toList());
+            var args = new ArrayList<Object[]>(batch.size());
+            for (var i = 0; i < batch.size(); i++) {
+                args.add(new Object[]{hashes.get(i), batch.get(i).id()});
+            }
+            jdbcTemplate.batchUpdate(UPDATE_PASSWORD, args);
+            lastId = batch.get(batch.size() - 1).id();
+        } while (batch.size() == BATCH_SIZE);
+    }
+}
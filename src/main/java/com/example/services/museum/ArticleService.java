@@ -1,15 +1,29 @@
 package com.example.services.museum;
 
+import com.example.domain.museum.Article;
+import com.example.dto.lookup.BatchLookup;
 import com.example.dto.museum.article.ArticlePublishingForm;
+import com.example.dto.museum.article.ArticlePublishingResult;
+import com.example.dto.museum.article.ArticleSearchResult;
 import com.example.dto.museum.article.ArticleWithContent;
 import com.example.dto.museum.article.ArticleWithoutContent;
+import com.example.dto.museum.article.TagMatch;
+import com.example.dto.pagination.CursorPage;
+import com.example.dto.versioning.ResourceVersion;
 import com.example.services.museum.exceptions.ArticleNotFoundException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static com.example.constraints.museum.ArticleConstraints.MAX_BULK_SIZE;
 
 /**
  * Service interface for managing museum articles.
@@ -18,6 +32,29 @@ import java.util.List;
  */
 public interface ArticleService {
 
+    /**
+     * Get the version of the article list, used as validator of conditional requests.
+     *
+     * @return ResourceVersion of the list, empty if there are no articles.
+     */
+    Optional<ResourceVersion> getVersion();
+
+    /**
+     * Get the version of a specific article, used as validator of conditional requests.
+     *
+     * @param id The ID of the article.
+     * @return ResourceVersion of the article, empty if it is not found.
+     */
+    Optional<ResourceVersion> getVersionById(@NotNull @Positive Long id);
+
+    /**
+     * Get the version of the list of articles by given author, used as validator of conditional requests.
+     *
+     * @param authorId The ID of the author.
+     * @return ResourceVersion of the list, empty if the author has no articles.
+     */
+    Optional<ResourceVersion> getVersionByAuthorId(@NotNull @Positive Long authorId);
+
     /**
      * Get a specific article by its ID.
      *
@@ -26,6 +63,15 @@ public interface ArticleService {
      */
     ArticleWithContent getById(@NotNull @Positive Long id);
 
+    /**
+     * Get the articles with the given IDs without their content in one call.
+     * Repeated IDs are resolved once.
+     *
+     * @param ids IDs of the articles, at most the configured maximum of distinct ones.
+     * @return BatchLookup with the found articles in the order of the IDs and the IDs of the missing ones.
+     */
+    BatchLookup<ArticleWithoutContent> getByIds(@NotEmpty List<@NotNull @Positive Long> ids);
+
     /**
      * Create a new article.
      *
@@ -35,6 +81,15 @@ public interface ArticleService {
      */
     ArticleWithContent save(@NotNull @Valid ArticlePublishingForm article);
 
+    /**
+     * Create new articles in bulk. Every form is validated up front, invalid forms
+     * and forms of unknown authors are rejected, the rest are published together.
+     *
+     * @param articles The articles to create.
+     * @return The outcome of each form, in the order of the forms.
+     */
+    List<ArticlePublishingResult> saveAll(@NotNull @Size(max = MAX_BULK_SIZE) List<ArticlePublishingForm> articles);
+
     /**
      * Update an existing article title.
      *
@@ -61,6 +116,49 @@ public interface ArticleService {
      */
     List<ArticleWithoutContent> getAllWithoutContent();
 
+    /**
+     * Get a page of article DTOs without article content, ordered by ID.
+     *
+     * @param cursor opaque cursor returned with the previous page, or null for the first page.
+     * @param size   requested page size, or null for the default one.
+     * @return CursorPage of DTOs without article content
+     */
+    CursorPage<ArticleWithoutContent> getPageWithoutContent(String cursor, @Positive Integer size);
+
+    /**
+     * Get a page of article DTOs without article content having any or all
+     * of the given tags, ordered by ID.
+     *
+     * @param tags   tags to match.
+     * @param match  whether articles must have any or all of the tags.
+     * @param cursor opaque cursor returned with the previous page, or null for the first page.
+     * @param size   requested page size, or null for the default one.
+     * @return CursorPage of DTOs without article content
+     */
+    CursorPage<ArticleWithoutContent> getPageByTags(@NotNull @NotEmpty Set<Article.ArticleTag> tags,
+                                                    @NotNull TagMatch match,
+                                                    String cursor,
+                                                    @Positive Integer size);
+
+    /**
+     * Full-text search over article titles and content. Title matches rank
+     * higher than content matches.
+     *
+     * @param query  web search style query, e.g. {@code "ancient pottery" -roman}.
+     * @param cursor opaque cursor returned with the previous page, or null for the first page.
+     * @param size   requested page size, or null for the default one.
+     * @return CursorPage of ranked results with highlighted content fragments
+     */
+    CursorPage<ArticleSearchResult> search(@NotNull @NotBlank String query, String cursor, @Positive Integer size);
+
+    /**
+     * Pass all articles with content, ordered by ID, to the given consumer
+     * one by one, without loading the whole catalog in memory.
+     *
+     * @param consumer Consumer of the articles.
+     */
+    void exportAllWithContent(@NotNull Consumer<ArticleWithContent> consumer);
+
     /**
      * Delete an article by its ID.
      *
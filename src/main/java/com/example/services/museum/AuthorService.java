@@ -1,13 +1,19 @@
 package com.example.services.museum;
 
+import com.example.dto.lookup.BatchLookup;
+import com.example.dto.museum.author.AuthorProfile;
 import com.example.dto.museum.author.AuthorRegistrationForm;
 import com.example.dto.museum.author.AuthorShortResponse;
+import com.example.dto.pagination.CursorPage;
+import com.example.dto.versioning.ResourceVersion;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Service interface for handling operations related to authors.
@@ -23,6 +29,30 @@ public interface AuthorService {
      */
     List<AuthorShortResponse> getAllAuthors();
 
+    /**
+     * Get a page of authors, ordered by ID.
+     *
+     * @param cursor opaque cursor returned with the previous page, or null for the first page.
+     * @param size   requested page size, or null for the default one.
+     * @return CursorPage of authors.
+     */
+    CursorPage<AuthorShortResponse> getPage(String cursor, @Positive Integer size);
+
+    /**
+     * Get the version of the author list, used as validator of conditional requests.
+     *
+     * @return ResourceVersion of the list, empty if there are no authors.
+     */
+    Optional<ResourceVersion> getVersion();
+
+    /**
+     * Get the version of a specific author, used as validator of conditional requests.
+     *
+     * @param id The ID of the author.
+     * @return ResourceVersion of the author, empty if it is not found.
+     */
+    Optional<ResourceVersion> getVersionById(@NotNull @Positive Long id);
+
     /**
      * Get a specific author by ID.
      *
@@ -31,6 +61,24 @@ public interface AuthorService {
      */
     AuthorShortResponse getById(@NotNull @Positive final Long id);
 
+    /**
+     * Get the authors with the given IDs in one call.
+     * Repeated IDs are resolved once.
+     *
+     * @param ids IDs of the authors, at most the configured maximum of distinct ones.
+     * @return BatchLookup with the found authors in the order of the IDs and the IDs of the missing ones.
+     */
+    BatchLookup<AuthorShortResponse> getByIds(@NotEmpty List<@NotNull @Positive Long> ids);
+
+    /**
+     * Get the profile of an author: the author with the number of their articles,
+     * their latest articles and their upcoming events.
+     *
+     * @param id ID of the author.
+     * @return AuthorProfile of the author.
+     */
+    AuthorProfile getProfile(@NotNull @Positive Long id);
+
     /**
      * Create a new author.
      *
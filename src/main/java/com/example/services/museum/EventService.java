@@ -1,14 +1,26 @@
 package com.example.services.museum;
 
+import com.example.domain.museum.Event;
+import com.example.dto.lookup.BatchLookup;
+import com.example.dto.museum.event.EventCalendarBucket;
+import com.example.dto.museum.event.EventCalendarPeriod;
+import com.example.dto.museum.event.EventFeed;
+import com.example.dto.museum.event.EventFilter;
 import com.example.dto.museum.event.EventPublishingForm;
+import com.example.dto.museum.event.EventRescheduleForm;
 import com.example.dto.museum.event.EventWithContent;
 import com.example.dto.museum.event.EventWithoutContent;
+import com.example.dto.pagination.CursorPage;
+import com.example.dto.versioning.ResourceVersion;
 import com.example.services.museum.exceptions.EventNotFoundException;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Service interface for managing museum events.
@@ -24,6 +36,92 @@ public interface EventService {
      */
     List<EventWithoutContent> getAll();
 
+    /**
+     * Get a page of events, ordered by ID.
+     *
+     * @param cursor opaque cursor returned with the previous page, or null for the first page.
+     * @param size   requested page size, or null for the default one.
+     * @return CursorPage of events.
+     */
+    CursorPage<EventWithoutContent> getPage(String cursor, @Positive Integer size);
+
+    /**
+     * Get a page of events taking place in the given time window, ordered by timing, then by ID.
+     *
+     * @param from   start of the window, inclusive.
+     * @param to     end of the window, exclusive, must be after the start.
+     * @param status status of the events, or null for events of any status.
+     * @param cursor opaque cursor returned with the previous page, or null for the first page.
+     * @param size   requested page size, or null for the default one.
+     * @return CursorPage of events.
+     * @throws IllegalArgumentException if the window is empty or the cursor is malformed.
+     */
+    CursorPage<EventWithoutContent> getPageInWindow(@NotNull LocalDateTime from,
+                                                    @NotNull LocalDateTime to,
+                                                    Event.EventStatus status,
+                                                    String cursor,
+                                                    @Positive Integer size);
+
+    /**
+     * Get a page of the events matching the filter, ordered by timing, then by ID.
+     *
+     * @param filter criteria of the events, combined.
+     * @param cursor opaque cursor returned with the previous page, or null for the first page.
+     * @param size   requested page size, or null for the default one.
+     * @return CursorPage of events.
+     * @throws IllegalArgumentException if the capacity range or the time window is empty,
+     *                                  or the cursor is malformed.
+     */
+    CursorPage<EventWithoutContent> getFiltered(@NotNull @Valid EventFilter filter,
+                                                String cursor,
+                                                @Positive Integer size);
+
+    /**
+     * Get the earliest events which have not started yet, ordered by timing, then by ID.
+     * Canceled and archived events are not listed.
+     *
+     * @param count maximum number of events, capped by the configured size of the upcoming list.
+     * @return List of events.
+     */
+    List<EventWithoutContent> getUpcoming(@NotNull @Positive Integer count);
+
+    /**
+     * Get the calendar of events in the given time window, one bucket per day, week or month.
+     * The window is widened to whole buckets, and buckets without events are included.
+     *
+     * @param period length of the buckets.
+     * @param from   start of the window, inclusive.
+     * @param to     end of the window, exclusive, must be after the start.
+     * @return EventCalendarBucket list ordered by start.
+     * @throws IllegalArgumentException if the window is empty or spans too many buckets.
+     */
+    List<EventCalendarBucket> getCalendar(@NotNull EventCalendarPeriod period,
+                                          @NotNull LocalDateTime from,
+                                          @NotNull LocalDateTime to);
+
+    /**
+     * Get the iCalendar feed of events, ordered by timing.
+     *
+     * @param authorId ID of the author of the events, or null for the events of all authors.
+     * @return EventFeed with the rendered feed and its version.
+     */
+    EventFeed getFeed(@Positive Long authorId);
+
+    /**
+     * Get the version of the event list, used as validator of conditional requests.
+     *
+     * @return ResourceVersion of the list, empty if there are no events.
+     */
+    Optional<ResourceVersion> getVersion();
+
+    /**
+     * Get the version of a specific event, used as validator of conditional requests.
+     *
+     * @param id The ID of the event.
+     * @return ResourceVersion of the event, empty if it is not found.
+     */
+    Optional<ResourceVersion> getVersionById(@NotNull @Positive Long id);
+
     /**
      * Get a specific event by its ID.
      *
@@ -34,6 +132,15 @@ public interface EventService {
      */
     EventWithContent getById(@NotNull @Positive Long id);
 
+    /**
+     * Get the events with the given IDs without their content in one call.
+     * Repeated IDs are resolved once.
+     *
+     * @param ids IDs of the events, at most the configured maximum of distinct ones.
+     * @return BatchLookup with the found events in the order of the IDs and the IDs of the missing ones.
+     */
+    BatchLookup<EventWithoutContent> getByIds(@NotEmpty List<@NotNull @Positive Long> ids);
+
     /**
      * Create a new event.
      *
@@ -43,6 +150,26 @@ public interface EventService {
      */
     EventWithContent save(@NotNull @Valid EventPublishingForm event);
 
+    /**
+     * Shift the timing of all events matching the filter by the given offset, marking them TRANSFERRED.
+     * Canceled and archived events, and events the offset would move into the past, are left unchanged.
+     *
+     * @param form Filter of the events and offset of their timing.
+     * @return IDs of the moved events.
+     * @throws IllegalArgumentException if the filter has no criteria, or the offset is zero
+     *                                  or not a whole number of microseconds.
+     */
+    List<Long> reschedule(@NotNull @Valid EventRescheduleForm form);
+
+    /**
+     * Cancel all events matching the filter. Canceled and archived events are left unchanged.
+     *
+     * @param filter Criteria of the events to cancel.
+     * @return IDs of the canceled events.
+     * @throws IllegalArgumentException if the filter has no criteria.
+     */
+    List<Long> cancel(@NotNull @Valid EventFilter filter);
+
     /**
      * Delete an event by its ID.
      *
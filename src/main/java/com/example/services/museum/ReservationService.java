@@ -0,0 +1,38 @@
+package com.example.services.museum;
+
+import com.example.dto.museum.reservation.ReservationForm;
+import com.example.dto.museum.reservation.ReservationResponse;
+import com.example.services.museum.exceptions.EventFullException;
+import com.example.services.museum.exceptions.EventNotFoundException;
+import com.example.services.museum.exceptions.ReservationTimeoutException;
+import com.example.services.users.exceptions.UserNotFoundException;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Service interface for booking seats on museum events.
+ *
+ * @author Evhen Malysh
+ */
+public interface ReservationService {
+
+    /**
+     * Reserve seats on an event. The seats are taken immediately, the reservation
+     * is written together with other pending ones and the returned future
+     * completes once it is committed.
+     *
+     * @param eventId     The ID of the event.
+     * @param reservation The reservation to make.
+     * @return Future of the committed reservation, completed exceptionally with
+     * {@link EventFullException} if the seats could not be kept, or with
+     * {@link ReservationTimeoutException} if it was not committed within the request timeout.
+     * @throws EventNotFoundException if the event with the given ID is not found.
+     * @throws UserNotFoundException  if the user of the reservation is not found.
+     * @throws EventFullException     if the event has not enough seats left.
+     */
+    CompletableFuture<ReservationResponse> reserve(@NotNull @Positive Long eventId,
+                                                   @NotNull @Valid ReservationForm reservation);
+}
@@ -0,0 +1,21 @@
+package com.example.services.museum.exceptions;
+
+/**
+ * Exception class to indicate that an event has not enough seats left for a reservation.
+ *
+ * @author Evhen Malysh
+ */
+public class EventFullException extends RuntimeException {
+
+    /**
+     * Constructs an instance of {@code EventFullException}
+     * with the specified detail message.
+     *
+     * @param message The detail message
+     *                (which is saved for later retrieval by the
+     *                {@link #getMessage()} method).
+     */
+    public EventFullException(final String message) {
+        super(message);
+    }
+}
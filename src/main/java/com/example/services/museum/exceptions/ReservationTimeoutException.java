@@ -0,0 +1,21 @@
+package com.example.services.museum.exceptions;
+
+/**
+ * Exception class to indicate that a reservation was not committed within the request timeout.
+ *
+ * @author Evhen Malysh
+ */
+public class ReservationTimeoutException extends RuntimeException {
+
+    /**
+     * Constructs an instance of {@code ReservationTimeoutException}
+     * with the specified detail message.
+     *
+     * @param message The detail message
+     *                (which is saved for later retrieval by the
+     *                {@link #getMessage()} method).
+     */
+    public ReservationTimeoutException(final String message) {
+        super(message);
+    }
+}
@@ -1,20 +1,41 @@
 package com.example.services.museum.impl;
 
+import com.example.config.BatchLookupProperties;
+import com.example.config.CacheConfig;
+import com.example.config.PaginationProperties;
 import com.example.domain.museum.Article;
+import com.example.dto.lookup.BatchLookup;
 import com.example.dto.museum.article.ArticlePublishingForm;
+import com.example.dto.museum.article.ArticlePublishingResult;
+import com.example.dto.museum.article.ArticleSearchResult;
 import com.example.dto.museum.article.ArticleWithContent;
 import com.example.dto.museum.article.ArticleWithoutContent;
+import com.example.dto.museum.article.TagMatch;
+import com.example.dto.pagination.CursorPage;
+import com.example.dto.pagination.Cursors;
+import com.example.dto.versioning.ResourceVersion;
 import com.example.repositories.museum.ArticleRepository;
+import com.example.repositories.museum.ArticleSummaryRepository;
 import com.example.repositories.museum.AuthorRepository;
 import com.example.services.museum.ArticleService;
 import com.example.services.museum.exceptions.ArticleNotFoundException;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Service implementation for managing museum articles.
@@ -26,9 +47,15 @@ import java.util.function.Supplier;
 @RequiredArgsConstructor
 public class ArticleServiceImpl implements ArticleService {
     public static final String ARTICLE_WITH_ID_NOT_FOUND = "Article with ID: %d not found.";
+    public static final String ARTICLE_MUST_NOT_BE_NULL = "article: must not be null";
+    public static final String AUTHOR_WITH_ID_NOT_FOUND = "authorId: author with ID: %d not found.";
 
     private final ArticleRepository articleRepository;
+    private final ArticleSummaryRepository articleSummaryRepository;
     private final AuthorRepository authorRepository;
+    private final PaginationProperties paginationProperties;
+    private final BatchLookupProperties batchLookupProperties;
+    private final Validator validator;
 
     @Override
     public List<ArticleWithContent> getAllWithContentByAuthorId(final Long authorId) {
@@ -41,13 +68,57 @@ public class ArticleServiceImpl implements ArticleService {
 
     @Override
     public List<ArticleWithoutContent> getAllWithoutContent() {
-        var articles = articleRepository.findAllWithoutContent();
+        var articles = articleSummaryRepository.findAllWithoutContent();
         if (articles.isEmpty()) {
             throw new ArticleNotFoundException("No articles found");
         }
         return articles;
     }
 
+    @Override
+    public CursorPage<ArticleWithoutContent> getPageWithoutContent(final String cursor, final Integer size) {
+        var pageSize = paginationProperties.resolve(size);
+        var articles = articleSummaryRepository.findPageWithoutContent(Cursors.decodeId(cursor), pageSize + 1);
+        return CursorPage.of(articles, pageSize, article -> Cursors.encodeId(article.id()));
+    }
+
+    @Override
+    public CursorPage<ArticleWithoutContent> getPageByTags(final Set<Article.ArticleTag> tags,
+                                                           final TagMatch match,
+                                                           final String cursor,
+                                                           final Integer size) {
+        var pageSize = paginationProperties.resolve(size);
+        var afterId = Cursors.decodeId(cursor);
+        var articles = switch (match) {
+            case ANY -> articleSummaryRepository.findPageHavingAnyTag(tags, afterId, pageSize + 1);
+            case ALL -> articleSummaryRepository.findPageHavingAllTags(tags, afterId, pageSize + 1);
+        };
+        return CursorPage.of(articles, pageSize, article -> Cursors.encodeId(article.id()));
+    }
+
+    @Override
+    public CursorPage<ArticleSearchResult> search(final String query, final String cursor, final Integer size) {
+        var pageSize = paginationProperties.resolve(size);
+        var offset = Cursors.decodeOffset(cursor);
+        var articles = articleRepository.search(query, pageSize + 1, offset);
+        return CursorPage.of(articles, pageSize, article -> Cursors.encodeOffset(offset + pageSize));
+    }
+
+    @Override
+    public Optional<ResourceVersion> getVersion() {
+        return articleRepository.findVersion();
+    }
+
+    @Override
+    public Optional<ResourceVersion> getVersionById(final Long id) {
+        return articleRepository.findVersionById(id);
+    }
+
+    @Override
+    public Optional<ResourceVersion> getVersionByAuthorId(final Long authorId) {
+        return articleRepository.findVersionByAuthorId(authorId);
+    }
+
     /**
      * Get a specific article by its ID.
      *
@@ -55,11 +126,27 @@ public class ArticleServiceImpl implements ArticleService {
      * @return The article with the given ID, or null if not found.
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.ARTICLES, key = "#id")
     public ArticleWithContent getById(final Long id) {
         return articleRepository.findArticleWithContentById(id)
                 .orElseThrow(getArticleNotFoundExceptionSupplier(id));
     }
 
+    /**
+     * Get the articles with the given IDs with one query.
+     *
+     * @param ids IDs of the articles, possibly repeated.
+     * @return BatchLookup with the found articles in the order of the IDs and the IDs of the missing ones.
+     * @throws IllegalArgumentException if there are more distinct IDs than the configured maximum.
+     */
+    @Override
+    public BatchLookup<ArticleWithoutContent> getByIds(final List<Long> ids) {
+        var distinctIds = batchLookupProperties.distinct(ids);
+        return BatchLookup.of(distinctIds,
+                articleRepository.findAllWithoutContentByIdIn(distinctIds),
+                ArticleWithoutContent::id);
+    }
+
     /**
      * Create a new article.
      *
@@ -68,6 +155,7 @@ public class ArticleServiceImpl implements ArticleService {
      */
     @Override
     @Transactional
+    @CachePut(cacheNames = CacheConfig.ARTICLES, key = "#result.id()")
     public ArticleWithContent save(
             final ArticlePublishingForm publishingForm) {
         var author = authorRepository.findById(publishingForm.authorId())
@@ -79,9 +167,50 @@ public class ArticleServiceImpl implements ArticleService {
                 author
         );
         var savedArticleId = articleRepository.save(article).getId();
+        articleSummaryRepository.refreshById(savedArticleId);
         return getById(savedArticleId);
     }
 
+    /**
+     * Create new articles in bulk. The distinct authors of all forms are resolved
+     * with a single query, and the valid forms are inserted in JDBC batches.
+     *
+     * @param publishingForms The article publishing forms to save new articles.
+     * @return The outcome of each form, in the order of the forms.
+     */
+    @Override
+    @Transactional
+    public List<ArticlePublishingResult> saveAll(final List<ArticlePublishingForm> publishingForms) {
+        var authorIds = publishingForms.stream()
+                .filter(Objects::nonNull)
+                .map(ArticlePublishingForm::authorId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        var existingAuthorIds = authorIds.isEmpty() ? Set.<Long>of() : authorRepository.findExistingIds(authorIds);
+
+        var results = new ArrayList<ArticlePublishingResult>(publishingForms.size());
+        var accepted = new ArrayList<ArticlePublishingForm>();
+        var acceptedIndexes = new ArrayList<Integer>();
+        for (var i = 0; i < publishingForms.size(); i++) {
+            var form = publishingForms.get(i);
+            var errors = validate(form, existingAuthorIds);
+            if (errors.isEmpty()) {
+                accepted.add(form);
+                acceptedIndexes.add(i);
+                results.add(null);
+            } else {
+                results.add(ArticlePublishingResult.rejected(i, errors));
+            }
+        }
+
+        var ids = articleRepository.insertAll(accepted);
+        for (var i = 0; i < ids.size(); i++) {
+            var index = acceptedIndexes.get(i);
+            results.set(index, ArticlePublishingResult.published(index, ids.get(i)));
+        }
+        return results;
+    }
+
     /**
      * Update a title of an existing article.
      *
@@ -92,22 +221,38 @@ public class ArticleServiceImpl implements ArticleService {
      */
     @Override
     @Transactional
+    @CachePut(cacheNames = CacheConfig.ARTICLES, key = "#id")
     public ArticleWithContent update(Long id, String title, String body) {
         if (isNotPresent(id)) {
             throw new ArticleNotFoundException(
                     String.format(ARTICLE_WITH_ID_NOT_FOUND, id));
         }
         articleRepository.updateTitleAndBodyById(title, body, id);
+        articleSummaryRepository.refreshById(id);
         return getById(id);
     }
 
     /**
-     * Delete an article by its ID.
+     * Pass all articles with content, ordered by ID, to the given consumer.
+     * Articles are read through a database cursor inside a read-only transaction.
+     *
+     * @param consumer Consumer of the articles.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAllWithContent(final Consumer<ArticleWithContent> consumer) {
+        articleRepository.forEachWithContent(consumer);
+    }
+
+    /**
+     * Delete an article by its ID. Its summary is removed by the database
+     * together with the article row.
      *
      * @param id The ID of the article to delete.
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ARTICLES, key = "#id")
     public void deleteById(final Long id) {
         if (isNotPresent(id)) {
             throw new ArticleNotFoundException(
@@ -116,6 +261,20 @@ public class ArticleServiceImpl implements ArticleService {
         articleRepository.deleteById(id);
     }
 
+    private List<String> validate(ArticlePublishingForm form, Set<Long> existingAuthorIds) {
+        if (form == null) {
+            return List.of(ARTICLE_MUST_NOT_BE_NULL);
+        }
+        var errors = validator.validate(form).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (errors.isEmpty() && !existingAuthorIds.contains(form.authorId())) {
+            errors.add(String.format(AUTHOR_WITH_ID_NOT_FOUND, form.authorId()));
+        }
+        return errors;
+    }
+
     private boolean isNotPresent(Long id) {
         return !articleRepository.existsById(id);
     }
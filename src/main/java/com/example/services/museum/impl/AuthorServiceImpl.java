@@ -1,20 +1,39 @@
 package com.example.services.museum.impl;
 
+import com.example.config.BatchLookupProperties;
+import com.example.config.CacheConfig;
+import com.example.config.PaginationProperties;
+import com.example.constraints.museum.AuthorConstraints;
 import com.example.domain.museum.Author;
+import com.example.dto.lookup.BatchLookup;
+import com.example.dto.museum.author.AuthorProfile;
 import com.example.dto.museum.author.AuthorRegistrationForm;
 import com.example.dto.museum.author.AuthorShortResponse;
+import com.example.dto.pagination.CursorPage;
+import com.example.dto.pagination.Cursors;
+import com.example.dto.versioning.ResourceVersion;
+import com.example.repositories.museum.ArticleSummaryRepository;
 import com.example.repositories.museum.AuthorRepository;
 import com.example.repositories.users.UserRepository;
 import com.example.services.museum.AuthorService;
 import com.example.services.museum.exceptions.AuthorAlreadyExistException;
 import com.example.services.museum.exceptions.AuthorNotFoundException;
+import com.example.services.uniqueness.UniquenessFilter;
 import com.example.services.users.exceptions.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 /**
@@ -32,7 +51,13 @@ public class AuthorServiceImpl implements AuthorService {
     private static final String AUTHOR_ALREADY_EXISTS = "Author already exists";
 
     private final AuthorRepository authorRepository;
+    private final ArticleSummaryRepository articleSummaryRepository;
     private final UserRepository userRepository;
+    private final PaginationProperties paginationProperties;
+    private final BatchLookupProperties batchLookupProperties;
+    private final UniquenessFilter<String> authorUsernames;
+    private final UniquenessFilter<Long> authorUserIds;
+    private final UpcomingEvents upcomingEvents;
 
     private static Supplier<AuthorNotFoundException> getAuthorNotFoundExceptionSupplier(Long id) {
         return () -> new AuthorNotFoundException(
@@ -54,6 +79,31 @@ public class AuthorServiceImpl implements AuthorService {
         return allAuthors;
     }
 
+    /**
+     * Get a page of authors, ordered by ID.
+     *
+     * @param cursor opaque cursor returned with the previous page, or null for the first page.
+     * @param size   requested page size, or null for the default one.
+     * @return CursorPage of authors.
+     */
+    @Override
+    public CursorPage<AuthorShortResponse> getPage(final String cursor, final Integer size) {
+        var pageSize = paginationProperties.resolve(size);
+        var authors = authorRepository.findAuthorsAfterId(
+                Cursors.decodeId(cursor), Pageable.ofSize(pageSize + 1));
+        return CursorPage.of(authors, pageSize, author -> Cursors.encodeId(author.id()));
+    }
+
+    @Override
+    public Optional<ResourceVersion> getVersion() {
+        return authorRepository.findVersion();
+    }
+
+    @Override
+    public Optional<ResourceVersion> getVersionById(final Long id) {
+        return authorRepository.findVersionById(id);
+    }
+
     /**
      * Get a specific author by ID.
      *
@@ -62,13 +112,47 @@ public class AuthorServiceImpl implements AuthorService {
      * @throws AuthorAlreadyExistException if Author with given users ID already exists.
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.AUTHORS, key = "#id")
     public AuthorShortResponse getById(final Long id) {
         return authorRepository.findAuthorById(id)
                 .orElseThrow(getAuthorNotFoundExceptionSupplier(id));
     }
 
+    /**
+     * Get the authors with the given IDs with one query.
+     *
+     * @param ids IDs of the authors, possibly repeated.
+     * @return BatchLookup with the found authors in the order of the IDs and the IDs of the missing ones.
+     * @throws IllegalArgumentException if there are more distinct IDs than the configured maximum.
+     */
+    @Override
+    public BatchLookup<AuthorShortResponse> getByIds(final List<Long> ids) {
+        var distinctIds = batchLookupProperties.distinct(ids);
+        return BatchLookup.of(distinctIds,
+                authorRepository.findAuthorsByIdIn(distinctIds),
+                AuthorShortResponse::id);
+    }
+
+    /**
+     * Get the profile of an author with a single query. The lists are bounded,
+     * the latest articles and the upcoming events are read from the summaries
+     * and events tables without loading any content.
+     *
+     * @param id ID of the author.
+     * @return AuthorProfile of the author.
+     * @throws AuthorNotFoundException if author with given id is not found.
+     */
+    @Override
+    public AuthorProfile getProfile(final Long id) {
+        return authorRepository.findProfileById(id, LocalDateTime.now(), UpcomingEvents.LISTED_STATUSES,
+                        AuthorConstraints.PROFILE_LATEST_ARTICLES, AuthorConstraints.PROFILE_UPCOMING_EVENTS)
+                .orElseThrow(getAuthorNotFoundExceptionSupplier(id));
+    }
+
     /**
      * Create a new author.
+     * The username and the user are checked against in-memory uniqueness filters first,
+     * so the database is only asked about values the filters might hold.
      *
      * @param authorRegistrationForm The Author object containing the details of the new author.
      * @return The created Author object.
@@ -77,44 +161,67 @@ public class AuthorServiceImpl implements AuthorService {
      */
     @Override
     @Transactional
+    @CachePut(cacheNames = CacheConfig.AUTHORS, key = "#result.id()")
     public AuthorShortResponse save(
             final AuthorRegistrationForm authorRegistrationForm) {
         var username = authorRegistrationForm.username();
         var userId = authorRegistrationForm.userId();
-        if (isPresent(username) || isPresent(userId)) {
+        if (authorUsernames.exists(username, authorRepository::existsByUsername)
+                || authorUserIds.exists(userId, authorRepository::existsByUserId)) {
             throw new AuthorAlreadyExistException(AUTHOR_ALREADY_EXISTS);
         }
         var user = userRepository.findById(userId)
                 .orElseThrow();
         var authorToSave = new Author(username, user);
-        var savedAuthor = authorRepository.save(authorToSave);
+        Author savedAuthor;
+        try {
+            savedAuthor = authorRepository.saveAndFlush(authorToSave);
+        } catch (DataIntegrityViolationException e) {
+            throw new AuthorAlreadyExistException(AUTHOR_ALREADY_EXISTS);
+        }
+        authorUsernames.add(username);
+        authorUserIds.add(userId);
         return getById(savedAuthor.getId());
     }
 
     /**
      * Update an existing author`s username.
+     * Cached articles and events carry the author`s username, so they are evicted as well,
+     * the article summaries of the author are refreshed and the upcoming events are reloaded.
      *
      * @param id       The ID of the author to update.
      * @param username The author`s username to update.
      * @return The updated author.
-     * @throws AuthorNotFoundException if author with given id is not found.
+     * @throws AuthorNotFoundException     if author with given id is not found.
+     * @throws AuthorAlreadyExistException if another author already has the username.
      */
     @Override
     @Transactional
+    @Caching(
+            put = @CachePut(cacheNames = CacheConfig.AUTHORS, key = "#id"),
+            evict = {
+                    @CacheEvict(cacheNames = CacheConfig.ARTICLES, allEntries = true),
+                    @CacheEvict(cacheNames = CacheConfig.EVENTS, allEntries = true)})
     public AuthorShortResponse updateUsername(final Long id, final String username) {
         if (!isPresent(id)) {
             throw new AuthorNotFoundException(
                     String.format(AUTHOR_WITH_ID_NOT_FOUND, id));
         }
-        authorRepository.updateUsernameById(username, id);
+        if (authorUsernames.exists(username, name -> authorRepository.existsByUsernameAndIdNot(name, id))) {
+            throw new AuthorAlreadyExistException(AUTHOR_ALREADY_EXISTS);
+        }
+        try {
+            authorRepository.updateUsernameById(username, id);
+        } catch (DataIntegrityViolationException e) {
+            throw new AuthorAlreadyExistException(AUTHOR_ALREADY_EXISTS);
+        }
+        authorUsernames.add(username);
+        articleSummaryRepository.refreshAuthorUsername(id);
+        upcomingEvents.reloadAfterCommit();
         return getById(id);
     }
 
     private boolean isPresent(Long id) {
         return authorRepository.existsById(id);
     }
-
-    private boolean isPresent(String username) {
-        return authorRepository.existsByUsername(username);
-    }
 }
@@ -0,0 +1,41 @@
+package com.example.services.museum.impl;
+
+import com.example.dto.museum.event.EventChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publishes the changes of set-based event updates, shared by the bulk operations
+ * and the lifecycle job. Once the update commits, the in-memory upcoming list is
+ * reloaded and the seat counters of the changed events are dropped, and every
+ * change reaches the subscribers of the change stream.
+ *
+ * @author Evhen Malysh
+ */
+@Component
+@RequiredArgsConstructor
+public class EventChangePublisher {
+
+    private final SeatInventory seatInventory;
+    private final UpcomingEvents upcomingEvents;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Publish the changes of a set-based update.
+     *
+     * @param changes changes of the updated events.
+     * @return IDs of the changed events.
+     */
+    public List<Long> publish(final List<EventChange> changes) {
+        var ids = changes.stream().map(EventChange::eventId).toList();
+        if (!changes.isEmpty()) {
+            upcomingEvents.reloadAfterCommit();
+            seatInventory.evictAfterCommit(ids);
+            changes.forEach(eventPublisher::publishEvent);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.services.museum.impl;
+
+import com.example.config.CacheConfig;
+import com.example.config.EventLifecycleProperties;
+import com.example.domain.museum.Event;
+import com.example.repositories.museum.EventLifecycleRepository.StatusTransition;
+import com.example.repositories.museum.EventRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Background job moving events through their status lifecycle by timing:
+ * started scheduled and transferred events become ACTIVE, and events
+ * started longer ago than the configured period become ARCHIVED.
+ * Each transition is one set-based update, so request handling never
+ * writes event statuses row by row. Moved events are published like bulk
+ * changes, so the change stream, the in-memory list of upcoming events
+ * and the seat counters follow them. Archiving also drops the cached
+ * calendar buckets, as one of them may have been sealed before the job
+ * caught up with its events.
+ *
+ * <p>Every run records, per target status, the number of moved rows in
+ * {@code museum.events.lifecycle.rows} and how long after its timing the
+ * most overdue event was moved in {@code museum.events.lifecycle.lag}.
+ *
+ * @author Evhen Malysh
+ */
+@Component
+@RequiredArgsConstructor
+public class EventLifecycleJob {
+
+    static final String ROWS_METRIC = "museum.events.lifecycle.rows";
+    static final String LAG_METRIC = "museum.events.lifecycle.lag";
+    private static final String STATUS_TAG = "status";
+
+    private final EventRepository eventRepository;
+    private final EventLifecycleProperties eventLifecycleProperties;
+    private final MeterRegistry meterRegistry;
+    private final CacheManager cacheManager;
+    private final EventChangePublisher eventChangePublisher;
+
+    /**
+     * Archive events that are over, then activate events that have started.
+     */
+    @Scheduled(cron = "${museum.events.lifecycle.cron:0 * * * * *}")
+    public void run() {
+        var now = LocalDateTime.now();
+        var archiveBefore = now.minus(eventLifecycleProperties.archiveAfter());
+        var archived = eventRepository.archiveStartedBefore(archiveBefore, now);
+        record(Event.EventStatus.ARCHIVED, archived, archiveBefore);
+        var activated = eventRepository.activateStarted(now);
+        record(Event.EventStatus.ACTIVE, activated, now);
+
+        if (archived.rows() > 0 || activated.rows() > 0) {
+            Objects.requireNonNull(cacheManager.getCache(CacheConfig.EVENTS)).clear();
+            Objects.requireNonNull(cacheManager.getCache(CacheConfig.EVENT_FEEDS)).clear();
+        }
+        if (archived.rows() > 0) {
+            Objects.requireNonNull(cacheManager.getCache(CacheConfig.EVENT_CALENDAR)).clear();
+        }
+        eventChangePublisher.publish(Stream.concat(archived.changes().stream(), activated.changes().stream()).toList());
+    }
+
+    private void record(final Event.EventStatus status, final StatusTransition transition, final LocalDateTime dueAt) {
+        DistributionSummary.builder(ROWS_METRIC)
+                .description("Number of events moved to a status by one lifecycle run")
+                .tag(STATUS_TAG, status.name())
+                .register(meterRegistry)
+                .record(transition.rows());
+        if (transition.oldestTiming() != null) {
+            Timer.builder(LAG_METRIC)
+                    .description("Delay between the time an event was due for a status and its move to it")
+                    .tag(STATUS_TAG, status.name())
+                    .register(meterRegistry)
+                    .record(Duration.between(transition.oldestTiming(), dueAt));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.services.museum.impl;
+
+import com.example.config.EventPartitionProperties;
+import com.example.repositories.museum.EventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.HashSet;
+
+/**
+ * Background job keeping the monthly partitions of the events table in shape:
+ * it creates the partitions of the coming months ahead of time, so new events
+ * rarely land in the default partition, and detaches the partitions of months
+ * older than the configured age, so the indexes of the events table only cover
+ * recent months. A detached partition stays in the database as a standalone table,
+ * next to a table archiving the reservations of its events.
+ * The job also runs once at startup, to catch up after downtime.
+ *
+ * @author Evhen Malysh
+ */
+@Component
+@RequiredArgsConstructor
+public class EventPartitionJob {
+
+    private final EventRepository eventRepository;
+    private final EventPartitionProperties eventPartitionProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Create the missing partitions of the coming months and detach the partitions of old months.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${museum.events.partitions.cron:0 0 3 * * *}")
+    public void run() {
+        var current = YearMonth.now();
+        var existing = new HashSet<>(eventRepository.findPartitionMonths());
+        for (var month = current; !month.isAfter(current.plusMonths(eventPartitionProperties.monthsAhead()));
+             month = month.plusMonths(1)) {
+            if (!existing.contains(month)) {
+                var created = month;
+                transactionTemplate.executeWithoutResult(status -> eventRepository.createPartition(created));
+            }
+        }
+
+        var detachBefore = current.minusMonths(eventPartitionProperties.detachAfter().toTotalMonths());
+        existing.stream()
+                .filter(month -> month.isBefore(detachBefore))
+                .sorted()
+                .forEach(month -> transactionTemplate.executeWithoutResult(
+                        status -> eventRepository.detachPartition(month)));
+    }
+}
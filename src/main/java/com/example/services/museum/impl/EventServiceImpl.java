@@ -1,21 +1,52 @@
 package com.example.services.museum.impl;
 
+import com.example.config.BatchLookupProperties;
+import com.example.config.CacheConfig;
+import com.example.config.EventLifecycleProperties;
+import com.example.config.PaginationProperties;
+import com.example.constraints.museum.EventConstraints;
 import com.example.domain.museum.Event;
+import com.example.dto.lookup.BatchLookup;
+import com.example.dto.museum.event.EventCalendarBucket;
+import com.example.dto.museum.event.EventCalendarPeriod;
+import com.example.dto.museum.event.EventFeed;
+import com.example.dto.museum.event.EventFilter;
 import com.example.dto.museum.event.EventPublishingForm;
+import com.example.dto.museum.event.EventRescheduleForm;
 import com.example.dto.museum.event.EventWithContent;
 import com.example.dto.museum.event.EventWithoutContent;
+import com.example.dto.pagination.CursorPage;
+import com.example.dto.pagination.Cursors;
+import com.example.dto.versioning.ResourceVersion;
 import com.example.repositories.museum.AuthorRepository;
 import com.example.repositories.museum.EventRepository;
+import com.example.repositories.museum.ReservationRepository;
 import com.example.services.museum.EventService;
 import com.example.services.museum.exceptions.AuthorNotFoundException;
 import com.example.services.museum.exceptions.EventNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Service class for managing museum events.
@@ -28,8 +59,24 @@ import java.util.function.Supplier;
 public class EventServiceImpl implements EventService {
 
     public static final String EVENT_NOT_FOUND_WITH_ID = "Event not found with ID: %s";
+    public static final String EMPTY_TIME_WINDOW = "Time window end %s must be after its start %s";
+    public static final String EMPTY_CAPACITY_RANGE = "Maximum capacity %d must not be below minimum capacity %d";
+    public static final String EMPTY_BULK_FILTER = "Bulk changes need at least one criterion of the events";
+    public static final String ZERO_RESCHEDULE_OFFSET = "Events must be moved by a non-zero offset";
+    public static final String SUB_MICROSECOND_RESCHEDULE_OFFSET = "Events must be moved by whole microseconds";
+    public static final String TOO_MANY_CALENDAR_BUCKETS = "Time window spans more than %d calendar buckets";
+    private static final String FEED_NAME = "Museum events";
+    private static final String AUTHOR_FEED_NAME = "Museum events of author %d";
     private final EventRepository eventRepository;
     private final AuthorRepository authorRepository;
+    private final ReservationRepository reservationRepository;
+    private final PaginationProperties paginationProperties;
+    private final BatchLookupProperties batchLookupProperties;
+    private final EventLifecycleProperties eventLifecycleProperties;
+    private final SeatInventory seatInventory;
+    private final UpcomingEvents upcomingEvents;
+    private final CacheManager cacheManager;
+    private final EventChangePublisher eventChangePublisher;
 
     private static Supplier<EventNotFoundException> getEventNotFoundExceptionSupplier(Long id) {
         return () -> new EventNotFoundException(
@@ -46,6 +93,185 @@ public class EventServiceImpl implements EventService {
         return eventRepository.findAllEventsWithoutContent();
     }
 
+    /**
+     * Get a page of events, ordered by ID.
+     *
+     * @param cursor opaque cursor returned with the previous page, or null for the first page.
+     * @param size   requested page size, or null for the default one.
+     * @return CursorPage of events.
+     */
+    @Override
+    public CursorPage<EventWithoutContent> getPage(final String cursor, final Integer size) {
+        var pageSize = paginationProperties.resolve(size);
+        var events = eventRepository.findEventsWithoutContentAfterId(
+                Cursors.decodeId(cursor), Pageable.ofSize(pageSize + 1));
+        return CursorPage.of(events, pageSize, event -> Cursors.encodeId(event.id()));
+    }
+
+    /**
+     * Get a page of events taking place in the given time window, ordered by timing, then by ID.
+     *
+     * @param from   start of the window, inclusive.
+     * @param to     end of the window, exclusive.
+     * @param status status of the events, or null for events of any status.
+     * @param cursor opaque cursor returned with the previous page, or null for the first page.
+     * @param size   requested page size, or null for the default one.
+     * @return CursorPage of events.
+     */
+    @Override
+    public CursorPage<EventWithoutContent> getPageInWindow(final LocalDateTime from,
+                                                           final LocalDateTime to,
+                                                           final Event.EventStatus status,
+                                                           final String cursor,
+                                                           final Integer size) {
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException(String.format(EMPTY_TIME_WINDOW, to, from));
+        }
+        var pageSize = paginationProperties.resolve(size);
+        var events = eventRepository.findPageInWindow(
+                from, to, status, Cursors.decodeTimingKey(cursor, from), pageSize + 1);
+        return CursorPage.of(events, pageSize, event -> Cursors.encodeTimingKey(event.timing(), event.id()));
+    }
+
+    @Override
+    public CursorPage<EventWithoutContent> getFiltered(final EventFilter filter,
+                                                       final String cursor,
+                                                       final Integer size) {
+        if (filter.minCapacity() != null && filter.maxCapacity() != null
+                && filter.maxCapacity() < filter.minCapacity()) {
+            throw new IllegalArgumentException(
+                    String.format(EMPTY_CAPACITY_RANGE, filter.maxCapacity(), filter.minCapacity()));
+        }
+        if (filter.from() != null && filter.to() != null && !filter.to().isAfter(filter.from())) {
+            throw new IllegalArgumentException(String.format(EMPTY_TIME_WINDOW, filter.to(), filter.from()));
+        }
+        var pageSize = paginationProperties.resolve(size);
+        var after = cursor == null || cursor.isBlank() ? null : Cursors.decodeTimingKey(cursor, null);
+        var events = eventRepository.findFiltered(filter, after, pageSize + 1);
+        return CursorPage.of(events, pageSize, event -> Cursors.encodeTimingKey(event.timing(), event.id()));
+    }
+
+    /**
+     * Get the calendar of events in the given time window, one bucket per day, week or month.
+     * A bucket that ended longer ago than events are archived after is sealed: its events
+     * no longer change status, so it is served from the cache once computed. Only the
+     * buckets that are not sealed or not cached yet are aggregated by the database,
+     * with one pair of queries over the window they span.
+     *
+     * @param period length of the buckets.
+     * @param from   start of the window, inclusive.
+     * @param to     end of the window, exclusive.
+     * @return EventCalendarBucket list ordered by start.
+     */
+    @Override
+    public List<EventCalendarBucket> getCalendar(final EventCalendarPeriod period,
+                                                 final LocalDateTime from,
+                                                 final LocalDateTime to) {
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException(String.format(EMPTY_TIME_WINDOW, to, from));
+        }
+        var starts = new ArrayList<LocalDateTime>();
+        for (var start = period.start(from); start.isBefore(to); start = period.next(start)) {
+            if (starts.size() == EventConstraints.MAX_CALENDAR_BUCKETS) {
+                throw new IllegalArgumentException(
+                        String.format(TOO_MANY_CALENDAR_BUCKETS, EventConstraints.MAX_CALENDAR_BUCKETS));
+            }
+            starts.add(start);
+        }
+
+        var calendarCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.EVENT_CALENDAR));
+        var sealedBefore = LocalDateTime.now().minus(eventLifecycleProperties.archiveAfter());
+        var buckets = new TreeMap<LocalDateTime, EventCalendarBucket>();
+        var missing = new ArrayList<LocalDateTime>();
+        for (var start : starts) {
+            var cached = isSealed(period, start, sealedBefore)
+                    ? calendarCache.get(calendarKey(period, start), EventCalendarBucket.class)
+                    : null;
+            if (cached == null) {
+                missing.add(start);
+            } else {
+                buckets.put(start, cached);
+            }
+        }
+        if (missing.isEmpty()) {
+            return List.copyOf(buckets.values());
+        }
+
+        var computed = eventRepository.findCalendar(period, missing.get(0),
+                        period.next(missing.get(missing.size() - 1)), EventConstraints.MAX_EVENTS_PER_CALENDAR_BUCKET)
+                .stream()
+                .collect(Collectors.toMap(EventCalendarBucket::start, Function.identity()));
+        for (var start : missing) {
+            var bucket = computed.getOrDefault(start, EventCalendarBucket.empty(start));
+            if (isSealed(period, start, sealedBefore)) {
+                calendarCache.put(calendarKey(period, start), bucket);
+            }
+            buckets.put(start, bucket);
+        }
+        return List.copyOf(buckets.values());
+    }
+
+    private static boolean isSealed(final EventCalendarPeriod period,
+                                    final LocalDateTime start,
+                                    final LocalDateTime sealedBefore) {
+        return !period.next(start).isAfter(sealedBefore);
+    }
+
+    static String calendarKey(final EventCalendarPeriod period, final LocalDateTime start) {
+        return period + ":" + start;
+    }
+
+    /**
+     * Get the earliest events which have not started yet, ordered by timing, then by ID.
+     * Served from memory, without touching the database.
+     *
+     * @param count maximum number of events.
+     * @return List of events.
+     */
+    @Override
+    public List<EventWithoutContent> getUpcoming(final Integer count) {
+        return upcomingEvents.getFirst(count);
+    }
+
+    /**
+     * Get the iCalendar feed of events, ordered by timing.
+     * Events are rendered one by one as they are read through a database cursor,
+     * and the rendered feed is cached until the next write of events.
+     *
+     * @param authorId ID of the author of the events, or null for the events of all authors.
+     * @return EventFeed with the rendered feed and its version.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.EVENT_FEEDS, key = "#authorId ?: 0L")
+    public EventFeed getFeed(final Long authorId) {
+        var body = new ByteArrayOutputStream();
+        var writer = new ICalendarWriter(body);
+        var count = new AtomicLong();
+        var lastModified = new AtomicReference<LocalDateTime>();
+        writer.begin(authorId == null ? FEED_NAME : String.format(AUTHOR_FEED_NAME, authorId));
+        eventRepository.forEachFeedRow(authorId, event -> {
+            writer.write(event);
+            count.incrementAndGet();
+            if (event.updatedAt() != null) {
+                lastModified.accumulateAndGet(event.updatedAt(),
+                        (latest, updated) -> latest == null || updated.isAfter(latest) ? updated : latest);
+            }
+        });
+        writer.end();
+        return new EventFeed(body.toByteArray(), new ResourceVersion(count.get(), lastModified.get()));
+    }
+
+    @Override
+    public Optional<ResourceVersion> getVersion() {
+        return eventRepository.findVersion();
+    }
+
+    @Override
+    public Optional<ResourceVersion> getVersionById(final Long id) {
+        return eventRepository.findVersionById(id);
+    }
+
     /**
      * Get a specific event by its ID.
      *
@@ -55,11 +281,27 @@ public class EventServiceImpl implements EventService {
      *                                is not found.
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.EVENTS, key = "#id")
     public EventWithContent getById(final Long id) {
         return eventRepository.findEventWithContentById(id)
                 .orElseThrow(getEventNotFoundExceptionSupplier(id));
     }
 
+    /**
+     * Get the events with the given IDs with one query.
+     *
+     * @param ids IDs of the events, possibly repeated.
+     * @return BatchLookup with the found events in the order of the IDs and the IDs of the missing ones.
+     * @throws IllegalArgumentException if there are more distinct IDs than the configured maximum.
+     */
+    @Override
+    public BatchLookup<EventWithoutContent> getByIds(final List<Long> ids) {
+        var distinctIds = batchLookupProperties.distinct(ids);
+        return BatchLookup.of(distinctIds,
+                eventRepository.findEventsWithoutContentByIdIn(distinctIds),
+                EventWithoutContent::id);
+    }
+
     /**
      * Create a new event.
      *
@@ -70,6 +312,9 @@ public class EventServiceImpl implements EventService {
      */
     @Override
     @Transactional
+    @Caching(
+            put = @CachePut(cacheNames = CacheConfig.EVENTS, key = "#result.id()"),
+            evict = @CacheEvict(cacheNames = CacheConfig.EVENT_FEEDS, allEntries = true))
     public EventWithContent save(EventPublishingForm form) {
         var authorId = form.authorId();
         var author = authorRepository.findById(authorId)
@@ -83,7 +328,60 @@ public class EventServiceImpl implements EventService {
                 author
         );
         var id = eventRepository.save(event).getId();
-        return getById(id);
+        var saved = getById(id);
+        upcomingEvents.add(saved);
+        return saved;
+    }
+
+    /**
+     * Shift the timing of all events matching the filter by the given offset with a single
+     * set-based update. Caches and the upcoming list are refreshed once for the whole batch.
+     *
+     * @param form Filter of the events and offset of their timing.
+     * @return IDs of the moved events.
+     * @throws IllegalArgumentException if the filter has no criteria, or the offset is zero
+     *                                  or not a whole number of microseconds.
+     */
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EVENTS, allEntries = true, condition = "!#result.isEmpty()"),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_CALENDAR, allEntries = true, condition = "!#result.isEmpty()"),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_FEEDS, allEntries = true, condition = "!#result.isEmpty()")})
+    public List<Long> reschedule(final EventRescheduleForm form) {
+        requireCriteria(form.filter());
+        if (form.offset().isZero()) {
+            throw new IllegalArgumentException(ZERO_RESCHEDULE_OFFSET);
+        }
+        if (form.offset().getNano() % 1000 != 0) {
+            throw new IllegalArgumentException(SUB_MICROSECOND_RESCHEDULE_OFFSET);
+        }
+        return eventChangePublisher.publish(eventRepository.rescheduleFiltered(form.filter(), form.offset(), LocalDateTime.now()));
+    }
+
+    /**
+     * Cancel all events matching the filter with a single set-based update.
+     * Caches, seat counters and the upcoming list are refreshed once for the whole batch.
+     *
+     * @param filter Criteria of the events to cancel.
+     * @return IDs of the canceled events.
+     * @throws IllegalArgumentException if the filter has no criteria.
+     */
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EVENTS, allEntries = true, condition = "!#result.isEmpty()"),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_CALENDAR, allEntries = true, condition = "!#result.isEmpty()"),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_FEEDS, allEntries = true, condition = "!#result.isEmpty()")})
+    public List<Long> cancel(final EventFilter filter) {
+        requireCriteria(filter);
+        return eventChangePublisher.publish(eventRepository.cancelFiltered(filter, LocalDateTime.now()));
+    }
+
+    private static void requireCriteria(final EventFilter filter) {
+        if (!filter.hasCriteria()) {
+            throw new IllegalArgumentException(EMPTY_BULK_FILTER);
+        }
     }
 
     /**
@@ -94,12 +392,19 @@ public class EventServiceImpl implements EventService {
      */
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_CALENDAR, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_FEEDS, allEntries = true)})
     public void deleteById(final Long id) {
         if (isNotPresent(id)) {
             throw new EventNotFoundException(
                     String.format(EVENT_NOT_FOUND_WITH_ID, id));
         }
+        reservationRepository.deleteAllByEventId(id);
         eventRepository.deleteById(id);
+        seatInventory.evict(id);
+        upcomingEvents.remove(id);
     }
 
     private boolean isNotPresent(Long id) {
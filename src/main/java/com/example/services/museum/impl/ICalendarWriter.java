@@ -0,0 +1,119 @@
+package com.example.services.museum.impl;
+
+import com.example.domain.museum.Event;
+import com.example.repositories.museum.EventRepository.EventFeedRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes events as an iCalendar (RFC 5545) document, one VEVENT at a time.
+ * Text values are escaped, and content lines are folded at 75 octets
+ * without splitting multibyte characters.
+ *
+ * @author Evhen Malysh
+ */
+class ICalendarWriter {
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private final OutputStream outputStream;
+
+    ICalendarWriter(final OutputStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    /**
+     * Write the start of the calendar.
+     *
+     * @param name display name of the calendar.
+     */
+    void begin(final String name) {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//Museum//Events//EN");
+        line("CALSCALE:GREGORIAN");
+        line("X-WR-CALNAME:" + escape(name));
+    }
+
+    /**
+     * Write an event of the calendar.
+     *
+     * @param event the event.
+     */
+    void write(final EventFeedRow event) {
+        var modified = event.updatedAt() == null ? event.timing() : event.updatedAt();
+        line("BEGIN:VEVENT");
+        line("UID:event-" + event.id() + "@museum");
+        line("DTSTAMP:" + utc(modified));
+        line("LAST-MODIFIED:" + utc(modified));
+        line("DTSTART:" + utc(event.timing()));
+        line("SUMMARY:" + escape(event.title()));
+        line("DESCRIPTION:" + escape(event.content()));
+        line("STATUS:" + (event.status() == Event.EventStatus.CANCELED ? "CANCELLED" : "CONFIRMED"));
+        line("END:VEVENT");
+    }
+
+    /**
+     * Write the end of the calendar.
+     */
+    void end() {
+        line("END:VCALENDAR");
+    }
+
+    static String escape(final String text) {
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n")
+                .replace("\r", "");
+    }
+
+    static String fold(final String line) {
+        var folded = new StringBuilder(line.length() + line.length() / MAX_LINE_OCTETS * 3);
+        var octets = 0;
+        for (var i = 0; i < line.length(); ) {
+            var codePoint = line.codePointAt(i);
+            var length = utf8Length(codePoint);
+            if (octets + length > MAX_LINE_OCTETS) {
+                folded.append(CRLF).append(' ');
+                octets = 1;
+            }
+            folded.appendCodePoint(codePoint);
+            octets += length;
+            i += Character.charCount(codePoint);
+        }
+        return folded.toString();
+    }
+
+    private static int utf8Length(final int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+
+    private static String utc(final LocalDateTime timing) {
+        return timing.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).format(UTC_DATE_TIME);
+    }
+
+    private void line(final String line) {
+        try {
+            outputStream.write((fold(line) + CRLF).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
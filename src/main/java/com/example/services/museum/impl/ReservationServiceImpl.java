@@ -0,0 +1,208 @@
+package com.example.services.museum.impl;
+
+import com.example.config.CacheConfig;
+import com.example.config.ReservationProperties;
+import com.example.domain.museum.Event;
+import com.example.dto.museum.event.EventChange;
+import com.example.dto.museum.reservation.ReservationForm;
+import com.example.dto.museum.reservation.ReservationResponse;
+import com.example.repositories.museum.ReservationBatchRepository.ClaimedSeats;
+import com.example.repositories.museum.ReservationBatchRepository.NewReservation;
+import com.example.repositories.museum.ReservationRepository;
+import com.example.repositories.users.UserRepository;
+import com.example.services.museum.ReservationService;
+import com.example.services.museum.exceptions.EventFullException;
+import com.example.services.museum.exceptions.ReservationTimeoutException;
+import com.example.services.users.exceptions.UserNotFoundException;
+import com.example.services.users.impl.UserServiceImpl;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for booking seats on museum events.
+ * Seats are taken from the {@link SeatInventory} on the calling thread, so
+ * overselling is rejected without touching the database. Accepted reservations
+ * are queued and written in batches by a background flush, which claims the
+ * seats of every event of the batch with one guarded update. The flush runs on
+ * its own thread, so it is never held up behind the scheduled jobs.
+ *
+ * @author Evhen Malysh
+ */
+@Service
+@Validated
+@RequiredArgsConstructor
+public class ReservationServiceImpl implements ReservationService {
+
+    public static final String NOT_ENOUGH_SEATS = "Event with ID: %d has not enough seats left.";
+    public static final String RESERVATION_TIMED_OUT = "Reservation on event with ID: %d was not committed in time.";
+    private static final int FLUSH_SHUTDOWN_SECONDS = 30;
+
+    private final SeatInventory seatInventory;
+    private final ReservationRepository reservationRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final UpcomingEvents upcomingEvents;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final ReservationProperties reservationProperties;
+    private final BlockingQueue<PendingReservation> pendingReservations = new LinkedBlockingQueue<>();
+    private final ThreadPoolTaskScheduler flushScheduler = new ThreadPoolTaskScheduler();
+    private ScheduledFuture<?> scheduledFlush;
+
+    private record PendingReservation(long eventId,
+                                      long userId,
+                                      int seats,
+                                      LocalDateTime createdAt,
+                                      CompletableFuture<ReservationResponse> result) {
+
+        NewReservation toNewReservation() {
+            return new NewReservation(eventId, userId, seats, createdAt);
+        }
+
+        ReservationResponse toResponse(final Long id) {
+            return new ReservationResponse(id, eventId, userId, seats, createdAt);
+        }
+    }
+
+    @PostConstruct
+    void startFlushing() {
+        flushScheduler.setThreadNamePrefix("reservation-flush-");
+        flushScheduler.setWaitForTasksToCompleteOnShutdown(true);
+        flushScheduler.setAwaitTerminationSeconds(FLUSH_SHUTDOWN_SECONDS);
+        flushScheduler.initialize();
+        scheduledFlush = flushScheduler.scheduleWithFixedDelay(this::flush, reservationProperties.flushInterval());
+    }
+
+    @PreDestroy
+    void stopFlushing() {
+        scheduledFlush.cancel(false);
+        flushScheduler.shutdown();
+        flush();
+    }
+
+    /**
+     * Reserve seats on an event.
+     *
+     * @param eventId     The ID of the event.
+     * @param reservation The reservation to make.
+     * @return Future of the committed reservation.
+     */
+    @Override
+    public CompletableFuture<ReservationResponse> reserve(final Long eventId, final ReservationForm reservation) {
+        if (!userRepository.existsById(reservation.userId())) {
+            throw new UserNotFoundException(
+                    String.format(UserServiceImpl.USER_WITH_ID_NOT_FOUND, reservation.userId()));
+        }
+        if (!seatInventory.tryTake(eventId, reservation.seats())) {
+            throw new EventFullException(String.format(NOT_ENOUGH_SEATS, eventId));
+        }
+        var pending = new PendingReservation(eventId, reservation.userId(), reservation.seats(),
+                LocalDateTime.now(), new CompletableFuture<>());
+        pendingReservations.add(pending);
+        CompletableFuture.delayedExecutor(reservationProperties.requestTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .execute(() -> pending.result().completeExceptionally(
+                        new ReservationTimeoutException(String.format(RESERVATION_TIMED_OUT, eventId))));
+        return pending.result();
+    }
+
+    /**
+     * Persist all pending reservations, in batches of the configured size.
+     */
+    void flush() {
+        var batch = new ArrayList<PendingReservation>(reservationProperties.batchSize());
+        while (pendingReservations.drainTo(batch, reservationProperties.batchSize()) > 0) {
+            batch.removeIf(this::dropIfTimedOut);
+            if (!batch.isEmpty()) {
+                persist(batch);
+            }
+            batch.clear();
+        }
+    }
+
+    private boolean dropIfTimedOut(final PendingReservation pending) {
+        if (!pending.result().isDone()) {
+            return false;
+        }
+        seatInventory.giveBack(pending.eventId(), pending.seats());
+        return true;
+    }
+
+    private void persist(final List<PendingReservation> batch) {
+        FlushOutcome outcome;
+        try {
+            outcome = transactionTemplate.execute(status -> write(batch));
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> {
+                seatInventory.giveBack(pending.eventId(), pending.seats());
+                pending.result().completeExceptionally(e);
+            });
+            return;
+        }
+        Objects.requireNonNull(outcome);
+
+        for (var i = 0; i < outcome.accepted().size(); i++) {
+            var pending = outcome.accepted().get(i);
+            pending.result().complete(pending.toResponse(outcome.ids().get(i)));
+        }
+        batch.stream()
+                .filter(pending -> !pending.result().isDone())
+                .forEach(pending -> {
+                    // The seats were taken by another writer, reload the counter from the database
+                    seatInventory.evict(pending.eventId());
+                    pending.result().completeExceptionally(
+                            new EventFullException(String.format(NOT_ENOUGH_SEATS, pending.eventId())));
+                });
+        var events = cacheManager.getCache(CacheConfig.EVENTS);
+        var changedAt = LocalDateTime.now();
+        for (var claimed : outcome.claimedSeats()) {
+            if (claimed.status() == Event.EventStatus.FULL) {
+                if (events != null) {
+                    events.evict(claimed.eventId());
+                }
+                upcomingEvents.updateStatus(claimed.eventId(), Event.EventStatus.FULL);
+            }
+            eventPublisher.publishEvent(
+                    new EventChange(claimed.eventId(), claimed.status(), claimed.remainingSeats(), changedAt));
+        }
+    }
+
+    private record FlushOutcome(List<ClaimedSeats> claimedSeats,
+                                List<PendingReservation> accepted,
+                                List<Long> ids) {
+    }
+
+    private FlushOutcome write(final List<PendingReservation> batch) {
+        var seatsByEventId = batch.stream()
+                .collect(Collectors.groupingBy(PendingReservation::eventId,
+                        Collectors.summingInt(PendingReservation::seats)));
+        var claimedSeats = reservationRepository.claimSeats(seatsByEventId);
+        var claimedEventIds = claimedSeats.stream()
+                .map(ClaimedSeats::eventId)
+                .collect(Collectors.toSet());
+        var accepted = batch.stream()
+                .filter(pending -> claimedEventIds.contains(pending.eventId()))
+                .toList();
+        var ids = reservationRepository.insertAll(accepted.stream()
+                .map(PendingReservation::toNewReservation)
+                .toList());
+        return new FlushOutcome(claimedSeats, accepted, ids);
+    }
+}
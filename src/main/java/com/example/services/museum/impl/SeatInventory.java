@@ -0,0 +1,98 @@
+package com.example.services.museum.impl;
+
+import com.example.repositories.museum.EventRepository;
+import com.example.services.museum.exceptions.EventNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory count of the seats left on each event.
+ * Seats are taken with a compare-and-set loop on a per-event counter, so concurrent
+ * bookings of different events never contend and bookings of the same event never block.
+ * A counter is loaded from the database on first use of the event.
+ *
+ * @author Evhen Malysh
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatInventory {
+
+    private final EventRepository eventRepository;
+    private final ConcurrentMap<Long, AtomicInteger> remainingSeats = new ConcurrentHashMap<>();
+
+    /**
+     * Take seats of an event if enough of them are left.
+     *
+     * @param eventId ID of the event.
+     * @param seats   number of seats to take.
+     * @return true if the seats were taken, false if not enough seats are left.
+     * @throws EventNotFoundException if the event with given ID is not found.
+     */
+    public boolean tryTake(final long eventId, final int seats) {
+        var remaining = remainingSeats.computeIfAbsent(eventId, this::load);
+        while (true) {
+            var current = remaining.get();
+            if (current < seats) {
+                return false;
+            }
+            if (remaining.compareAndSet(current, current - seats)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Return seats taken for a reservation that could not be persisted.
+     *
+     * @param eventId ID of the event.
+     * @param seats   number of seats to return.
+     */
+    public void giveBack(final long eventId, final int seats) {
+        var remaining = remainingSeats.get(eventId);
+        if (remaining != null) {
+            remaining.addAndGet(seats);
+        }
+    }
+
+    /**
+     * Drop the counter of an event, so it is loaded again from the database on next use.
+     *
+     * @param eventId ID of the event.
+     */
+    public void evict(final long eventId) {
+        remainingSeats.remove(eventId);
+    }
+
+    /**
+     * Drop the counters of events once the current transaction commits, so bookings
+     * made afterwards see the seats of the committed events.
+     *
+     * @param eventIds IDs of the events.
+     */
+    public void evictAfterCommit(final Collection<Long> eventIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventIds.forEach(this::evict);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventIds.forEach(SeatInventory.this::evict);
+            }
+        });
+    }
+
+    private AtomicInteger load(final long eventId) {
+        return eventRepository.findRemainingSeatsById(eventId)
+                .map(AtomicInteger::new)
+                .orElseThrow(() -> new EventNotFoundException(
+                        String.format(EventServiceImpl.EVENT_NOT_FOUND_WITH_ID, eventId)));
+    }
+}
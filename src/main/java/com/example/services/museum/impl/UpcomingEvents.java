@@ -0,0 +1,155 @@
+package com.example.services.museum.impl;
+
+import com.example.config.UpcomingEventsProperties;
+import com.example.domain.museum.Event;
+import com.example.dto.museum.event.EventWithContent;
+import com.example.dto.museum.event.EventWithoutContent;
+import com.example.repositories.museum.EventRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory list of the earliest upcoming events, ordered by timing, then by ID.
+ * Readers get an immutable snapshot through a volatile read and never lock or touch
+ * the database. Writers build the next snapshot under a lock, after the transaction
+ * of the change commits, so a rolled back change is never listed.
+ *
+ * <p>Only the configured number of events is kept. When a change drops an event
+ * from a full list, the tail is loaded again from the database in the background.
+ * Events which have started are skipped on read until the next reload.
+ *
+ * @author Evhen Malysh
+ */
+@Component
+@RequiredArgsConstructor
+public class UpcomingEvents {
+
+    static final Set<Event.EventStatus> LISTED_STATUSES = EnumSet.of(
+            Event.EventStatus.SCHEDULED, Event.EventStatus.ACTIVE,
+            Event.EventStatus.FULL, Event.EventStatus.TRANSFERRED);
+    private static final Comparator<EventWithoutContent> ORDER = Comparator
+            .comparing(EventWithoutContent::timing)
+            .thenComparing(EventWithoutContent::id);
+
+    private final EventRepository eventRepository;
+    private final UpcomingEventsProperties upcomingEventsProperties;
+    private final TaskScheduler taskScheduler;
+    private volatile List<EventWithoutContent> snapshot = List.of();
+
+    /**
+     * Load the earliest upcoming events from the database.
+     */
+    @PostConstruct
+    public synchronized void reload() {
+        snapshot = List.copyOf(eventRepository.findUpcomingEvents(LocalDateTime.now(), LISTED_STATUSES,
+                Pageable.ofSize(upcomingEventsProperties.size())));
+    }
+
+    /**
+     * Load the earliest upcoming events again, once the current transaction commits.
+     * Used after bulk changes, which may move any number of events in or out of the list.
+     */
+    public void reloadAfterCommit() {
+        afterCommit(this::reload);
+    }
+
+    /**
+     * Get the earliest upcoming events.
+     *
+     * @param count maximum number of events.
+     * @return EventWithoutContent list of at most {@code count} events which have not started yet.
+     */
+    public List<EventWithoutContent> getFirst(final int count) {
+        var now = LocalDateTime.now();
+        return snapshot.stream()
+                .dropWhile(event -> !event.timing().isAfter(now))
+                .limit(count)
+                .toList();
+    }
+
+    /**
+     * List a created event, once its transaction commits.
+     *
+     * @param event the created event.
+     */
+    public void add(final EventWithContent event) {
+        var listed = new EventWithoutContent(event.id(), event.title(), event.timing(), event.capacity(),
+                event.status(), event.authorId(), event.authorUsername());
+        afterCommit(() -> change(events -> {
+            events.removeIf(e -> e.id().equals(listed.id()));
+            if (LISTED_STATUSES.contains(listed.status()) && listed.timing().isAfter(LocalDateTime.now())) {
+                events.add(listed);
+                events.sort(ORDER);
+            }
+            return events;
+        }));
+    }
+
+    /**
+     * Drop a deleted event, once its transaction commits.
+     *
+     * @param eventId ID of the deleted event.
+     */
+    public void remove(final long eventId) {
+        afterCommit(() -> change(events -> {
+            events.removeIf(e -> e.id() == eventId);
+            return events;
+        }));
+    }
+
+    /**
+     * Apply a status change of an event, once its transaction commits.
+     *
+     * @param eventId ID of the event.
+     * @param status  new status of the event.
+     */
+    public void updateStatus(final long eventId, final Event.EventStatus status) {
+        afterCommit(() -> change(events -> {
+            events.replaceAll(e -> e.id() != eventId ? e : new EventWithoutContent(e.id(), e.title(), e.timing(),
+                    e.capacity(), status, e.authorId(), e.authorUsername()));
+            events.removeIf(e -> !LISTED_STATUSES.contains(e.status()));
+            return events;
+        }));
+    }
+
+    private synchronized void change(final UnaryOperator<List<EventWithoutContent>> update) {
+        var size = upcomingEventsProperties.size();
+        var current = snapshot;
+        var next = update.apply(new ArrayList<>(current));
+        if (next.size() > size) {
+            next = next.subList(0, size);
+        }
+        snapshot = List.copyOf(next);
+        if (current.size() == size && next.size() < size) {
+            // Events beyond the dropped one are not in memory, load them in the background
+            taskScheduler.schedule(this::reload, Instant.now());
+        }
+    }
+
+    private static void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
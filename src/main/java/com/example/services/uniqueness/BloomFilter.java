@@ -0,0 +1,129 @@
+package com.example.services.uniqueness;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter of strings. It never answers "absent" for an added key,
+ * and answers "might be present" for a key that was never added with a probability
+ * that grows with the number of added keys.
+ *
+ * <p>Bits are set with compare-and-set, so adds and lookups never block each other.
+ * The bit positions of a key are derived from two 64-bit hashes of its UTF-8 bytes.
+ *
+ * @author Evhen Malysh
+ */
+public class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long GOLDEN_RATIO = 0x9e3779b97f4a7c15L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLong setBits = new AtomicLong();
+
+    /**
+     * Create a filter sized for the given number of keys.
+     *
+     * @param expectedInsertions       number of keys the filter is sized for.
+     * @param falsePositiveProbability probability of a false "might be present" once that many keys are added.
+     * @throws IllegalArgumentException if the number of keys is not positive or the probability is not in (0, 1).
+     */
+    public BloomFilter(final long expectedInsertions, final double falsePositiveProbability) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive: " + expectedInsertions);
+        }
+        if (!(falsePositiveProbability > 0 && falsePositiveProbability < 1)) {
+            throw new IllegalArgumentException(
+                    "False positive probability must be between 0 and 1: " + falsePositiveProbability);
+        }
+        var bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability)
+                / (Math.log(2) * Math.log(2)));
+        var wordCount = Math.toIntExact((Math.max(bits, Long.SIZE) + Long.SIZE - 1) / Long.SIZE);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * Add a key.
+     *
+     * @param key the key.
+     */
+    public void add(final String key) {
+        var hash = fnv1a(key);
+        var h1 = mix(hash);
+        var h2 = mix(hash ^ GOLDEN_RATIO) | 1L;
+        for (var i = 0; i < hashCount; i++) {
+            var bit = Math.floorMod(h1 + i * h2, bitCount);
+            var index = (int) (bit >>> 6);
+            var mask = 1L << bit;
+            var word = words.get(index);
+            while ((word & mask) == 0) {
+                if (words.compareAndSet(index, word, word | mask)) {
+                    setBits.incrementAndGet();
+                    break;
+                }
+                word = words.get(index);
+            }
+        }
+    }
+
+    /**
+     * Check whether a key might have been added.
+     *
+     * @param key the key.
+     * @return false if the key was definitely never added, true if it might have been.
+     */
+    public boolean mightContain(final String key) {
+        var hash = fnv1a(key);
+        var h1 = mix(hash);
+        var h2 = mix(hash ^ GOLDEN_RATIO) | 1L;
+        for (var i = 0; i < hashCount; i++) {
+            var bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & 1L << bit) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estimate the probability of a false "might be present" from the share of bits set so far.
+     *
+     * @return probability between 0 and 1.
+     */
+    public double expectedFalsePositiveProbability() {
+        return Math.pow((double) setBits.get() / bitCount, hashCount);
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    private static long fnv1a(final String key) {
+        var hash = FNV_OFFSET_BASIS;
+        for (var b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(final long value) {
+        var hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.services.uniqueness;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.function.Predicate;
+
+/**
+ * In-memory pre-check of the values that must be unique within one domain, such as the emails of users.
+ * A value the {@link BloomFilter} has never seen is known to be free without asking the database.
+ * Otherwise the database is asked, and a value it does not know counts as a false positive.
+ * The unique constraint of the database stays the final authority on concurrent inserts.
+ *
+ * @param <K> type of the unique values.
+ * @author Evhen Malysh
+ */
+public class UniquenessFilter<K> {
+
+    static final String CHECKS_METRIC = "museum.uniqueness.checks";
+    static final String FALSE_POSITIVE_RATE_METRIC = "museum.uniqueness.false.positive.rate";
+    static final String EXPECTED_FALSE_POSITIVE_RATE_METRIC = "museum.uniqueness.expected.false.positive.rate";
+    private static final String DOMAIN_TAG = "domain";
+    private static final String RESULT_TAG = "result";
+
+    private final BloomFilter bloomFilter;
+    private final Counter absent;
+    private final Counter present;
+    private final Counter falsePositive;
+
+    /**
+     * Create a filter and register its metrics.
+     *
+     * @param domain        name of the uniqueness domain, used as metric tag.
+     * @param bloomFilter   Bloom filter holding the values.
+     * @param meterRegistry registry of the metrics.
+     */
+    public UniquenessFilter(final String domain, final BloomFilter bloomFilter, final MeterRegistry meterRegistry) {
+        this.bloomFilter = bloomFilter;
+        this.absent = check(domain, "absent", meterRegistry);
+        this.present = check(domain, "present", meterRegistry);
+        this.falsePositive = check(domain, "false_positive", meterRegistry);
+        Gauge.builder(FALSE_POSITIVE_RATE_METRIC, this, UniquenessFilter::falsePositiveRate)
+                .description("Share of the free values the filter could not tell apart from taken ones")
+                .tag(DOMAIN_TAG, domain)
+                .register(meterRegistry);
+        Gauge.builder(EXPECTED_FALSE_POSITIVE_RATE_METRIC, bloomFilter, BloomFilter::expectedFalsePositiveProbability)
+                .description("False positive probability estimated from the bits set in the filter")
+                .tag(DOMAIN_TAG, domain)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Check whether a value is taken, asking the database only if the filter might hold it.
+     *
+     * @param value the value.
+     * @param query database check of the value.
+     * @return true if the value is taken.
+     */
+    public boolean exists(final K value, final Predicate<K> query) {
+        if (!bloomFilter.mightContain(String.valueOf(value))) {
+            absent.increment();
+            return false;
+        }
+        if (query.test(value)) {
+            present.increment();
+            return true;
+        }
+        falsePositive.increment();
+        return false;
+    }
+
+    /**
+     * Record a taken value. Values are never removed, a freed value only becomes a false positive.
+     *
+     * @param value the value.
+     */
+    public void add(final K value) {
+        bloomFilter.add(String.valueOf(value));
+    }
+
+    /**
+     * @return share of the checks of free values that had to ask the database.
+     */
+    public double falsePositiveRate() {
+        var falsePositives = falsePositive.count();
+        var free = falsePositives + absent.count();
+        return free == 0 ? 0 : falsePositives / free;
+    }
+
+    private static Counter check(final String domain, final String result, final MeterRegistry meterRegistry) {
+        return Counter.builder(CHECKS_METRIC)
+                .description("Uniqueness checks by whether the database had to be asked and what it answered")
+                .tag(DOMAIN_TAG, domain)
+                .tag(RESULT_TAG, result)
+                .register(meterRegistry);
+    }
+}
@@ -1,12 +1,20 @@
 package com.example.services.users;
 
+import com.example.dto.lookup.BatchLookup;
+import com.example.dto.pagination.CursorPage;
+import com.example.dto.users.UserImportFormat;
+import com.example.dto.users.UserImportResult;
 import com.example.dto.users.UserRegistrationForm;
 import com.example.dto.users.UserResponse;
+import com.example.dto.versioning.ResourceVersion;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Service interface for handling operations related to users.
@@ -20,6 +28,30 @@ public interface UserService {
      */
     List<UserResponse> getAll();
 
+    /**
+     * Get a page of users, ordered by ID.
+     *
+     * @param cursor opaque cursor returned with the previous page, or null for the first page.
+     * @param size   requested page size, or null for the default one.
+     * @return CursorPage of users.
+     */
+    CursorPage<UserResponse> getPage(String cursor, @Positive Integer size);
+
+    /**
+     * Get the version of the user list, used as validator of conditional requests.
+     *
+     * @return ResourceVersion of the list, empty if there are no users.
+     */
+    Optional<ResourceVersion> getVersion();
+
+    /**
+     * Get the version of a specific user, used as validator of conditional requests.
+     *
+     * @param id The ID of the user.
+     * @return ResourceVersion of the user, empty if it is not found.
+     */
+    Optional<ResourceVersion> getVersionById(@NotNull @Positive Long id);
+
     /**
      * Get a specific user by ID.
      *
@@ -29,6 +61,15 @@ public interface UserService {
      */
     UserResponse getById(@NotNull @Positive Long id);
 
+    /**
+     * Get the users with the given IDs in one call.
+     * Repeated IDs are resolved once.
+     *
+     * @param ids IDs of the users, at most the configured maximum of distinct ones.
+     * @return BatchLookup with the found users in the order of the IDs and the IDs of the missing ones.
+     */
+    BatchLookup<UserResponse> getByIds(@NotEmpty List<@NotNull @Positive Long> ids);
+
     /**
      * Create a new user.
      *
@@ -36,4 +77,17 @@ public interface UserService {
      * @return The created User object.
      */
     UserResponse save(@NotNull @Valid UserRegistrationForm user);
+
+    /**
+     * Import users in bulk. Invalid rows are rejected, and rows with the email
+     * of an existing user or of an earlier row are skipped. Rows are written in
+     * batches which commit on their own, so a failed import keeps the batches
+     * written before the failure. Those rows are skipped as duplicates when the
+     * import is run again, so a failed import is safe to re-run.
+     *
+     * @param input  input of the import, read as UTF-8.
+     * @param format format of the input.
+     * @return UserImportResult with the number of imported, skipped and rejected rows.
+     */
+    UserImportResult importUsers(@NotNull InputStream input, @NotNull UserImportFormat format);
 }
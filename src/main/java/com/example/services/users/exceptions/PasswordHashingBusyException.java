@@ -0,0 +1,19 @@
+package com.example.services.users.exceptions;
+
+/**
+ * Exception thrown when a password cannot be hashed because
+ * the password hashing workers are saturated.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    /**
+     * Constructs a new PasswordHashingBusyException
+     * with the specified detail message.
+     *
+     * @param message The detail message describing
+     *                the reason for the exception.
+     */
+    public PasswordHashingBusyException(final String message) {
+        super(message);
+    }
+}
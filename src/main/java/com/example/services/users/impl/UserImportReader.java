@@ -0,0 +1,206 @@
+package com.example.services.users.impl;
+
+import com.example.dto.users.UserImportFormat;
+import com.example.dto.users.UserRegistrationForm;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the rows of a bulk user import lazily, so the input is never held in memory as a whole.
+ *
+ * @author Evhen Malysh
+ */
+final class UserImportReader {
+
+    static final List<String> CSV_COLUMNS = List.of("first_name", "last_name", "email", "password");
+    static final String MISSING_CSV_COLUMNS = "CSV header must name the columns " + String.join(", ", CSV_COLUMNS);
+    static final String UNTERMINATED_CSV_QUOTE = "CSV row %d has an unterminated quoted field";
+    static final String WRONG_CSV_COLUMN_COUNT = "Expected %d columns but got %d";
+    static final String INVALID_JSON = "Invalid JSON: %s";
+
+    private UserImportReader() {
+    }
+
+    /**
+     * A row of the import. Either the parsed form or the reason it could not be parsed is set.
+     *
+     * @param number number of the row, starting at 1 with the first data row.
+     * @param form   form parsed from the row.
+     * @param error  reason the row could not be parsed.
+     */
+    record Row(long number, UserRegistrationForm form, String error) {
+    }
+
+    /**
+     * Stream the rows of the input. Blank lines are skipped.
+     *
+     * @param reader       input of the import.
+     * @param format       format of the input.
+     * @param objectMapper mapper parsing the NDJSON rows.
+     * @return lazy stream of the rows.
+     * @throws IllegalArgumentException if a CSV input has no header naming all columns.
+     */
+    static Stream<Row> read(final BufferedReader reader,
+                            final UserImportFormat format,
+                            final ObjectMapper objectMapper) {
+        var spliterator = switch (format) {
+            case CSV -> new CsvRows(reader);
+            case NDJSON -> new NdjsonRows(reader, objectMapper);
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    private static final class CsvRows extends Spliterators.AbstractSpliterator<Row> {
+
+        private final BufferedReader reader;
+        private int[] columnIndexes;
+        private int columnCount;
+        private long number;
+
+        CsvRows(final BufferedReader reader) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Row> action) {
+            if (columnIndexes == null) {
+                readHeader();
+            }
+            var fields = nextRecord();
+            if (fields == null) {
+                return false;
+            }
+            number++;
+            if (fields.size() != columnCount) {
+                action.accept(new Row(number, null,
+                        String.format(WRONG_CSV_COLUMN_COUNT, columnCount, fields.size())));
+            } else {
+                action.accept(new Row(number, new UserRegistrationForm(
+                        fields.get(columnIndexes[0]),
+                        fields.get(columnIndexes[1]),
+                        fields.get(columnIndexes[2]),
+                        fields.get(columnIndexes[3])), null));
+            }
+            return true;
+        }
+
+        private void readHeader() {
+            var header = nextRecord();
+            if (header == null) {
+                throw new IllegalArgumentException(MISSING_CSV_COLUMNS);
+            }
+            var names = header.stream().map(String::trim).toList();
+            columnIndexes = CSV_COLUMNS.stream().mapToInt(names::indexOf).toArray();
+            columnCount = names.size();
+            for (var index : columnIndexes) {
+                if (index < 0) {
+                    throw new IllegalArgumentException(MISSING_CSV_COLUMNS);
+                }
+            }
+        }
+
+        /**
+         * Read the next record which is not a blank line.
+         *
+         * @return fields of the record, or null at the end of the input.
+         */
+        private List<String> nextRecord() {
+            try {
+                List<String> fields;
+                do {
+                    fields = readRecord();
+                } while (fields != null && fields.size() == 1 && fields.get(0).isEmpty());
+                return fields;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private List<String> readRecord() throws IOException {
+            var c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            var fields = new ArrayList<String>();
+            var field = new StringBuilder();
+            var quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException(String.format(UNTERMINATED_CSV_QUOTE, number + 1));
+                    }
+                    if (c == '"') {
+                        c = reader.read();
+                        if (c != '"') {
+                            quoted = false;
+                            continue;
+                        }
+                    }
+                    field.append((char) c);
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+    }
+
+    private static final class NdjsonRows extends Spliterators.AbstractSpliterator<Row> {
+
+        private final BufferedReader reader;
+        private final ObjectMapper objectMapper;
+        private long number;
+
+        NdjsonRows(final BufferedReader reader, final ObjectMapper objectMapper) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.reader = reader;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Row> action) {
+            String line;
+            try {
+                do {
+                    line = reader.readLine();
+                } while (line != null && line.isBlank());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (line == null) {
+                return false;
+            }
+            number++;
+            action.accept(parse(line));
+            return true;
+        }
+
+        private Row parse(final String line) {
+            try {
+                return new Row(number, objectMapper.readValue(line, UserRegistrationForm.class), null);
+            } catch (JsonProcessingException e) {
+                return new Row(number, null, String.format(INVALID_JSON, e.getOriginalMessage()));
+            }
+        }
+    }
+}
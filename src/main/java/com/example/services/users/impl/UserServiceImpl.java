@@ -1,20 +1,53 @@
 package com.example.services.users.impl;
 
+import com.example.config.BatchLookupProperties;
+import com.example.config.CacheConfig;
+import com.example.config.PaginationProperties;
+import com.example.config.UserImportProperties;
 import com.example.domain.users.User;
+import com.example.dto.lookup.BatchLookup;
+import com.example.dto.pagination.CursorPage;
+import com.example.dto.pagination.Cursors;
+import com.example.dto.users.UserImportFormat;
+import com.example.dto.users.UserImportRejection;
+import com.example.dto.users.UserImportResult;
+import com.example.dto.versioning.ResourceVersion;
 import com.example.dto.users.UserRegistrationForm;
 import com.example.dto.users.UserResponse;
 import com.example.repositories.users.UserRepository;
+import com.example.services.uniqueness.UniquenessFilter;
 import com.example.services.users.UserService;
 import com.example.services.users.exceptions.UserAlreadyExistsException;
 import com.example.services.users.exceptions.UserNotFoundException;
+import com.example.services.users.passwords.PasswordHasher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.validation.annotation.Validated;
 
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Supplier;
 
+import static com.example.constraints.users.UserConstraints.MAX_REPORTED_IMPORT_REJECTIONS;
+
 /**
  * Implementation of the UserService interface.
  *
@@ -28,10 +61,23 @@ public class UserServiceImpl implements UserService {
 
     public static final String USER_WITH_EMAIL_ALREADY_EXIST = "User with email: %s already exist.";
     public static final String USER_WITH_ID_NOT_FOUND = "User with ID: %d not found";
+    static final String IMPORT_ROWS_METRIC = "museum.users.import.rows";
+    static final String IMPORT_THROUGHPUT_METRIC = "museum.users.import.throughput";
+    private static final String RESULT_TAG = "result";
+    private static final String FORMAT_TAG = "format";
     /**
      *
      */
     private final UserRepository userRepository;
+    private final PaginationProperties paginationProperties;
+    private final BatchLookupProperties batchLookupProperties;
+    private final UniquenessFilter<String> userEmails;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final UserImportProperties userImportProperties;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
 
     private static Supplier<UserNotFoundException> getUserNotFoundExceptionSupplier(Long id) {
         return () -> new UserNotFoundException(
@@ -52,6 +98,31 @@ public class UserServiceImpl implements UserService {
         return allUsers;
     }
 
+    /**
+     * Get a page of users, ordered by ID.
+     *
+     * @param cursor opaque cursor returned with the previous page, or null for the first page.
+     * @param size   requested page size, or null for the default one.
+     * @return CursorPage of users.
+     */
+    @Override
+    public CursorPage<UserResponse> getPage(final String cursor, final Integer size) {
+        var pageSize = paginationProperties.resolve(size);
+        var users = userRepository.findDtosAfterId(
+                Cursors.decodeId(cursor), Pageable.ofSize(pageSize + 1));
+        return CursorPage.of(users, pageSize, user -> Cursors.encodeId(user.id()));
+    }
+
+    @Override
+    public Optional<ResourceVersion> getVersion() {
+        return userRepository.findVersion();
+    }
+
+    @Override
+    public Optional<ResourceVersion> getVersionById(final Long id) {
+        return userRepository.findVersionById(id);
+    }
+
     /**
      * Get a specific user by ID.
      *
@@ -59,22 +130,43 @@ public class UserServiceImpl implements UserService {
      * @return UserResponse representing the requested user.
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#id")
     public UserResponse getById(final Long id) {
         return userRepository.findDtoById(id)
                 .orElseThrow(getUserNotFoundExceptionSupplier(id));
     }
 
+    /**
+     * Get the users with the given IDs with one query.
+     *
+     * @param ids IDs of the users, possibly repeated.
+     * @return BatchLookup with the found users in the order of the IDs and the IDs of the missing ones.
+     * @throws IllegalArgumentException if there are more distinct IDs than the configured maximum.
+     */
+    @Override
+    public BatchLookup<UserResponse> getByIds(final List<Long> ids) {
+        var distinctIds = batchLookupProperties.distinct(ids);
+        return BatchLookup.of(distinctIds,
+                userRepository.findDtosByIdIn(distinctIds),
+                UserResponse::id);
+    }
+
     /**
      * Create a new user.
+     * The email is checked against an in-memory uniqueness filter first,
+     * so the database is only asked about emails the filter might hold.
+     * The password is hashed before the transaction begins, so no database
+     * connection is held while waiting for the hashing workers.
      *
      * @param registrationForm The form containing the details of the new user.
      * @return The created user.
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @CachePut(cacheNames = CacheConfig.USERS, key = "#result.id()")
     public UserResponse save(final UserRegistrationForm registrationForm) {
         var email = registrationForm.email();
-        if (isPresent(email)) {
+        if (userEmails.exists(email, userRepository::existsByEmail)) {
             throw new UserAlreadyExistsException(
                     String.format(USER_WITH_EMAIL_ALREADY_EXIST, email));
         }
@@ -82,13 +174,128 @@ public class UserServiceImpl implements UserService {
                 registrationForm.firstName(),
                 registrationForm.lastName(),
                 registrationForm.email(),
-                registrationForm.password()
+                passwordHasher.hash(registrationForm.password())
         );
-        var savedUserId = userRepository.save(userToSave).getId();
-        return getById(savedUserId);
+        return transactionTemplate.execute(status -> {
+            Long savedUserId;
+            try {
+                savedUserId = userRepository.saveAndFlush(userToSave).getId();
+            } catch (DataIntegrityViolationException e) {
+                throw new UserAlreadyExistsException(
+                        String.format(USER_WITH_EMAIL_ALREADY_EXIST, email));
+            }
+            userEmails.add(email);
+            return getById(savedUserId);
+        });
+    }
+
+    /**
+     * Import users in bulk. Rows are read and validated one at a time, and the valid
+     * ones are imported in batches, so memory use does not depend on the size of the input.
+     * The passwords of a batch are hashed in parallel before its transaction begins,
+     * waiting for the hashing workers rather than failing when they are busy, and each
+     * batch is then written in a short transaction of its own. An input which turns out
+     * to be malformed partway through fails the import with the batches before it left
+     * committed; existing emails are skipped on insert, so the import can be re-run.
+     * The throughput is recorded in rows per second.
+     *
+     * @param input  input of the import, read as UTF-8.
+     * @param format format of the input.
+     * @return UserImportResult with the number of imported, skipped and rejected rows.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public UserImportResult importUsers(final InputStream input, final UserImportFormat format) {
+        var startedAt = System.nanoTime();
+        var tally = new ImportTally();
+        var reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        var batch = new ArrayList<UserRegistrationForm>(userImportProperties.batchSize());
+        var imported = 0L;
+        try (var rows = UserImportReader.read(reader, format, objectMapper)) {
+            for (var iterator = rows.filter(tally::accept).iterator(); iterator.hasNext(); ) {
+                batch.add(iterator.next().form());
+                if (batch.size() == userImportProperties.batchSize()) {
+                    imported += importBatch(batch);
+                    batch.clear();
+                }
+            }
+        }
+        imported += importBatch(batch);
+
+        var result = tally.result(imported);
+        recordImport(format, result, System.nanoTime() - startedAt);
+        return result;
+    }
+
+    private int importBatch(final List<UserRegistrationForm> forms) {
+        if (forms.isEmpty()) {
+            return 0;
+        }
+        var passwords = passwordHasher.hashAll(forms.stream().map(UserRegistrationForm::password).toList());
+        var hashed = new ArrayList<UserRegistrationForm>(forms.size());
+        for (var i = 0; i < forms.size(); i++) {
+            var form = forms.get(i);
+            hashed.add(new UserRegistrationForm(form.firstName(), form.lastName(), form.email(), passwords.get(i)));
+        }
+        var importedEmails = Objects.requireNonNull(
+                transactionTemplate.execute(status -> userRepository.importAll(hashed.stream())));
+        importedEmails.forEach(userEmails::add);
+        return importedEmails.size();
+    }
+
+    private void recordImport(final UserImportFormat format, final UserImportResult result, final long nanos) {
+        countImportRows("imported", result.imported());
+        countImportRows("duplicate", result.duplicates());
+        countImportRows("rejected", result.rejected());
+        if (nanos > 0) {
+            DistributionSummary.builder(IMPORT_THROUGHPUT_METRIC)
+                    .description("Rows read per second by one bulk user import")
+                    .baseUnit("rows/s")
+                    .tag(FORMAT_TAG, format.name())
+                    .register(meterRegistry)
+                    .record(result.received() * 1e9 / nanos);
+        }
+    }
+
+    private void countImportRows(final String result, final long rows) {
+        Counter.builder(IMPORT_ROWS_METRIC)
+                .description("Rows of bulk user imports by their outcome")
+                .tag(RESULT_TAG, result)
+                .register(meterRegistry)
+                .increment(rows);
+    }
+
+    /**
+     * Counts the rows of an import while they are streamed and keeps the first rejections.
+     */
+    private final class ImportTally {
+
+        private final List<UserImportRejection> rejections = new ArrayList<>();
+        private long received;
+        private long rejected;
+
+        boolean accept(final UserImportReader.Row row) {
+            received++;
+            var errors = row.error() != null ? List.of(row.error()) : validate(row.form());
+            if (errors.isEmpty()) {
+                return true;
+            }
+            if (rejected++ < MAX_REPORTED_IMPORT_REJECTIONS) {
+                rejections.add(new UserImportRejection(row.number(), errors));
+            }
+            return false;
+        }
+
+        UserImportResult result(final long imported) {
+            return new UserImportResult(received, imported, received - rejected - imported, rejected,
+                    List.copyOf(rejections));
+        }
     }
 
-    private boolean isPresent(String email) {
-        return userRepository.existsByEmail(email);
+    private List<String> validate(final UserRegistrationForm form) {
+        return validator.validate(form).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
     }
 }
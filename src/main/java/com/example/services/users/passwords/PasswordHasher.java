@@ -0,0 +1,224 @@
+package com.example.services.users.passwords;
+
+import com.example.config.PasswordHashingProperties;
+import com.example.services.users.exceptions.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hashes passwords with PBKDF2 on a small dedicated pool of threads, so the CPU
+ * spent on registrations is bounded and request threads serving reads keep theirs.
+ * At most {@code threads + queueSize} passwords are admitted at once; further callers
+ * wait up to the queue timeout and are then turned away with
+ * {@link PasswordHashingBusyException} instead of piling up. Bulk hashing takes the
+ * same admissions but waits for them as long as it takes, and keeps no more passwords
+ * in flight than there are threads, so the queue is left to single registrations.
+ * <p>
+ * The iterations of new hashes follow the measured cost of an iteration, so that a
+ * hash takes about the target duration, within the configured bounds. Every hash
+ * records its iterations, so passwords hashed at any cost can still be verified.
+ *
+ * @author Evhen Malysh
+ */
+@Component
+public class PasswordHasher {
+
+    static final String ALGORITHM = "pbkdf2-sha256";
+    static final String HASHING_METRIC = "museum.users.password.hashing";
+    static final String ITERATIONS_METRIC = "museum.users.password.hashing.iterations";
+    static final String REJECTED_METRIC = "museum.users.password.hashing.rejected";
+    static final String BUSY = "Password hashing is saturated, retry later";
+
+    private static final String KEY_ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String SEPARATOR = "$";
+    private static final int SALT_BYTES = 16;
+    private static final int KEY_BITS = 256;
+    private static final int ITERATIONS_STEP = 1000;
+    private static final double SMOOTHING = 0.2;
+
+    private final PasswordHashingProperties properties;
+    private final ExecutorService workers;
+    private final ThreadPoolExecutor pool;
+    private final Semaphore admissions;
+    private final SecureRandom random = new SecureRandom();
+    private final AtomicInteger iterations;
+    private final AtomicLong nanosPerIterationBits = new AtomicLong(Double.doubleToLongBits(0));
+    private final Timer hashing;
+    private final Counter rejected;
+
+    public PasswordHasher(final PasswordHashingProperties properties, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.iterations = new AtomicInteger(properties.minIterations());
+        this.admissions = new Semaphore(properties.threads() + properties.queueSize(), true);
+        this.pool = new ThreadPoolExecutor(properties.threads(), properties.threads(),
+                0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("password-hashing-"));
+        this.workers = ExecutorServiceMetrics.monitor(meterRegistry, pool, "passwordHashing");
+        this.hashing = Timer.builder(HASHING_METRIC)
+                .description("Time spent computing one password hash")
+                .register(meterRegistry);
+        this.rejected = Counter.builder(REJECTED_METRIC)
+                .description("Passwords turned away because the hashing workers were saturated")
+                .register(meterRegistry);
+        Gauge.builder(ITERATIONS_METRIC, iterations, AtomicInteger::get)
+                .description("Iterations of newly hashed passwords")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hash a password with a random salt.
+     *
+     * @param rawPassword password to hash.
+     * @return encoded hash with its algorithm, iterations and salt.
+     * @throws PasswordHashingBusyException if no worker becomes available within the queue timeout.
+     */
+    public String hash(final String rawPassword) {
+        return submit(() -> newHash(rawPassword));
+    }
+
+    /**
+     * Hash passwords in parallel on the workers, waiting for them instead of giving up.
+     *
+     * @param rawPasswords passwords to hash.
+     * @return encoded hashes in the order of the passwords.
+     * @throws PasswordHashingBusyException if the calling thread is interrupted while waiting.
+     */
+    public List<String> hashAll(final List<String> rawPasswords) {
+        var hashes = new ArrayList<Future<String>>(rawPasswords.size());
+        try {
+            for (var rawPassword : rawPasswords) {
+                if (hashes.size() >= properties.threads()) {
+                    hashes.get(hashes.size() - properties.threads()).get();
+                }
+                admissions.acquire();
+                hashes.add(workers.submit(() -> {
+                    try {
+                        return hashing.recordCallable(() -> newHash(rawPassword));
+                    } finally {
+                        admissions.release();
+                    }
+                }));
+            }
+            var encoded = new ArrayList<String>(hashes.size());
+            for (var hash : hashes) {
+                encoded.add(hash.get());
+            }
+            return encoded;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException(BUSY);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Iterations used for newly hashed passwords.
+     *
+     * @return current iterations.
+     */
+    public int getIterations() {
+        return iterations.get();
+    }
+
+    @PreDestroy
+    void close() {
+        pool.shutdown();
+    }
+
+    private <T> T submit(final Callable<T> task) {
+        try {
+            if (!admissions.tryAcquire(properties.queueTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new PasswordHashingBusyException(BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException(BUSY);
+        }
+        try {
+            return workers.submit(() -> hashing.recordCallable(task)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException(BUSY);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } finally {
+            admissions.release();
+        }
+    }
+
+    private static RuntimeException unwrap(final ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(e.getCause());
+    }
+
+    private String newHash(final String rawPassword) {
+        var salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        var cost = iterations.get();
+        var startedAt = System.nanoTime();
+        var hash = pbkdf2(rawPassword, salt, cost);
+        adapt(cost, System.nanoTime() - startedAt);
+        return encode(cost, salt, hash);
+    }
+
+    /**
+     * Fold the cost of the last hash into the running average cost of an iteration
+     * and size the next hashes to the target duration.
+     */
+    private void adapt(final int cost, final long nanos) {
+        var sample = (double) nanos / cost;
+        var average = Double.longBitsToDouble(nanosPerIterationBits.updateAndGet(bits -> {
+            var previous = Double.longBitsToDouble(bits);
+            var next = previous == 0 ? sample : previous + SMOOTHING * (sample - previous);
+            return Double.doubleToLongBits(next);
+        }));
+        var target = properties.targetDuration().toNanos() / average;
+        var rounded = Math.round(target / ITERATIONS_STEP) * ITERATIONS_STEP;
+        iterations.set((int) Math.max(properties.minIterations(), Math.min(properties.maxIterations(), rounded)));
+    }
+
+    static byte[] pbkdf2(final String rawPassword, final byte[] salt, final int cost) {
+        var spec = new PBEKeySpec(rawPassword.toCharArray(), salt, cost, KEY_BITS);
+        try {
+            return SecretKeyFactory.getInstance(KEY_ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    private static String encode(final int cost, final byte[] salt, final byte[] hash) {
+        var encoder = Base64.getEncoder().withoutPadding();
+        return String.join(SEPARATOR, ALGORITHM, String.valueOf(cost),
+                encoder.encodeToString(salt), encoder.encodeToString(hash));
+    }
+}
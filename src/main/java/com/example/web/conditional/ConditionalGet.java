@@ -0,0 +1,43 @@
+package com.example.web.conditional;
+
+import com.example.dto.versioning.ResourceVersion;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET support of the read endpoints.
+ *
+ * @author Evhen Malysh
+ */
+public class ConditionalGet {
+
+    private ConditionalGet() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Answer 304 Not Modified if the request validators match the current version,
+     * without loading the body. Otherwise load the body and answer 200 OK.
+     * Both responses carry the ETag and Last-Modified headers of the version.
+     * The version is read before the body, so the body is never older than its ETag.
+     *
+     * @param request current request.
+     * @param version current version of the resource, empty if unknown.
+     * @param body    supplier of the response body.
+     * @param <T>     type of the response body.
+     * @return 304 response without body, or 200 response with the supplied body.
+     */
+    public static <T> ResponseEntity<T> ifModified(final WebRequest request,
+                                                   final Optional<ResourceVersion> version,
+                                                   final Supplier<T> body) {
+        if (version.isPresent()
+                && request.checkNotModified(version.get().eTag(), version.get().lastModifiedMillis())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(body.get());
+    }
+}
@@ -1,7 +1,12 @@
 package com.example.web.exceptionhandler;
 
 import com.example.services.museum.exceptions.ArticleNotFoundException;
+import com.example.services.museum.exceptions.AuthorAlreadyExistException;
+import com.example.services.museum.exceptions.AuthorNotFoundException;
+import com.example.services.museum.exceptions.EventFullException;
 import com.example.services.museum.exceptions.EventNotFoundException;
+import com.example.services.museum.exceptions.ReservationTimeoutException;
+import com.example.services.users.exceptions.PasswordHashingBusyException;
 import com.example.services.users.exceptions.UserAlreadyExistsException;
 import com.example.services.users.exceptions.UserNotFoundException;
 import jakarta.validation.ConstraintViolationException;
@@ -23,6 +28,8 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 @RestControllerAdvice
 public class RestExceptionHandler extends ResponseEntityExceptionHandler {
 
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     /**
      * Handle bad requests.
      *
@@ -51,6 +58,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
      */
     @ExceptionHandler({
             ArticleNotFoundException.class,
+            AuthorNotFoundException.class,
             EventNotFoundException.class,
             UserNotFoundException.class})
     @ResponseStatus(code = HttpStatus.NOT_FOUND)
@@ -59,4 +67,40 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         return handleExceptionInternal(ex, ex.getMessage(),
                 new HttpHeaders(), HttpStatus.NOT_FOUND, request);
     }
+
+    /**
+     * Handle requests conflicting with the current state of a resource.
+     *
+     * @param ex      handled exception
+     * @param request web request
+     * @return ResponseEntity with 409 HTTP status code
+     */
+    @ExceptionHandler({
+            AuthorAlreadyExistException.class,
+            EventFullException.class})
+    @ResponseStatus(code = HttpStatus.CONFLICT)
+    protected final ResponseEntity<Object> handleConflict(
+            final RuntimeException ex, final WebRequest request) {
+        return handleExceptionInternal(ex, ex.getMessage(),
+                new HttpHeaders(), HttpStatus.CONFLICT, request);
+    }
+
+    /**
+     * Handle requests turned away because the server is saturated.
+     *
+     * @param ex      handled exception
+     * @param request web request
+     * @return ResponseEntity with 503 HTTP status code
+     */
+    @ExceptionHandler({
+            PasswordHashingBusyException.class,
+            ReservationTimeoutException.class})
+    @ResponseStatus(code = HttpStatus.SERVICE_UNAVAILABLE)
+    protected final ResponseEntity<Object> handleServiceUnavailable(
+            final RuntimeException ex, final WebRequest request) {
+        var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        return handleExceptionInternal(ex, ex.getMessage(),
+                headers, HttpStatus.SERVICE_UNAVAILABLE, request);
+    }
 }
@@ -1,9 +1,18 @@
 package com.example.web.museum.controllers;
 
+import com.example.config.ArticleExportProperties;
+import com.example.domain.museum.Article;
+import com.example.dto.lookup.BatchLookup;
 import com.example.dto.museum.article.ArticlePublishingForm;
+import com.example.dto.museum.article.ArticlePublishingResult;
+import com.example.dto.museum.article.ArticleSearchResult;
 import com.example.dto.museum.article.ArticleWithContent;
 import com.example.dto.museum.article.ArticleWithoutContent;
+import com.example.dto.museum.article.TagMatch;
+import com.example.dto.pagination.CursorPage;
 import com.example.services.museum.ArticleService;
+import com.example.web.conditional.ConditionalGet;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -11,14 +20,35 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.zip.GZIPOutputStream;
+
+import static com.example.constraints.museum.ArticleConstraints.MAX_BULK_SIZE;
 
 /**
  * REST controller for managing museum articles.
@@ -32,11 +62,19 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ArticleController {
 
+    private static final String GZIP = "gzip";
+    private static final String ANY_ENCODING = "*";
+    private static final String QUALITY = "q=";
+    private static final String EXPORT_TIMEOUT = ArticleController.class.getName() + ".EXPORT_TIMEOUT";
+
     private final ArticleService articleService;
+    private final ObjectMapper objectMapper;
+    private final ArticleExportProperties articleExportProperties;
 
     /**
      * Get a list of all articles with content.
      *
+     * @param request Current request with the validators of a conditional GET.
      * @return List of articles.
      */
     @GetMapping("/by-author/{authorId}")
@@ -47,16 +85,21 @@ public class ArticleController {
                     description = "Successfully retrieved the list of articles",
                     content = @Content(
                             mediaType = "application/json",
-                            schema = @Schema(implementation = ArticleWithContent.class)))})
-    @ResponseStatus(code = HttpStatus.OK)
-    public List<ArticleWithContent> getAllWithBodyByAuthorId(
-            @PathVariable @NotNull @Positive final Long authorId) {
-        return articleService.getAllWithContentByAuthorId(authorId);
+                            schema = @Schema(implementation = ArticleWithContent.class))),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the version given by If-None-Match or If-Modified-Since")})
+    public ResponseEntity<List<ArticleWithContent>> getAllWithBodyByAuthorId(
+            @PathVariable @NotNull @Positive final Long authorId,
+            final WebRequest request) {
+        return ConditionalGet.ifModified(request, articleService.getVersionByAuthorId(authorId),
+                () -> articleService.getAllWithContentByAuthorId(authorId));
     }
 
     /**
      * Get a list of all articles without content.
      *
+     * @param request Current request with the validators of a conditional GET.
      * @return List of articles.
      */
     @GetMapping
@@ -67,16 +110,184 @@ public class ArticleController {
                     description = "Successfully retrieved the list of articles",
                     content = @Content(
                             mediaType = "application/json",
-                            schema = @Schema(implementation = ArticleWithoutContent.class)))})
-    @ResponseStatus(code = HttpStatus.OK)
-    public List<ArticleWithoutContent> getAllWithoutBody() {
-        return articleService.getAllWithoutContent();
+                            schema = @Schema(implementation = ArticleWithoutContent.class))),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the version given by If-None-Match or If-Modified-Since")})
+    public ResponseEntity<List<ArticleWithoutContent>> getAllWithoutBody(final WebRequest request) {
+        return ConditionalGet.ifModified(request, articleService.getVersion(),
+                articleService::getAllWithoutContent);
+    }
+
+    /**
+     * Get the articles with the given IDs in one call without their content.
+     *
+     * @param ids IDs of the articles, repeated IDs are resolved once.
+     * @return Found articles in the order of the IDs, with the IDs of the missing ones.
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get the articles with the given IDs in one call")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully resolved the IDs",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BatchLookup.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "IDs are invalid or too many")})
+    public BatchLookup<ArticleWithoutContent> getByIds(
+            @RequestParam @NotEmpty final List<@NotNull @Positive Long> ids) {
+        return articleService.getByIds(ids);
+    }
+
+    /**
+     * Get a page of articles without content, ordered by ID.
+     *
+     * @param cursor  Cursor returned with the previous page, absent for the first page.
+     * @param size    Requested page size, capped by the configured maximum.
+     * @param request Current request with the validators of a conditional GET.
+     * @return Page of articles without content with the cursor of the next page.
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of articles without content, ordered by ID")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the page of articles without content",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor or page size"),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the version given by If-None-Match or If-Modified-Since")})
+    public ResponseEntity<CursorPage<ArticleWithoutContent>> getPageWithoutBody(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) @Positive final Integer size,
+            final WebRequest request) {
+        return ConditionalGet.ifModified(request, articleService.getVersion(),
+                () -> articleService.getPageWithoutContent(cursor, size));
+    }
+
+    /**
+     * Get a page of articles without content having any or all of the given tags, ordered by ID.
+     *
+     * @param tags    Tags to match.
+     * @param match   Whether articles must have any (default) or all of the tags.
+     * @param cursor  Cursor returned with the previous page, absent for the first page.
+     * @param size    Requested page size, capped by the configured maximum.
+     * @param request Current request with the validators of a conditional GET.
+     * @return Page of articles without content with the cursor of the next page.
+     */
+    @GetMapping("/by-tags")
+    @Operation(summary = "Get a page of articles without content having any or all of the given tags")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the page of articles without content",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Missing or unknown tags, invalid cursor or page size"),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the version given by If-None-Match or If-Modified-Since")})
+    public ResponseEntity<CursorPage<ArticleWithoutContent>> getPageByTags(
+            @RequestParam @NotEmpty final Set<Article.ArticleTag> tags,
+            @RequestParam(defaultValue = "ANY") final TagMatch match,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) @Positive final Integer size,
+            final WebRequest request) {
+        return ConditionalGet.ifModified(request, articleService.getVersion(),
+                () -> articleService.getPageByTags(tags, match, cursor, size));
+    }
+
+    /**
+     * Search articles by title and content, best matches first.
+     *
+     * @param query   Web search style query, supports quoted phrases, OR and -exclusions.
+     * @param cursor  Cursor returned with the previous page, absent for the first page.
+     * @param size    Requested page size, capped by the configured maximum.
+     * @param request Current request with the validators of a conditional GET.
+     * @return Page of ranked articles with highlighted content fragments.
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Full-text search over article titles and content")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the page of matching articles",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Blank query, invalid cursor or page size"),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the version given by If-None-Match or If-Modified-Since")})
+    public ResponseEntity<CursorPage<ArticleSearchResult>> search(
+            @RequestParam @NotBlank final String query,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) @Positive final Integer size,
+            final WebRequest request) {
+        return ConditionalGet.ifModified(request, articleService.getVersion(),
+                () -> articleService.search(query, cursor, size));
+    }
+
+    /**
+     * Export all articles with content as newline delimited JSON.
+     * Articles are written to the response as they are read from the database.
+     * If the client disconnects, the export fails on the next write and the
+     * database cursor is closed.
+     *
+     * The export may run for the configured export timeout, longer than other
+     * asynchronous requests.
+     *
+     * @param acceptEncoding Accept-Encoding header of the request.
+     * @param request        Current request.
+     * @return Streamed NDJSON body, gzip compressed if the client accepts it.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all articles with content as newline delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully streamed all articles, one JSON object per line",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = ArticleWithContent.class)))})
+    public ResponseEntity<StreamingResponseBody> exportWithBody(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding,
+            final WebRequest request) {
+        setAsyncTimeout(request, articleExportProperties.timeout());
+        var gzip = acceptsGzip(acceptEncoding);
+        var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!gzip) {
+            return response.body(this::writeArticles);
+        }
+        return response
+                .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                .body(outputStream -> {
+                    var gzipOutputStream = new GZIPOutputStream(outputStream);
+                    writeArticles(gzipOutputStream);
+                    gzipOutputStream.finish();
+                });
     }
 
     /**
      * Get a specific article by its ID.
      *
      * @param id The ID of the article.
+     * @param request Current request with the validators of a conditional GET.
      * @return The article with the given ID.
      */
     @GetMapping("/{id}")
@@ -90,11 +301,15 @@ public class ArticleController {
                             schema = @Schema(implementation = ArticleWithContent.class))),
             @ApiResponse(
                     responseCode = "404",
-                    description = "Article not found")})
-    @ResponseStatus(HttpStatus.OK)
-    public ArticleWithContent getById(
-            @PathVariable @NotNull @Positive final Long id) {
-        return articleService.getById(id);
+                    description = "Article not found"),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the version given by If-None-Match or If-Modified-Since")})
+    public ResponseEntity<ArticleWithContent> getById(
+            @PathVariable @NotNull @Positive final Long id,
+            final WebRequest request) {
+        return ConditionalGet.ifModified(request, articleService.getVersionById(id),
+                () -> articleService.getById(id));
     }
 
     /**
@@ -118,6 +333,30 @@ public class ArticleController {
         return articleService.save(article);
     }
 
+    /**
+     * Create new articles in bulk.
+     *
+     * @param articles The articles to create.
+     * @return The outcome of each article, in the order of the request.
+     */
+    @PostMapping("/bulk")
+    @Operation(summary = "Create new articles in bulk")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Valid articles created, invalid ones rejected with their errors",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ArticlePublishingResult.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Too many articles in a single request")})
+    @ResponseStatus(HttpStatus.OK)
+    public List<ArticlePublishingResult> createAll(
+            @RequestBody @NotNull @Size(max = MAX_BULK_SIZE) final List<ArticlePublishingForm> articles) {
+        return articleService.saveAll(articles);
+    }
+
     /**
      * Update a title of an existing article.
      *
@@ -171,4 +410,77 @@ public class ArticleController {
     public void deleteById(@PathVariable @NotNull @Positive final Long id) {
         articleService.deleteById(id);
     }
+
+    /**
+     * Check whether an Accept-Encoding header allows a gzip response. A coding
+     * with quality {@code q=0} is refused, and gzip falls back on the quality of
+     * the wildcard when it is not listed itself.
+     *
+     * @param acceptEncoding Accept-Encoding header, may be null.
+     * @return true if the response may be gzip compressed.
+     */
+    static boolean acceptsGzip(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        var anyAccepted = false;
+        for (var coding : acceptEncoding.split(",")) {
+            var parameters = coding.split(";");
+            var name = parameters[0].trim();
+            var accepted = true;
+            for (var i = 1; i < parameters.length; i++) {
+                var parameter = parameters[i].trim();
+                if (parameter.regionMatches(true, 0, QUALITY, 0, QUALITY.length())) {
+                    accepted = quality(parameter.substring(QUALITY.length())) > 0;
+                }
+            }
+            if (name.equalsIgnoreCase(GZIP)) {
+                return accepted;
+            }
+            if (name.equals(ANY_ENCODING)) {
+                anyAccepted = accepted;
+            }
+        }
+        return anyAccepted;
+    }
+
+    /**
+     * Replace the default timeout of an asynchronous request with the given one,
+     * once the request goes asynchronous.
+     */
+    private static void setAsyncTimeout(final WebRequest request, final Duration timeout) {
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_TIMEOUT,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void beforeConcurrentHandling(final NativeWebRequest asyncRequest,
+                                                             final Callable<T> task) {
+                        if (asyncRequest instanceof AsyncWebRequest asyncWebRequest) {
+                            asyncWebRequest.setTimeout(timeout.toMillis());
+                        }
+                    }
+                });
+    }
+
+    private static double quality(final String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void writeArticles(final OutputStream outputStream) throws IOException {
+        try {
+            articleService.exportAllWithContent(article -> {
+                try {
+                    outputStream.write(objectMapper.writeValueAsBytes(article));
+                    outputStream.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
 }
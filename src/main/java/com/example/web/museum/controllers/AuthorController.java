@@ -1,8 +1,12 @@
 package com.example.web.museum.controllers;
 
+import com.example.dto.lookup.BatchLookup;
+import com.example.dto.museum.author.AuthorProfile;
 import com.example.dto.museum.author.AuthorRegistrationForm;
 import com.example.dto.museum.author.AuthorShortResponse;
+import com.example.dto.pagination.CursorPage;
 import com.example.services.museum.AuthorService;
+import com.example.web.conditional.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,12 +14,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -36,6 +43,7 @@ public class AuthorController {
     /**
      * Get a list of all authors.
      *
+     * @param request Current request with the validators of a conditional GET.
      * @return List of all authors.
      */
     @GetMapping
@@ -49,15 +57,74 @@ public class AuthorController {
                             schema = @Schema(implementation = AuthorShortResponse.class))}),
             @ApiResponse(
                     responseCode = "404",
-                    description = "No authors is found")})
-    public List<AuthorShortResponse> getAll() {
-        return authorService.getAllAuthors();
+                    description = "No authors is found"),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the version given by If-None-Match or If-Modified-Since")})
+    public ResponseEntity<List<AuthorShortResponse>> getAll(final WebRequest request) {
+        return ConditionalGet.ifModified(request, authorService.getVersion(),
+                authorService::getAllAuthors);
+    }
+
+    /**
+     * Get the authors with the given IDs in one call.
+     *
+     * @param ids IDs of the authors, repeated IDs are resolved once.
+     * @return Found authors in the order of the IDs, with the IDs of the missing ones.
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get the authors with the given IDs in one call")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully resolved the IDs",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BatchLookup.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "IDs are invalid or too many")})
+    public BatchLookup<AuthorShortResponse> getByIds(
+            @RequestParam @NotEmpty final List<@NotNull @Positive Long> ids) {
+        return authorService.getByIds(ids);
+    }
+
+    /**
+     * Get a page of authors, ordered by ID.
+     *
+     * @param cursor  Cursor returned with the previous page, absent for the first page.
+     * @param size    Requested page size, capped by the configured maximum.
+     * @param request Current request with the validators of a conditional GET.
+     * @return Page of authors with the cursor of the next page.
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of authors, ordered by ID")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the page of authors",
+                    content = {@Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPage.class))}),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor or page size"),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the version given by If-None-Match or If-Modified-Since")})
+    public ResponseEntity<CursorPage<AuthorShortResponse>> getPage(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) @Positive final Integer size,
+            final WebRequest request) {
+        return ConditionalGet.ifModified(request, authorService.getVersion(),
+                () -> authorService.getPage(cursor, size));
     }
 
     /**
      * Get a specific author by ID.
      *
      * @param id The ID of the author to retrieve.
+     * @param request Current request with the validators of a conditional GET.
      * @return The Author object representing the requested author.
      */
     @GetMapping("/{id}")
@@ -72,12 +139,43 @@ public class AuthorController {
             @ApiResponse(
                     responseCode = "400",
                     description = "Id is invalid"),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Author not found"),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the version given by If-None-Match or If-Modified-Since")})
+    public ResponseEntity<AuthorShortResponse> getById(
+            @PathVariable @NotNull @Positive final Long id,
+            final WebRequest request) {
+        return ConditionalGet.ifModified(request, authorService.getVersionById(id),
+                () -> authorService.getById(id));
+    }
+
+    /**
+     * Get the profile of an author: the author with the number of their articles,
+     * their latest articles and their upcoming events.
+     *
+     * @param id The ID of the author.
+     * @return The profile of the author.
+     */
+    @GetMapping("/{id}/profile")
+    @Operation(summary = "Get the profile of an author with their latest articles and upcoming events")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the profile of the author",
+                    content = {@Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AuthorProfile.class))}),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Id is invalid"),
             @ApiResponse(
                     responseCode = "404",
                     description = "Author not found")})
-    @ResponseStatus(HttpStatus.OK)
-    public AuthorShortResponse getById(@PathVariable @NotNull @Positive final Long id) {
-        return authorService.getById(id);
+    public AuthorProfile getProfile(@PathVariable @NotNull @Positive final Long id) {
+        return authorService.getProfile(id);
     }
 
     /**
@@ -97,7 +195,10 @@ public class AuthorController {
                             schema = @Schema(implementation = AuthorShortResponse.class))}),
             @ApiResponse(
                     responseCode = "400",
-                    description = "Order is invalid or already exists")})
+                    description = "Author is invalid"),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Author with the username or user already exists")})
     @ResponseStatus(HttpStatus.CREATED)
     public AuthorShortResponse create(
             @RequestBody @NotNull @Valid final AuthorRegistrationForm authorRegistrationForm) {
@@ -125,7 +226,10 @@ public class AuthorController {
                     description = "ID or author`s username is invalid"),
             @ApiResponse(
                     responseCode = "404",
-                    description = "No existing author found by given ID to update")})
+                    description = "No existing author found by given ID to update"),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Username is taken by another author")})
     @ResponseStatus(HttpStatus.OK)
     public AuthorShortResponse updateUsername(@PathVariable @NotNull @Positive final Long id,
                          @RequestBody @NotNull @Valid final String username) {
@@ -1,9 +1,20 @@
 package com.example.web.museum.controllers;
 
+import com.example.domain.museum.Event;
+import com.example.dto.lookup.BatchLookup;
+import com.example.dto.museum.event.EventCalendarBucket;
+import com.example.dto.museum.event.EventCalendarPeriod;
+import com.example.dto.museum.event.EventChange;
+import com.example.dto.museum.event.EventFilter;
 import com.example.dto.museum.event.EventPublishingForm;
+import com.example.dto.museum.event.EventRescheduleForm;
 import com.example.dto.museum.event.EventWithContent;
 import com.example.dto.museum.event.EventWithoutContent;
+import com.example.dto.pagination.CursorPage;
+import com.example.dto.versioning.ResourceVersion;
 import com.example.services.museum.EventService;
+import com.example.web.conditional.ConditionalGet;
+import com.example.web.streams.EventChangeBroadcaster;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -11,14 +22,23 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * REST controller for managing museum events.
@@ -32,11 +52,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EventController {
 
+    private static final String CALENDAR_MEDIA_TYPE = "text/calendar";
+
     private final EventService eventService;
+    private final EventChangeBroadcaster eventChangeBroadcaster;
 
     /**
      * Get a list of all events.
      *
+     * @param request Current request with the validators of a conditional GET.
      * @return List of events.
      */
     @GetMapping
@@ -47,16 +71,249 @@ public class EventController {
                     description = "Successfully retrieved the list of events",
                     content = @Content(
                             mediaType = "application/json",
-                            schema = @Schema(implementation = EventWithoutContent.class)))})
-    @ResponseStatus(code = HttpStatus.OK)
-    public List<EventWithoutContent> getAll() {
-        return eventService.getAll();
+                            schema = @Schema(implementation = EventWithoutContent.class))),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the version given by If-None-Match or If-Modified-Since")})
+    public ResponseEntity<List<EventWithoutContent>> getAll(final WebRequest request) {
+        return ConditionalGet.ifModified(request, eventService.getVersion(),
+                eventService::getAll);
+    }
+
+    /**
+     * Get the events with the given IDs in one call without their content.
+     *
+     * @param ids IDs of the events, repeated IDs are resolved once.
+     * @return Found events in the order of the IDs, with the IDs of the missing ones.
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get the events with the given IDs in one call")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully resolved the IDs",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BatchLookup.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "IDs are invalid or too many")})
+    public BatchLookup<EventWithoutContent> getByIds(
+            @RequestParam @NotEmpty final List<@NotNull @Positive Long> ids) {
+        return eventService.getByIds(ids);
+    }
+
+    /**
+     * Get the earliest events which have not started yet, ordered by timing.
+     *
+     * @param upcoming Maximum number of events.
+     * @return List of events.
+     */
+    @GetMapping(params = "upcoming")
+    @Operation(summary = "Get the earliest events which have not started yet")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the upcoming events",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = EventWithoutContent.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid number of events")})
+    public List<EventWithoutContent> getUpcoming(@RequestParam @NotNull @Positive final Integer upcoming) {
+        return eventService.getUpcoming(upcoming);
+    }
+
+    /**
+     * Get a page of events taking place in a time window, ordered by timing, then by ID.
+     *
+     * @param from    Start of the window, inclusive.
+     * @param to      End of the window, exclusive.
+     * @param status  Status of the events, absent for events of any status.
+     * @param cursor  Cursor returned with the previous page, absent for the first page.
+     * @param size    Requested page size, capped by the configured maximum.
+     * @param request Current request with the validators of a conditional GET.
+     * @return Page of events with the cursor of the next page.
+     */
+    @GetMapping(params = {"from", "to"})
+    @Operation(summary = "Get a page of events taking place in a time window, ordered by timing")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the page of events",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid time window, status, cursor or page size"),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the version given by If-None-Match or If-Modified-Since")})
+    public ResponseEntity<CursorPage<EventWithoutContent>> getPageInWindow(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to,
+            @RequestParam(required = false) final Event.EventStatus status,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) @Positive final Integer size,
+            final WebRequest request) {
+        return ConditionalGet.ifModified(request, eventService.getVersion(),
+                () -> eventService.getPageInWindow(from, to, status, cursor, size));
+    }
+
+    /**
+     * Get a page of the events matching any combination of criteria, ordered by timing, then by ID.
+     *
+     * @param filter  Criteria of the events, each absent criterion matches every event.
+     * @param cursor  Cursor returned with the previous page, absent for the first page.
+     * @param size    Requested page size, capped by the configured maximum.
+     * @param request Current request with the validators of a conditional GET.
+     * @return Page of events with the cursor of the next page.
+     */
+    @GetMapping("/filter")
+    @Operation(summary = "Get a page of events matching the given criteria, ordered by timing")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the page of events",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid criteria, cursor or page size"),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the version given by If-None-Match or If-Modified-Since")})
+    public ResponseEntity<CursorPage<EventWithoutContent>> getFiltered(
+            @Valid final EventFilter filter,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) @Positive final Integer size,
+            final WebRequest request) {
+        return ConditionalGet.ifModified(request, eventService.getVersion(),
+                () -> eventService.getFiltered(filter, cursor, size));
+    }
+
+    /**
+     * Get the calendar of events in a time window, one bucket per day, week or month.
+     *
+     * @param period  Length of the buckets, a month by default.
+     * @param from    Start of the window, inclusive.
+     * @param to      End of the window, exclusive.
+     * @param request Current request with the validators of a conditional GET.
+     * @return Buckets of the window with their event counts and first events.
+     */
+    @GetMapping("/calendar")
+    @Operation(summary = "Get the calendar of events in a time window")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the calendar of events",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = EventCalendarBucket.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid period or time window"),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the version given by If-None-Match or If-Modified-Since")})
+    public ResponseEntity<List<EventCalendarBucket>> getCalendar(
+            @RequestParam(defaultValue = "MONTH") final EventCalendarPeriod period,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to,
+            final WebRequest request) {
+        return ConditionalGet.ifModified(request, eventService.getVersion(),
+                () -> eventService.getCalendar(period, from, to));
+    }
+
+    /**
+     * Get a page of events, ordered by ID.
+     *
+     * @param cursor  Cursor returned with the previous page, absent for the first page.
+     * @param size    Requested page size, capped by the configured maximum.
+     * @param request Current request with the validators of a conditional GET.
+     * @return Page of events with the cursor of the next page.
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of events, ordered by ID")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the page of events",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor or page size"),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the version given by If-None-Match or If-Modified-Since")})
+    public ResponseEntity<CursorPage<EventWithoutContent>> getPage(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) @Positive final Integer size,
+            final WebRequest request) {
+        return ConditionalGet.ifModified(request, eventService.getVersion(),
+                () -> eventService.getPage(cursor, size));
+    }
+
+    /**
+     * Get the iCalendar feed of events, to subscribe to in calendar applications.
+     *
+     * @param authorId ID of the author of the events, absent for the events of all authors.
+     * @param request  Current request with the validators of a conditional GET.
+     * @return The feed.
+     */
+    @GetMapping(value = "/feed.ics", produces = CALENDAR_MEDIA_TYPE)
+    @Operation(summary = "Get the iCalendar feed of events")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the feed of events",
+                    content = @Content(mediaType = CALENDAR_MEDIA_TYPE)),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid author ID"),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the version given by If-None-Match or If-Modified-Since")})
+    public ResponseEntity<byte[]> getFeed(
+            @RequestParam(required = false) @Positive final Long authorId,
+            final WebRequest request) {
+        var feed = eventService.getFeed(authorId);
+        return ConditionalGet.ifModified(request, Optional.of(feed.version()).filter(ResourceVersion::isKnown),
+                feed::body);
+    }
+
+    /**
+     * Stream the changes of status and free seats of events as server-sent events.
+     *
+     * @param ids IDs of the events to follow, absent to follow all events.
+     * @return Emitter of the stream.
+     */
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream the changes of status and free seats of events")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Stream of changes opened",
+                    content = @Content(
+                            mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = EventChange.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid IDs")})
+    public SseEmitter streamChanges(@RequestParam(defaultValue = "") final Set<@Positive Long> ids) {
+        return eventChangeBroadcaster.subscribe(ids);
     }
 
     /**
      * Get a specific event by its ID.
      *
      * @param id The ID of the event.
+     * @param request Current request with the validators of a conditional GET.
      * @return The event with the given ID.
      */
     @GetMapping("/{id}")
@@ -73,10 +330,15 @@ public class EventController {
                     description = "Invalid ID"),
             @ApiResponse(
                     responseCode = "404",
-                    description = "Event not found")})
-    @ResponseStatus(HttpStatus.OK)
-    public EventWithContent getById(@PathVariable @NotNull @Positive final Long id) {
-        return eventService.getById(id);
+                    description = "Event not found"),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the version given by If-None-Match or If-Modified-Since")})
+    public ResponseEntity<EventWithContent> getById(
+            @PathVariable @NotNull @Positive final Long id,
+            final WebRequest request) {
+        return ConditionalGet.ifModified(request, eventService.getVersionById(id),
+                () -> eventService.getById(id));
     }
 
     /**
@@ -103,6 +365,46 @@ public class EventController {
         return eventService.save(eventPublishingForm);
     }
 
+    /**
+     * Shift the timing of all events matching a filter, marking them transferred.
+     *
+     * @param form Filter of the events and offset of their timing.
+     * @return IDs of the moved events.
+     */
+    @PostMapping("/reschedule")
+    @Operation(summary = "Shift the timing of all events matching a filter")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Events moved successfully",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid or empty filter, or zero offset")})
+    public List<Long> reschedule(@RequestBody @NotNull @Valid final EventRescheduleForm form) {
+        return eventService.reschedule(form);
+    }
+
+    /**
+     * Cancel all events matching a filter.
+     *
+     * @param filter Criteria of the events to cancel.
+     * @return IDs of the canceled events.
+     */
+    @PostMapping("/cancel")
+    @Operation(summary = "Cancel all events matching a filter")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Events canceled successfully",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid or empty filter")})
+    public List<Long> cancel(@RequestBody @NotNull @Valid final EventFilter filter) {
+        return eventService.cancel(filter);
+    }
+
     /**
      * Delete an event by its ID.
      *
@@ -0,0 +1,70 @@
+package com.example.web.museum.controllers;
+
+import com.example.dto.museum.reservation.ReservationForm;
+import com.example.dto.museum.reservation.ReservationResponse;
+import com.example.services.museum.ReservationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * REST controller for booking seats on museum events.
+ *
+ * @author Evhen Malysh
+ */
+@RestController
+@RequestMapping("/events/{eventId}/reservations")
+@Validated
+@Tag(name = "Reservations", description = "API operations related to seat reservations of museum events")
+@RequiredArgsConstructor
+public class ReservationController {
+
+    private final ReservationService reservationService;
+
+    /**
+     * Reserve seats on an event.
+     *
+     * @param eventId     The ID of the event.
+     * @param reservation The reservation to make.
+     * @return The reservation, once it is committed.
+     */
+    @PostMapping
+    @Operation(summary = "Reserve seats on an event")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Seats reserved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ReservationResponse.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid event ID or reservation"),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Event or user not found"),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Event has not enough seats left"),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Reservation was not committed in time")})
+    @ResponseStatus(HttpStatus.CREATED)
+    public CompletableFuture<ReservationResponse> create(
+            @PathVariable @NotNull @Positive final Long eventId,
+            @RequestBody @NotNull @Valid final ReservationForm reservation) {
+        return reservationService.reserve(eventId, reservation);
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.web.streams;
+
+import com.example.config.EventStreamProperties;
+import com.example.dto.museum.event.EventChange;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans committed {@link EventChange}s out to server-sent event subscribers.
+ * Every change is serialized once, and the same frame is queued for all
+ * subscribers interested in the event. Each subscriber has a bounded queue
+ * drained by a small shared pool of senders, so a slow client never delays
+ * the others; a client whose queue overflows is disconnected and reconnects
+ * on its own.
+ *
+ * @author Evhen Malysh
+ */
+@Component
+public class EventChangeBroadcaster {
+
+    static final String EVENT_NAME = "event-change";
+
+    private final ObjectMapper objectMapper;
+    private final EventStreamProperties eventStreamProperties;
+    private final ThreadPoolTaskExecutor senders = new ThreadPoolTaskExecutor();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public EventChangeBroadcaster(final ObjectMapper objectMapper,
+                                  final EventStreamProperties eventStreamProperties) {
+        this.objectMapper = objectMapper;
+        this.eventStreamProperties = eventStreamProperties;
+        senders.setCorePoolSize(eventStreamProperties.senders());
+        senders.setMaxPoolSize(eventStreamProperties.senders());
+        senders.setThreadNamePrefix("event-stream-");
+        senders.initialize();
+    }
+
+    /**
+     * Subscribe to the changes of the given events.
+     *
+     * @param eventIds IDs of the events, empty for the changes of all events.
+     * @return SseEmitter of the subscription.
+     */
+    public SseEmitter subscribe(final Set<Long> eventIds) {
+        var emitter = new SseEmitter(eventStreamProperties.timeout().toMillis());
+        var subscriber = new Subscriber(emitter, Set.copyOf(eventIds),
+                new ArrayBlockingQueue<>(eventStreamProperties.queueSize()));
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+        return emitter;
+    }
+
+    /**
+     * Number of open subscriptions.
+     *
+     * @return number of subscribers.
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Send a change to all subscribers interested in its event, once its transaction commits.
+     *
+     * @param change the committed change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void broadcast(final EventChange change) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        var frame = new Frame(String.valueOf(sequence.incrementAndGet()), serialize(change));
+        for (var subscriber : subscribers) {
+            if (subscriber.isInterestedIn(change.eventId())) {
+                subscriber.offer(frame);
+            }
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        senders.shutdown();
+    }
+
+    private String serialize(final EventChange change) {
+        try {
+            return objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Frame(String id, String json) {
+
+        SseEmitter.SseEventBuilder toEvent() {
+            return SseEmitter.event()
+                    .id(id)
+                    .name(EVENT_NAME)
+                    .data(json, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Set<Long> eventIds;
+        private final Queue<Frame> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(final SseEmitter emitter,
+                           final Set<Long> eventIds,
+                           final Queue<Frame> pending) {
+            this.emitter = emitter;
+            this.eventIds = eventIds;
+            this.pending = pending;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        boolean isInterestedIn(final long eventId) {
+            return eventIds.isEmpty() || eventIds.contains(eventId);
+        }
+
+        void offer(final Frame frame) {
+            if (!pending.offer(frame)) {
+                // The client does not keep up, drop it rather than buffer without bound
+                subscribers.remove(this);
+                emitter.complete();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Frame frame;
+                while ((frame = pending.poll()) != null) {
+                    emitter.send(frame.toEvent());
+                }
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(this);
+                pending.clear();
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+            if (!pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
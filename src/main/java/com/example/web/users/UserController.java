@@ -1,8 +1,13 @@
 package com.example.web.users;
 
+import com.example.dto.lookup.BatchLookup;
+import com.example.dto.pagination.CursorPage;
+import com.example.dto.users.UserImportFormat;
+import com.example.dto.users.UserImportResult;
 import com.example.dto.users.UserRegistrationForm;
 import com.example.dto.users.UserResponse;
 import com.example.services.users.UserService;
+import com.example.web.conditional.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,13 +15,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -31,11 +41,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserController {
 
+    private static final String CSV_MEDIA_TYPE = "text/csv";
+
     private final UserService userService;
 
     /**
      * Get a list of all users.
      *
+     * @param request Current request with the validators of a conditional GET.
      * @return List of User objects representing all users.
      */
     @GetMapping
@@ -49,15 +62,74 @@ public class UserController {
                             schema = @Schema(implementation = UserResponse.class))}),
             @ApiResponse(
                     responseCode = "404",
-                    description = "No users found")})
-    public List<UserResponse> getAll() {
-        return userService.getAll();
+                    description = "No users found"),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the version given by If-None-Match or If-Modified-Since")})
+    public ResponseEntity<List<UserResponse>> getAll(final WebRequest request) {
+        return ConditionalGet.ifModified(request, userService.getVersion(),
+                userService::getAll);
+    }
+
+    /**
+     * Get the users with the given IDs in one call.
+     *
+     * @param ids IDs of the users, repeated IDs are resolved once.
+     * @return Found users in the order of the IDs, with the IDs of the missing ones.
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get the users with the given IDs in one call")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully resolved the IDs",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BatchLookup.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "IDs are invalid or too many")})
+    public BatchLookup<UserResponse> getByIds(
+            @RequestParam @NotEmpty final List<@NotNull @Positive Long> ids) {
+        return userService.getByIds(ids);
+    }
+
+    /**
+     * Get a page of users, ordered by ID.
+     *
+     * @param cursor  Cursor returned with the previous page, absent for the first page.
+     * @param size    Requested page size, capped by the configured maximum.
+     * @param request Current request with the validators of a conditional GET.
+     * @return Page of users with the cursor of the next page.
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of users, ordered by ID")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the page of users",
+                    content = {@Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPage.class))}),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor or page size"),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the version given by If-None-Match or If-Modified-Since")})
+    public ResponseEntity<CursorPage<UserResponse>> getPage(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) @Positive final Integer size,
+            final WebRequest request) {
+        return ConditionalGet.ifModified(request, userService.getVersion(),
+                () -> userService.getPage(cursor, size));
     }
 
     /**
      * Get a specific user by ID.
      *
      * @param id The ID of the user to retrieve.
+     * @param request Current request with the validators of a conditional GET.
      * @return The User object representing the requested user.
      */
     @GetMapping("/{id}")
@@ -74,10 +146,15 @@ public class UserController {
                     description = "Invalid ID"),
             @ApiResponse(
                     responseCode = "404",
-                    description = "User with given ID not found")})
-    @ResponseStatus(HttpStatus.OK)
-    public UserResponse getById(@PathVariable @NotNull @Positive final Long id) {
-        return userService.getById(id);
+                    description = "User with given ID not found"),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the version given by If-None-Match or If-Modified-Since")})
+    public ResponseEntity<UserResponse> getById(
+            @PathVariable @NotNull @Positive final Long id,
+            final WebRequest request) {
+        return ConditionalGet.ifModified(request, userService.getVersionById(id),
+                () -> userService.getById(id));
     }
 
     /**
@@ -105,4 +182,50 @@ public class UserController {
     public UserResponse create(@RequestBody @NotNull @Valid final UserRegistrationForm user) {
         return userService.save(user);
     }
+
+    /**
+     * Import users in bulk from comma separated values.
+     *
+     * Users are written in batches, so when the CSV turns out to be malformed partway
+     * through, the batches before the error stay imported. Re-running the corrected
+     * import skips them as duplicates.
+     *
+     * @param body CSV with a header row naming the columns first_name, last_name, email and password.
+     * @return The number of imported, skipped and rejected rows.
+     */
+    @PostMapping(path = "/import", consumes = CSV_MEDIA_TYPE)
+    @Operation(summary = "Import users in bulk from CSV")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Valid users imported, duplicates skipped and invalid rows rejected with their errors",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = UserImportResult.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Header or quoting of the CSV is invalid. Batches read before an invalid "
+                            + "quote stay imported, and are skipped as duplicates when the import is re-run")})
+    public UserImportResult importCsv(final InputStream body) {
+        return userService.importUsers(body, UserImportFormat.CSV);
+    }
+
+    /**
+     * Import users in bulk from newline delimited JSON.
+     *
+     * @param body One user registration form per line.
+     * @return The number of imported, skipped and rejected rows.
+     */
+    @PostMapping(path = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Import users in bulk from newline delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Valid users imported, duplicates skipped and invalid rows rejected with their errors",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = UserImportResult.class)))})
+    public UserImportResult importNdjson(final InputStream body) {
+        return userService.importUsers(body, UserImportFormat.NDJSON);
+    }
 }
@@ -0,0 +1,60 @@
+-- Events are range partitioned by month of their timing, so queries over a time window only
+-- scan the partitions of that window, and old months can be detached from the table.
+-- The primary key of a partitioned table must contain the partition key, so it becomes (id, timing).
+-- A foreign key cannot reference the id of a partitioned table alone, so reservations of a deleted
+-- event are deleted by the application.
+ALTER TABLE events RENAME TO events_unpartitioned;
+ALTER TABLE events_unpartitioned RENAME CONSTRAINT pk_events TO pk_events_unpartitioned;
+DROP INDEX idx_event_title;
+DROP INDEX idx_event_timing_id;
+DROP INDEX idx_event_live_timing;
+ALTER TABLE reservations DROP CONSTRAINT fk_reservations_on_event;
+
+CREATE TABLE events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    content TEXT NOT NULL,
+    timing TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    capacity INTEGER NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    author_id BIGINT NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE,
+    updated_at TIMESTAMP WITHOUT TIME ZONE,
+    reserved_seats INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT pk_events PRIMARY KEY (id, timing),
+    CONSTRAINT chk_event_reserved_seats CHECK (reserved_seats <= capacity),
+    CONSTRAINT FK_EVENTS_ON_AUTHOR FOREIGN KEY (author_id) REFERENCES authors (id)
+) PARTITION BY RANGE (timing);
+
+DO $$
+BEGIN
+    ALTER TABLE events ALTER COLUMN content SET COMPRESSION lz4;
+EXCEPTION WHEN feature_not_supported THEN
+    RAISE NOTICE 'lz4 compression is not supported, content keeps the default compression';
+END $$;
+
+CREATE INDEX idx_event_title ON events(title);
+CREATE INDEX idx_event_timing_id ON events(timing, id);
+CREATE INDEX idx_event_live_timing ON events(timing) WHERE status <> 'ARCHIVED';
+
+-- One partition per month, from the earliest event up to a year ahead. Later months are
+-- created by the application, events beyond them wait in the default partition until then.
+DO $$
+DECLARE
+    month TIMESTAMP := date_trunc('month', least((SELECT min(timing) FROM events_unpartitioned), LOCALTIMESTAMP));
+    last_month TIMESTAMP := date_trunc('month', LOCALTIMESTAMP) + INTERVAL '12 months';
+BEGIN
+    WHILE month <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF events FOR VALUES FROM (%L) TO (%L)',
+                       'events_' || to_char(month, '"y"YYYY"m"MM'), month, month + INTERVAL '1 month');
+        month := month + INTERVAL '1 month';
+    END LOOP;
+END $$;
+CREATE TABLE events_default PARTITION OF events DEFAULT;
+
+INSERT INTO events (id, title, content, timing, capacity, status, author_id, created_at, updated_at, reserved_seats)
+SELECT id, title, content, timing, capacity, status, author_id, created_at, updated_at, reserved_seats
+FROM events_unpartitioned;
+SELECT setval(pg_get_serial_sequence('events', 'id'), coalesce(max(id), 0) + 1, false) FROM events;
+
+DROP TABLE events_unpartitioned;
@@ -0,0 +1,5 @@
+-- Composite indexes for filtering events by status or by author. Both end with the
+-- (timing, id) page order, so a filtered page is read from the index without sorting.
+-- Created on the partitioned table, they are created on every partition as well.
+CREATE INDEX idx_event_status_timing_id ON events(status, timing, id);
+CREATE INDEX idx_event_author_id_timing_id ON events(author_id, timing, id);
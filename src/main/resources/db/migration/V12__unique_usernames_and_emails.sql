@@ -0,0 +1,6 @@
+-- Usernames of authors and emails of users are checked for uniqueness by the application
+-- before an insert, and the constraints keep concurrent registrations from slipping through.
+-- The unique index of the username replaces its plain index.
+DROP INDEX idx_author_username;
+ALTER TABLE authors ADD CONSTRAINT uc_author_username UNIQUE (username);
+ALTER TABLE users ADD CONSTRAINT uc_user_email UNIQUE (email);
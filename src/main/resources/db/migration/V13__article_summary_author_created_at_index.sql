@@ -0,0 +1,3 @@
+-- The latest articles of an author are read from the index in order, the plain author index is its prefix
+DROP INDEX idx_article_summary_author_id;
+CREATE INDEX idx_article_summary_author_id_created_at ON article_summaries(author_id, created_at DESC, id DESC);
@@ -0,0 +1,2 @@
+-- Passwords are stored as PBKDF2 hashes which do not fit the former 25 characters
+ALTER TABLE users ALTER COLUMN password TYPE VARCHAR(255);
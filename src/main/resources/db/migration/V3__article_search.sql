@@ -0,0 +1,7 @@
+-- Full-text search over article titles and content
+ALTER TABLE articles
+ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', title), 'A') ||
+    setweight(to_tsvector('english', content), 'B')
+) STORED;
+CREATE INDEX idx_article_search_vector ON articles USING GIN (search_vector);
@@ -0,0 +1,23 @@
+-- Store article tags as a bitmask, one bit per ArticleTag ordinal
+ALTER TABLE articles
+ADD COLUMN tags_mask INTEGER NOT NULL DEFAULT 0;
+
+UPDATE articles a
+SET tags_mask = t.mask
+FROM (
+    SELECT article_id,
+           bit_or(CASE tags
+                      WHEN 'ART_HISTORY' THEN 1
+                      WHEN 'EXHIBITIONS' THEN 2
+                      WHEN 'EVENTS' THEN 4
+                      WHEN 'ARCHAEOLOGY' THEN 8
+                      WHEN 'INTERVIEWS' THEN 16
+                      WHEN 'BEHIND_THE_SCENES' THEN 32
+                      ELSE 0
+                  END) AS mask
+    FROM article_tags
+    GROUP BY article_id
+) t
+WHERE a.id = t.article_id;
+
+DROP TABLE article_tags;
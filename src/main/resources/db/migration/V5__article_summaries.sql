@@ -0,0 +1,17 @@
+-- Denormalized read model of article list entries, maintained by the article and author services
+CREATE TABLE article_summaries (
+    id BIGINT NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    tags_mask INTEGER NOT NULL DEFAULT 0,
+    author_id BIGINT NOT NULL,
+    author_username VARCHAR(255),
+    created_at TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT pk_article_summaries PRIMARY KEY (id),
+    CONSTRAINT fk_article_summaries_on_article FOREIGN KEY (id) REFERENCES articles (id) ON DELETE CASCADE
+);
+CREATE INDEX idx_article_summary_author_id ON article_summaries(author_id);
+
+INSERT INTO article_summaries (id, title, tags_mask, author_id, author_username, created_at)
+SELECT a.id, a.title, a.tags_mask, au.id, au.username, a.created_at
+FROM articles a
+JOIN authors au ON au.id = a.author_id;
@@ -0,0 +1,22 @@
+-- Article and event content is longer than 255 characters, store it as compressed TEXT.
+-- The generated search vector depends on the article content, so it is rebuilt around the type change.
+ALTER TABLE articles DROP COLUMN search_vector;
+
+ALTER TABLE articles ALTER COLUMN content TYPE TEXT;
+ALTER TABLE events ALTER COLUMN content TYPE TEXT;
+
+-- LZ4 is only available when the server is built with it, keep the default pglz otherwise
+DO $$
+BEGIN
+    ALTER TABLE articles ALTER COLUMN content SET COMPRESSION lz4;
+    ALTER TABLE events ALTER COLUMN content SET COMPRESSION lz4;
+EXCEPTION WHEN feature_not_supported THEN
+    RAISE NOTICE 'lz4 compression is not supported, content keeps the default compression';
+END $$;
+
+ALTER TABLE articles
+ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', title), 'A') ||
+    setweight(to_tsvector('english', content), 'B')
+) STORED;
+CREATE INDEX idx_article_search_vector ON articles USING GIN (search_vector);
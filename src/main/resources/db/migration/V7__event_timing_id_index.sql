@@ -0,0 +1,3 @@
+-- Time-window pages are ordered and continued by (timing, id), which also serves the plain timing lookups
+CREATE INDEX idx_event_timing_id ON events(timing, id);
+DROP INDEX idx_event_timing;
@@ -0,0 +1,18 @@
+-- Seats booked on events. The running total is kept on the event row, so the
+-- capacity check of a whole batch of reservations is a single guarded update.
+ALTER TABLE events ADD COLUMN reserved_seats INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE events ADD CONSTRAINT chk_event_reserved_seats CHECK (reserved_seats <= capacity);
+
+CREATE TABLE reservations (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    event_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    seats INTEGER NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT pk_reservations PRIMARY KEY (id),
+    CONSTRAINT fk_reservations_on_event FOREIGN KEY (event_id) REFERENCES events (id) ON DELETE CASCADE,
+    CONSTRAINT fk_reservations_on_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT chk_reservation_seats CHECK (seats > 0)
+);
+CREATE INDEX idx_reservation_event_id ON reservations(event_id);
+CREATE INDEX idx_reservation_user_id ON reservations(user_id);
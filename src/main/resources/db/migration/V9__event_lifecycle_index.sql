@@ -0,0 +1,2 @@
+-- The lifecycle job only ever looks at events that are not archived yet, ordered by their timing
+CREATE INDEX idx_event_live_timing ON events(timing) WHERE status <> 'ARCHIVED';
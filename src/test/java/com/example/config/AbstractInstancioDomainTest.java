@@ -56,7 +56,7 @@ public abstract class AbstractInstancioDomainTest {
                 .ignore(field("createdAt"))
                 .ignore(field("updatedAt"))
                 .ignore(field("roles"))
-                .set(field("password"), "ValidPassword1")
+                .set(field("password"), "pbkdf2-sha256$100000$c2FsdHNhbHRzYWx0c2FsdA$aGFzaGhhc2hoYXNoaGFzaA")
                 .set(field("email"), "valid@gmail.com")
                 .withSettings(settings)
                 .create();
@@ -1,14 +1,36 @@
 package com.example.config;
 
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.transaction.annotation.Transactional;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
-@SpringBootTest(properties = "spring.datasource.url=jdbc:tc:postgresql:15.2-alpine:///museum_db",
+import java.util.Objects;
+
+@SpringBootTest(properties = {"spring.datasource.url=jdbc:tc:postgresql:15.2-alpine:///museum_db",
+        "museum.events.lifecycle.cron=-", "museum.events.partitions.cron=-"},
         webEnvironment = SpringBootTest.WebEnvironment.NONE)
 @Transactional
 @Testcontainers
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 public abstract class AbstractServiceIntegrationTest<T> extends AbstractInstancioTest<T> {
+
+    @Autowired
+    protected CacheManager cacheManager;
+
+    @AfterEach
+    void invalidateCaches() {
+        cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .forEach(Cache::invalidate);
+    }
+
+    protected Cache cache(final String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name));
+    }
 }
@@ -0,0 +1,40 @@
+package com.example.domain.museum;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static com.example.domain.museum.Article.ArticleTag.ART_HISTORY;
+import static com.example.domain.museum.Article.ArticleTag.BEHIND_THE_SCENES;
+import static com.example.domain.museum.Article.ArticleTag.EVENTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArticleTagsConverterTest {
+
+    private final ArticleTagsConverter converter = new ArticleTagsConverter();
+
+    @Test
+    void toMaskSetsBitOfEveryTagOrdinal() {
+        assertEquals(0b100101, ArticleTagsConverter.toMask(Set.of(ART_HISTORY, EVENTS, BEHIND_THE_SCENES)));
+    }
+
+    @Test
+    void toMaskOfAbsentTagsIsZero() {
+        assertEquals(0, ArticleTagsConverter.toMask(null));
+        assertEquals(0, converter.convertToDatabaseColumn(Set.of()));
+    }
+
+    @Test
+    void convertToEntityAttributeReturnsEncodedTags() {
+        var tags = EnumSet.allOf(Article.ArticleTag.class);
+
+        assertEquals(tags, converter.convertToEntityAttribute(converter.convertToDatabaseColumn(tags)));
+    }
+
+    @Test
+    void convertToEntityAttributeOfAbsentMaskIsEmpty() {
+        assertTrue(converter.convertToEntityAttribute(null).isEmpty());
+    }
+}
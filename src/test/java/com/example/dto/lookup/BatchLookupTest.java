@@ -0,0 +1,27 @@
+package com.example.dto.lookup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchLookupTest {
+
+    @Test
+    void ofOrdersFoundRowsAsRequestedIds() {
+        var lookup = BatchLookup.of(List.of(3L, 1L, 2L), List.of(1L, 2L, 3L), Long::valueOf);
+
+        assertEquals(List.of(3L, 1L, 2L), lookup.found());
+        assertTrue(lookup.missingIds().isEmpty());
+    }
+
+    @Test
+    void ofReportsIdsWithoutRowInRequestedOrder() {
+        var lookup = BatchLookup.of(List.of(5L, 2L, 4L), List.of(2L), Long::valueOf);
+
+        assertEquals(List.of(2L), lookup.found());
+        assertEquals(List.of(5L, 4L), lookup.missingIds());
+    }
+}
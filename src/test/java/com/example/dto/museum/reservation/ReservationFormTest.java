@@ -0,0 +1,47 @@
+package com.example.dto.museum.reservation;
+
+import com.example.config.AbstractInstancioTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReservationFormTest extends AbstractInstancioTest<ReservationForm> {
+
+    @AfterEach
+    void tearDown() {
+        clearAdditionalSettings();
+    }
+
+    @Test
+    void shouldPass() {
+        var reservationForm = getModel();
+        var violations = validate(reservationForm);
+
+        assertTrue(violations.isEmpty());
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(ints = {-1, 0, 11})
+    void invalidSeats(Integer value) {
+        set("seats", value);
+        var reservationForm = getModel();
+        var violations = validate(reservationForm);
+        assertFalse(violations.isEmpty());
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(longs = {-100, 0})
+    void invalidUserId(Long value) {
+        set("userId", value);
+        var reservationForm = getModel();
+        var violations = validate(reservationForm);
+        assertFalse(violations.isEmpty());
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.dto.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CursorPageTest {
+
+    @Test
+    void ofReturnsAllRowsWithoutCursorWhenNoExtraRowFetched() {
+        var page = CursorPage.of(List.of(1L, 2L), 2, Cursors::encodeId);
+
+        assertEquals(List.of(1L, 2L), page.content());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void ofDropsExtraRowAndPointsCursorAfterLastReturnedRow() {
+        var page = CursorPage.of(List.of(1L, 2L, 3L), 2, Cursors::encodeId);
+
+        assertEquals(List.of(1L, 2L), page.content());
+        assertEquals(2L, Cursors.decodeId(page.nextCursor()));
+    }
+}
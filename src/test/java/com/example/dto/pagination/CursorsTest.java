@@ -0,0 +1,54 @@
+package com.example.dto.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CursorsTest {
+
+    @Test
+    void decodeIdReturnsEncodedId() {
+        assertEquals(42L, Cursors.decodeId(Cursors.encodeId(42L)));
+    }
+
+    @Test
+    void decodeIdOfAbsentCursorStartsFromFirstId() {
+        assertEquals(Cursors.FIRST_ID, Cursors.decodeId(null));
+        assertEquals(Cursors.FIRST_ID, Cursors.decodeId(" "));
+    }
+
+    @Test
+    void decodeIdThrowsWhenCursorIsMalformed() {
+        assertThrows(IllegalArgumentException.class, () -> Cursors.decodeId("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> Cursors.decodeId("Zm9v"));
+    }
+
+    @Test
+    void decodeTimingKeyReturnsEncodedKey() {
+        var timing = LocalDateTime.of(2023, 8, 1, 10, 30, 15, 123_456_000);
+
+        var key = Cursors.decodeTimingKey(Cursors.encodeTimingKey(timing, 42L), LocalDateTime.MIN);
+
+        assertEquals(new Cursors.TimingKey(timing, 42L), key);
+    }
+
+    @Test
+    void decodeTimingKeyOfAbsentCursorStartsFromGivenTiming() {
+        var from = LocalDateTime.of(2023, 8, 1, 0, 0);
+
+        assertEquals(new Cursors.TimingKey(from, Cursors.FIRST_ID), Cursors.decodeTimingKey(null, from));
+        assertEquals(new Cursors.TimingKey(from, Cursors.FIRST_ID), Cursors.decodeTimingKey(" ", from));
+    }
+
+    @Test
+    void decodeTimingKeyThrowsWhenCursorIsMalformed() {
+        var from = LocalDateTime.of(2023, 8, 1, 0, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> Cursors.decodeTimingKey("not a cursor", from));
+        assertThrows(IllegalArgumentException.class, () -> Cursors.decodeTimingKey(Cursors.encodeId(42L), from));
+        assertThrows(IllegalArgumentException.class, () -> Cursors.decodeTimingKey(Cursors.encodeTimingKey(from, -1L), from));
+    }
+}
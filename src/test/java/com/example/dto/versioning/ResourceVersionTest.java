@@ -0,0 +1,39 @@
+package com.example.dto.versioning;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResourceVersionTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2023, 8, 14, 5, 16, 43, 623_406_000);
+
+    @Test
+    void eTagIsStrongAndQuoted() {
+        var eTag = new ResourceVersion(1L, UPDATED_AT).eTag();
+
+        assertTrue(eTag.startsWith("\"1-"));
+        assertTrue(eTag.endsWith("\""));
+    }
+
+    @Test
+    void eTagChangesWithKeyAndMicroseconds() {
+        var version = new ResourceVersion(1L, UPDATED_AT);
+
+        assertEquals(version.eTag(), new ResourceVersion(1L, UPDATED_AT).eTag());
+        assertNotEquals(version.eTag(), new ResourceVersion(2L, UPDATED_AT).eTag());
+        assertNotEquals(version.eTag(), new ResourceVersion(1L, UPDATED_AT.plusNanos(1_000)).eTag());
+    }
+
+    @Test
+    void isKnownRequiresKeyAndLastModified() {
+        assertTrue(new ResourceVersion(0L, UPDATED_AT).isKnown());
+        assertFalse(new ResourceVersion(0L, null).isKnown());
+        assertFalse(new ResourceVersion(null, UPDATED_AT).isKnown());
+    }
+}
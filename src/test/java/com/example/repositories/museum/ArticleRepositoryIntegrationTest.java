@@ -1,24 +1,57 @@
 package com.example.repositories.museum;
 
 import com.example.config.AbstractRepositoryIntegrationTest;
+import com.example.dto.museum.article.ArticlePublishingForm;
+import com.example.dto.museum.article.ArticleSearchResult;
 import com.example.dto.museum.article.ArticleWithContent;
 import com.example.dto.museum.article.ArticleWithoutContent;
 import com.example.repositories.museum.ArticleRepository.ArticleDbRowWithContent;
 import com.example.repositories.museum.ArticleRepository.ArticleDbRowWithoutContent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import static com.example.constraints.museum.ArticleConstraints.MAX_CONTENT_LENGTH;
+import static com.example.domain.museum.Article.ArticleTag.ARCHAEOLOGY;
+import static com.example.domain.museum.Article.ArticleTag.EVENTS;
+import static com.example.domain.museum.Article.ArticleTag.EXHIBITIONS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class ArticleRepositoryIntegrationTest extends AbstractRepositoryIntegrationTest {
 
     @Autowired
     private ArticleRepository repository;
 
+    @Autowired
+    private ArticleSummaryRepository summaryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
     @Test
     void loadAllArticlesDataWithContentByAuthorId() {
         var rows = repository.loadAllArticlesDataWithContentByAuthorId(1L);
@@ -49,10 +82,20 @@ class ArticleRepositoryIntegrationTest extends AbstractRepositoryIntegrationTest
     }
 
     @Test
-    void loadArticleTagsById() {
-        var tags = repository.loadArticleTagsById(1L);
+    void loadArticleDataWithContentByIdDecodesTags() {
+        var row = repository.loadArticleDataWithContentById(1L).orElseThrow();
+
+        assertEquals(Set.of(EXHIBITIONS, EVENTS), row.tags());
+    }
+
+    @Test
+    void findAllWithoutContentDecodesTags() {
+        var tagsByArticleId = repository.findAllWithoutContent().stream()
+                .collect(Collectors.toMap(ArticleWithoutContent::id, ArticleWithoutContent::tags));
 
-        assertFalse(tags.isEmpty());
+        assertEquals(Set.of(EXHIBITIONS, EVENTS), tagsByArticleId.get(1L));
+        assertEquals(Set.of(ARCHAEOLOGY), tagsByArticleId.get(2L));
+        assertTrue(tagsByArticleId.get(5L).isEmpty());
     }
 
     @Test
@@ -142,4 +185,142 @@ class ArticleRepositoryIntegrationTest extends AbstractRepositoryIntegrationTest
                 .map(ArticleWithoutContent::tags)
                 .map(Set::isEmpty).anyMatch(b -> b.equals(true)));
     }
-}
\ No newline at end of file
+
+    @Test
+    void findAllWithoutContentUsesConstantNumberOfStatements() {
+        var articles = repository.findAllWithoutContent();
+
+        assertTrue(articles.size() > 1);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findAllWithBodyByAuthorIdUsesConstantNumberOfStatements() {
+        repository.findAllWithBodyByAuthorId(1L);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findArticleWithContentByIdDoesNotLoadTagsOfMissingArticle() {
+        var article = repository.findArticleWithContentById(Long.MAX_VALUE);
+
+        assertTrue(article.isEmpty());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void forEachWithContent() {
+        var articles = new ArrayList<ArticleWithContent>();
+
+        repository.forEachWithContent(articles::add);
+
+        assertEquals(repository.count(), articles.size());
+        assertEquals(2, articles.get(0).tags().size());
+    }
+
+    @Test
+    void search() {
+        var results = repository.search("title 3", 10, 0);
+
+        assertEquals(1, results.size());
+        assertEquals(3L, results.get(0).id());
+        assertTrue(results.get(0).rank() > 0);
+        assertTrue(results.get(0).headline().contains("<b>3</b>"));
+        assertFalse(results.get(0).tags().isEmpty());
+    }
+
+    @Test
+    void searchWithOffset() {
+        var firstPage = repository.search("article", 2, 0);
+        var secondPage = repository.search("article", 2, 2);
+
+        assertEquals(2, firstPage.size());
+        assertEquals(2, secondPage.size());
+        assertTrue(firstPage.stream()
+                .map(ArticleSearchResult::id)
+                .noneMatch(id -> secondPage.stream().anyMatch(a -> a.id().equals(id))));
+    }
+
+    @Test
+    void searchReturnsEmptyListWhenNothingMatches() {
+        assertTrue(repository.search("pottery", 10, 0).isEmpty());
+    }
+
+    @Test
+    void findVersion() {
+        var version = repository.findVersion().orElseThrow();
+
+        assertEquals(repository.count(), version.key());
+        assertNotNull(version.lastModified());
+    }
+
+    @Test
+    void findVersionById() {
+        var version = repository.findVersionById(1L).orElseThrow();
+
+        assertEquals(1L, version.key());
+        assertNotNull(version.lastModified());
+        assertTrue(repository.findVersionById(Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void findVersionByAuthorId() {
+        var version = repository.findVersionByAuthorId(1L).orElseThrow();
+
+        assertEquals(repository.findAllWithBodyByAuthorId(1L).size(), version.key());
+        assertTrue(repository.findVersionByAuthorId(Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void updateTitleAndBodyByIdChangesVersion() {
+        var version = repository.findVersionById(1L).orElseThrow();
+
+        repository.updateTitleAndBodyById("Updated title", "Updated content of the first article", 1L);
+
+        assertNotEquals(version.eTag(), repository.findVersionById(1L).orElseThrow().eTag());
+    }
+
+    @Test
+    void insertAll() {
+        var forms = List.of(
+                new ArticlePublishingForm("Bulk title 1", "Bulk content 1 Bulk content 1 Bulk content 1", Set.of(EVENTS), 1L),
+                new ArticlePublishingForm("Bulk title 2", "Bulk content 2 Bulk content 2 Bulk content 2", null, 2L));
+
+        var ids = repository.insertAll(forms);
+
+        assertEquals(2, ids.size());
+        var first = repository.findArticleWithContentById(ids.get(0)).orElseThrow();
+        var second = repository.findArticleWithContentById(ids.get(1)).orElseThrow();
+        assertEquals("Bulk title 1", first.title());
+        assertEquals(Set.of(EVENTS), first.tags());
+        assertNotNull(first.createdAt());
+        assertEquals("Bulk title 2", second.title());
+        assertTrue(second.tags().isEmpty());
+        assertEquals(2, summaryRepository.findAllById(ids).size());
+    }
+
+    @Test
+    void insertAllDoesNothingWhenThereAreNoForms() {
+        assertTrue(repository.insertAll(List.of()).isEmpty());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByIdDoesNotLoadContent() {
+        var article = repository.findById(1L).orElseThrow();
+
+        assertFalse(Hibernate.isPropertyInitialized(article, "content"));
+        assertNotNull(article.getContent());
+        assertTrue(Hibernate.isPropertyInitialized(article, "content"));
+    }
+
+    @Test
+    void updateTitleAndBodyByIdStoresContentOfMaxLength() {
+        var content = "a".repeat(MAX_CONTENT_LENGTH);
+
+        repository.updateTitleAndBodyById("Long article", content, 1L);
+
+        assertEquals(content, repository.findArticleWithContentById(1L).orElseThrow().content());
+    }
+}
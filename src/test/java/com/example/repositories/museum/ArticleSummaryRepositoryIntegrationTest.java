@@ -0,0 +1,120 @@
+package com.example.repositories.museum;
+
+import com.example.config.AbstractRepositoryIntegrationTest;
+import com.example.dto.museum.article.ArticleWithoutContent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.example.domain.museum.Article.ArticleTag.ARCHAEOLOGY;
+import static com.example.domain.museum.Article.ArticleTag.EVENTS;
+import static com.example.domain.museum.Article.ArticleTag.EXHIBITIONS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ArticleSummaryRepositoryIntegrationTest extends AbstractRepositoryIntegrationTest {
+
+    @Autowired
+    private ArticleSummaryRepository repository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllWithoutContentMatchesArticles() {
+        var articles = articleRepository.findAllWithoutContent();
+        statistics.clear();
+
+        var summaries = repository.findAllWithoutContent();
+
+        assertEquals(articles, summaries);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findPageWithoutContent() {
+        var firstPage = repository.findPageWithoutContent(0L, 2);
+        var secondPage = repository.findPageWithoutContent(firstPage.get(1).id(), 2);
+
+        assertEquals(2, firstPage.size());
+        assertEquals(2, secondPage.size());
+        assertTrue(firstPage.get(1).id() < secondPage.get(0).id());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findPageHavingAnyTag() {
+        var articles = repository.findPageHavingAnyTag(Set.of(EVENTS, ARCHAEOLOGY), 0L, 10);
+
+        assertEquals(List.of(1L, 2L), articles.stream().map(ArticleWithoutContent::id).toList());
+        assertEquals(Set.of(EXHIBITIONS, EVENTS), articles.get(0).tags());
+    }
+
+    @Test
+    void findPageHavingAnyTagAfterId() {
+        var articles = repository.findPageHavingAnyTag(Set.of(EVENTS, ARCHAEOLOGY), 1L, 10);
+
+        assertEquals(List.of(2L), articles.stream().map(ArticleWithoutContent::id).toList());
+    }
+
+    @Test
+    void findPageHavingAllTags() {
+        var articles = repository.findPageHavingAllTags(Set.of(EXHIBITIONS, EVENTS), 0L, 10);
+
+        assertEquals(List.of(1L), articles.stream().map(ArticleWithoutContent::id).toList());
+        assertTrue(repository.findPageHavingAllTags(Set.of(EVENTS, ARCHAEOLOGY), 0L, 10).isEmpty());
+    }
+
+    @Test
+    void refreshById() {
+        articleRepository.updateTitleAndBodyById("Refreshed title", "Refreshed content", 1L);
+
+        repository.refreshById(1L);
+
+        var summary = repository.findPageWithoutContent(0L, 1).get(0);
+        assertEquals("Refreshed title", summary.title());
+    }
+
+    @Test
+    void refreshAuthorUsername() {
+        var authorId = articleRepository.findArticleWithContentById(1L).orElseThrow().authorId();
+        authorRepository.updateUsernameById("renamed", authorId);
+
+        repository.refreshAuthorUsername(authorId);
+
+        assertTrue(repository.findAllWithoutContent().stream()
+                .filter(summary -> summary.authorId().equals(authorId))
+                .allMatch(summary -> summary.authorUsername().equals("renamed")));
+    }
+
+    @Test
+    void summaryIsDeletedWithArticle() {
+        articleRepository.deleteById(1L);
+        articleRepository.flush();
+
+        assertFalse(repository.existsById(1L));
+    }
+}
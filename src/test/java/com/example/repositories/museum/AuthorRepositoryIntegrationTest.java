@@ -1,11 +1,23 @@
 package com.example.repositories.museum;
 
 import com.example.config.AbstractRepositoryIntegrationTest;
+import com.example.domain.museum.Event;
+import com.example.dto.museum.article.ArticleWithoutContent;
 import com.example.dto.museum.author.AuthorShortResponse;
+import com.example.dto.museum.event.EventWithoutContent;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -14,6 +26,12 @@ class AuthorRepositoryIntegrationTest extends AbstractRepositoryIntegrationTest
     @Autowired
     private AuthorRepository authorRepository;
 
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void findAllAuthors() {
         var allAuthors = authorRepository.findAllAuthors();
@@ -48,4 +66,67 @@ class AuthorRepositoryIntegrationTest extends AbstractRepositoryIntegrationTest
         assertTrue(authorRepository.existsByUsername("author1"));
         assertFalse(authorRepository.existsByUsername("WRONG"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void findAuthorsAfterId() {
+        var firstPage = authorRepository.findAuthorsAfterId(0L, Pageable.ofSize(2));
+        var secondPage = authorRepository.findAuthorsAfterId(
+                firstPage.get(1).id(), Pageable.ofSize(2));
+
+        assertEquals(2, firstPage.size());
+        assertEquals(2, secondPage.size());
+        assertTrue(firstPage.get(1).id() < secondPage.get(0).id());
+    }
+
+    @Test
+    void findVersion() {
+        var version = authorRepository.findVersion().orElseThrow();
+
+        assertEquals(authorRepository.count(), version.key());
+        assertNotNull(version.lastModified());
+    }
+
+    @Test
+    void findVersionById() {
+        var version = authorRepository.findVersionById(1L).orElseThrow();
+
+        assertEquals(1L, version.key());
+        assertNotNull(version.lastModified());
+        assertTrue(authorRepository.findVersionById(Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void findProfileById() {
+        var now = LocalDateTime.now();
+        var events = IntStream.rangeClosed(1, 4)
+                .mapToObj(i -> eventRepository.saveAndFlush(new Event("Upcoming event " + i,
+                        "Content of an upcoming event of the first author", now.plusDays(5 - i), 10,
+                        authorRepository.getReferenceById(1L))))
+                .toList();
+        jdbcTemplate.update("UPDATE events SET status = 'CANCELED' WHERE id = ?", events.get(1).getId());
+
+        var profile = authorRepository.findProfileById(1L, now,
+                EnumSet.of(Event.EventStatus.SCHEDULED, Event.EventStatus.ACTIVE), 5, 2).orElseThrow();
+
+        assertEquals(1L, profile.author().id());
+        assertEquals(1L, profile.articleCount());
+        assertEquals(List.of(1L), profile.latestArticles().stream().map(ArticleWithoutContent::id).toList());
+        assertEquals(profile.author().username(), profile.latestArticles().get(0).authorUsername());
+        assertEquals(List.of(events.get(3).getId(), events.get(2).getId()),
+                profile.upcomingEvents().stream().map(EventWithoutContent::id).toList());
+    }
+
+    @Test
+    void findProfileByIdOfAuthorWithoutArticlesAndEvents() {
+        jdbcTemplate.update("DELETE FROM article_summaries WHERE author_id = 2");
+
+        var profile = authorRepository.findProfileById(2L, LocalDateTime.now(),
+                EnumSet.allOf(Event.EventStatus.class), 5, 5).orElseThrow();
+
+        assertEquals(0L, profile.articleCount());
+        assertTrue(profile.latestArticles().isEmpty());
+        assertTrue(profile.upcomingEvents().isEmpty());
+        assertTrue(authorRepository.findProfileById(Long.MAX_VALUE, LocalDateTime.now(),
+                EnumSet.allOf(Event.EventStatus.class), 5, 5).isEmpty());
+    }
+}
@@ -1,17 +1,46 @@
 package com.example.repositories.museum;
 
 import com.example.config.AbstractRepositoryIntegrationTest;
+import com.example.domain.museum.Event;
+import com.example.dto.museum.event.EventCalendarPeriod;
+import com.example.dto.museum.event.EventChange;
+import com.example.dto.museum.event.EventFilter;
+import com.example.dto.museum.event.EventStub;
 import com.example.dto.museum.event.EventWithContent;
 import com.example.dto.museum.event.EventWithoutContent;
+import com.example.dto.pagination.Cursors;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class EventRepositoryIntegrationTest extends AbstractRepositoryIntegrationTest {
 
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void findAllEventsWithoutContent() {
         var events = eventRepository.findAllEventsWithoutContent();
@@ -73,4 +102,317 @@ class EventRepositoryIntegrationTest extends AbstractRepositoryIntegrationTest {
         event.map(EventWithContent::authorUsername)
                 .ifPresentOrElse(Assertions::assertNotNull, Assertions::fail);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findEventsWithoutContentAfterId() {
+        var firstPage = eventRepository.findEventsWithoutContentAfterId(0L, Pageable.ofSize(2));
+        var secondPage = eventRepository.findEventsWithoutContentAfterId(
+                firstPage.get(1).id(), Pageable.ofSize(2));
+
+        assertEquals(2, firstPage.size());
+        assertEquals(2, secondPage.size());
+        assertTrue(firstPage.get(1).id() < secondPage.get(0).id());
+    }
+
+    @Test
+    void findVersion() {
+        var version = eventRepository.findVersion().orElseThrow();
+
+        assertEquals(eventRepository.count(), version.key());
+        assertNotNull(version.lastModified());
+    }
+
+    @Test
+    void findVersionById() {
+        var version = eventRepository.findVersionById(1L).orElseThrow();
+
+        assertEquals(1L, version.key());
+        assertNotNull(version.lastModified());
+        assertTrue(eventRepository.findVersionById(Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void findByIdDoesNotLoadContent() {
+        var event = eventRepository.findById(1L).orElseThrow();
+
+        assertFalse(Hibernate.isPropertyInitialized(event, "content"));
+        assertNotNull(event.getContent());
+        assertTrue(Hibernate.isPropertyInitialized(event, "content"));
+    }
+
+    @Test
+    void findAllEventsWithoutContentIsOrderedByTiming() {
+        var events = eventRepository.findAllEventsWithoutContent();
+
+        var timings = events.stream().map(EventWithoutContent::timing).toList();
+        assertEquals(timings.stream().sorted().toList(), timings);
+    }
+
+    @Test
+    void findPageInWindow() {
+        var timing = eventRepository.findAllEventsWithoutContent().get(0).timing();
+        var from = timing.minusDays(1);
+        var to = timing.plusDays(1);
+
+        var firstPage = eventRepository.findPageInWindow(from, to, null, new Cursors.TimingKey(from, 0L), 2);
+        var last = firstPage.get(1);
+        var secondPage = eventRepository.findPageInWindow(from, to, null, new Cursors.TimingKey(last.timing(), last.id()), 2);
+
+        assertEquals(List.of(1L, 2L), firstPage.stream().map(EventWithoutContent::id).toList());
+        assertEquals(List.of(3L, 4L), secondPage.stream().map(EventWithoutContent::id).toList());
+    }
+
+    @Test
+    void findPageInWindowWithStatus() {
+        var timing = eventRepository.findAllEventsWithoutContent().get(0).timing();
+        var from = timing.minusDays(1);
+
+        var events = eventRepository.findPageInWindow(from, timing.plusDays(1), Event.EventStatus.ACTIVE,
+                new Cursors.TimingKey(from, 0L), 10);
+
+        assertEquals(List.of(1L, 3L, 5L), events.stream().map(EventWithoutContent::id).toList());
+    }
+
+    @Test
+    void findPageInWindowExcludesWindowEnd() {
+        var timing = eventRepository.findAllEventsWithoutContent().get(0).timing();
+        var from = timing.minusDays(1);
+
+        assertTrue(eventRepository.findPageInWindow(from, timing, null, new Cursors.TimingKey(from, 0L), 10).isEmpty());
+    }
+
+    @Test
+    void findFilteredCombinesCriteria() {
+        var filter = new EventFilter(Set.of(Event.EventStatus.ACTIVE, Event.EventStatus.CANCELED),
+                null, 80, 150, null, null);
+
+        var events = eventRepository.findFiltered(filter, null, 10);
+
+        assertEquals(List.of(1L, 5L), events.stream().map(EventWithoutContent::id).toList());
+    }
+
+    @Test
+    void findFilteredByAuthor() {
+        var filter = new EventFilter(null, 2L, null, null, null, null);
+
+        var events = eventRepository.findFiltered(filter, null, 10);
+
+        assertEquals(List.of(2L), events.stream().map(EventWithoutContent::id).toList());
+        assertEquals(2L, events.get(0).authorId());
+    }
+
+    @Test
+    void findFilteredWithoutCriteriaPagesThroughAllEvents() {
+        var filter = new EventFilter(Set.of(), null, null, null, null, null);
+
+        var firstPage = eventRepository.findFiltered(filter, null, 2);
+        var last = firstPage.get(1);
+        var secondPage = eventRepository.findFiltered(filter, new Cursors.TimingKey(last.timing(), last.id()), 2);
+
+        assertEquals(List.of(1L, 2L), firstPage.stream().map(EventWithoutContent::id).toList());
+        assertEquals(List.of(3L, 4L), secondPage.stream().map(EventWithoutContent::id).toList());
+    }
+
+    @Test
+    void findFilteredInWindowExcludesWindowEnd() {
+        var timing = eventRepository.findAllEventsWithoutContent().get(0).timing();
+
+        assertTrue(eventRepository.findFiltered(
+                new EventFilter(null, null, null, null, timing.minusDays(1), timing), null, 10).isEmpty());
+        assertEquals(5, eventRepository.findFiltered(
+                new EventFilter(null, null, null, null, timing, timing.plusDays(1)), null, 10).size());
+    }
+
+    @Test
+    void rescheduleFilteredMovesEventsAndMarksThemTransferred() {
+        var now = LocalDateTime.now();
+        var timing = eventRepository.findAllEventsWithoutContent().get(0).timing();
+        var filter = new EventFilter(null, null, 70, 110, null, null);
+
+        var changes = eventRepository.rescheduleFiltered(filter, Duration.ofDays(1), now);
+
+        assertEquals(Set.of(1L), changes.stream().map(EventChange::eventId).collect(Collectors.toSet()));
+        assertEquals(new EventChange(1L, Event.EventStatus.TRANSFERRED, 100, now), changes.get(0));
+        var moved = eventRepository.findAllEventsWithoutContent().stream()
+                .filter(e -> e.id() == 1L)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(timing.plusDays(1), moved.timing());
+        assertEquals(Event.EventStatus.CANCELED, eventRepository.findById(4L).orElseThrow().getStatus());
+    }
+
+    @Test
+    void rescheduleFilteredMovesEventsBySubSecondOffsets() {
+        var timing = eventRepository.findAllEventsWithoutContent().get(0).timing();
+        var filter = new EventFilter(null, null, 70, 110, null, null);
+
+        var changes = eventRepository.rescheduleFiltered(filter, Duration.ofMillis(1500).plusNanos(250_000), timing);
+
+        assertEquals(List.of(1L), changes.stream().map(EventChange::eventId).toList());
+
+        var moved = eventRepository.findAllEventsWithoutContent().stream()
+                .filter(e -> e.id() == 1L)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(timing.plusNanos(1_500_250_000), moved.timing());
+    }
+
+    @Test
+    void rescheduleFilteredSkipsEventsMovedIntoThePast() {
+        var filter = new EventFilter(null, 1L, null, null, null, null);
+
+        assertTrue(eventRepository.rescheduleFiltered(filter, Duration.ofDays(-1), LocalDateTime.now()).isEmpty());
+    }
+
+    @Test
+    void cancelFilteredCancelsMatchingEvents() {
+        var filter = new EventFilter(Set.of(Event.EventStatus.ACTIVE, Event.EventStatus.CANCELED),
+                null, null, null, null, null);
+
+        var changes = eventRepository.cancelFiltered(filter, LocalDateTime.now());
+
+        assertEquals(Set.of(1L, 3L, 5L), changes.stream().map(EventChange::eventId).collect(Collectors.toSet()));
+        changes.forEach(change -> assertEquals(Event.EventStatus.CANCELED, change.status()));
+        assertEquals(List.of(1L, 3L, 4L, 5L), eventRepository.findFiltered(
+                        new EventFilter(Set.of(Event.EventStatus.CANCELED), null, null, null, null, null), null, 10)
+                .stream().map(EventWithoutContent::id).toList());
+    }
+
+    @Test
+    void findRemainingSeatsById() {
+        assertEquals(100, eventRepository.findRemainingSeatsById(1L).orElseThrow());
+        assertEquals(0, eventRepository.findRemainingSeatsById(4L).orElseThrow());
+        assertTrue(eventRepository.findRemainingSeatsById(Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void activateStarted() {
+        var timing = eventRepository.findAllEventsWithoutContent().get(0).timing();
+
+        var now = timing.plusMinutes(1);
+
+        var transition = eventRepository.activateStarted(now);
+
+        assertEquals(new EventLifecycleRepository.StatusTransition(
+                List.of(new EventChange(2L, Event.EventStatus.ACTIVE, 50, now)), timing), transition);
+        assertEquals(List.of(Event.EventStatus.ACTIVE, Event.EventStatus.ACTIVE, Event.EventStatus.ACTIVE,
+                        Event.EventStatus.CANCELED, Event.EventStatus.ACTIVE),
+                eventRepository.findAllEventsWithoutContent().stream().map(EventWithoutContent::status).toList());
+    }
+
+    @Test
+    void activateStartedSkipsEventsThatHaveNotStarted() {
+        var timing = eventRepository.findAllEventsWithoutContent().get(0).timing();
+
+        assertEquals(new EventLifecycleRepository.StatusTransition(List.of(), null),
+                eventRepository.activateStarted(timing.minusMinutes(1)));
+    }
+
+    @Test
+    void archiveStartedBefore() {
+        var timing = eventRepository.findAllEventsWithoutContent().get(0).timing();
+
+        var transition = eventRepository.archiveStartedBefore(timing.plusMinutes(1), timing.plusDays(1));
+
+        assertEquals(5, transition.rows());
+        assertEquals(timing, transition.oldestTiming());
+        assertEquals(Set.of(1L, 2L, 3L, 4L, 5L),
+                transition.changes().stream().map(EventChange::eventId).collect(Collectors.toSet()));
+        transition.changes().forEach(change -> assertEquals(Event.EventStatus.ARCHIVED, change.status()));
+        assertTrue(eventRepository.findAllEventsWithoutContent().stream()
+                .allMatch(e -> e.status() == Event.EventStatus.ARCHIVED));
+        assertEquals(0, eventRepository.archiveStartedBefore(timing.plusMinutes(1), timing.plusDays(1)).rows());
+    }
+
+    @Test
+    void findCalendar() {
+        var timing = eventRepository.findAllEventsWithoutContent().get(0).timing();
+        var week = EventCalendarPeriod.WEEK.start(timing);
+
+        var calendar = eventRepository.findCalendar(EventCalendarPeriod.WEEK, week.minusWeeks(1), week.plusWeeks(1), 2);
+
+        assertEquals(1, calendar.size());
+        var bucket = calendar.get(0);
+        assertEquals(week, bucket.start());
+        assertEquals(5, bucket.total());
+        assertEquals(Map.of(Event.EventStatus.ACTIVE, 3L, Event.EventStatus.SCHEDULED, 1L, Event.EventStatus.CANCELED, 1L),
+                bucket.countsByStatus());
+        assertEquals(List.of(1L, 2L), bucket.events().stream().map(EventStub::id).toList());
+    }
+
+    @Test
+    void findUpcomingEvents() {
+        var timing = eventRepository.findAllEventsWithoutContent().get(0).timing();
+
+        var events = eventRepository.findUpcomingEvents(timing.minusMinutes(1),
+                List.of(Event.EventStatus.SCHEDULED, Event.EventStatus.CANCELED), Pageable.ofSize(10));
+
+        assertEquals(List.of(2L, 4L), events.stream().map(EventWithoutContent::id).toList());
+        assertTrue(eventRepository.findUpcomingEvents(timing, List.of(Event.EventStatus.values()),
+                Pageable.ofSize(10)).isEmpty());
+    }
+
+    @Test
+    void findPartitionMonths() {
+        var months = eventRepository.findPartitionMonths();
+
+        assertTrue(months.contains(YearMonth.now()));
+        assertTrue(months.contains(YearMonth.now().plusMonths(12)));
+        assertEquals(months.stream().sorted().toList(), months);
+    }
+
+    @Test
+    void createPartitionMovesEventsOutOfDefaultPartition() {
+        var timing = LocalDateTime.now().plusYears(5);
+        var event = eventRepository.saveAndFlush(new Event("Far away event",
+                "Content of the event that is scheduled five years ahead", timing, 10,
+                authorRepository.getReferenceById(1L)));
+        assertEquals("events_default", partitionOf(event.getId()));
+
+        eventRepository.createPartition(YearMonth.from(timing));
+
+        assertTrue(eventRepository.findPartitionMonths().contains(YearMonth.from(timing)));
+        assertEquals(String.format("events_y%1$tYm%1$tm", timing), partitionOf(event.getId()));
+        assertTrue(eventRepository.findEventWithContentById(event.getId()).isPresent());
+    }
+
+    @Test
+    void detachPartitionKeepsItsTable() {
+        var month = YearMonth.of(2000, 1);
+        eventRepository.createPartition(month);
+
+        eventRepository.detachPartition(month);
+
+        assertFalse(eventRepository.findPartitionMonths().contains(month));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM events_y2000m01", Integer.class));
+    }
+
+    @Test
+    void detachPartitionArchivesReservationsOfItsEvents() {
+        var month = YearMonth.of(2000, 2);
+        eventRepository.createPartition(month);
+        var eventId = jdbcTemplate.queryForObject("""
+                INSERT INTO events (title, content, timing, capacity, status, author_id)
+                VALUES ('Past event', 'Content of the event that took place long ago', ?, 10, 'ARCHIVED', 1)
+                RETURNING id
+                """, Long.class, Timestamp.valueOf(month.atDay(10).atTime(18, 0)));
+        jdbcTemplate.update("INSERT INTO reservations (event_id, user_id, seats) VALUES (?, 1, 2)", eventId);
+        jdbcTemplate.update("INSERT INTO reservations (event_id, user_id, seats) VALUES (1, 1, 3)");
+
+        eventRepository.detachPartition(month);
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM reservations WHERE event_id = ?", Integer.class, eventId));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT seats FROM reservations_y2000m02 WHERE event_id = ?", Integer.class, eventId));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM events_y2000m02 WHERE id = ?", Integer.class, eventId));
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT seats FROM reservations WHERE event_id = 1", Integer.class));
+    }
+
+    private String partitionOf(final Long eventId) {
+        return jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM events WHERE id = ?",
+                String.class, eventId);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.repositories.museum;
+
+import com.example.config.AbstractRepositoryIntegrationTest;
+import com.example.domain.museum.Event;
+import com.example.repositories.museum.ReservationBatchRepository.ClaimedSeats;
+import com.example.repositories.museum.ReservationBatchRepository.NewReservation;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReservationRepositoryIntegrationTest extends AbstractRepositoryIntegrationTest {
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Test
+    void claimSeats() {
+        var claimed = reservationRepository.claimSeats(Map.of(1L, 60, 2L, 10));
+
+        assertEquals(2, claimed.size());
+        assertTrue(claimed.contains(new ClaimedSeats(1L, Event.EventStatus.ACTIVE, 40)));
+        assertTrue(claimed.contains(new ClaimedSeats(2L, Event.EventStatus.SCHEDULED, 40)));
+        assertEquals(40, eventRepository.findRemainingSeatsById(1L).orElseThrow());
+    }
+
+    @Test
+    void claimSeatsMarksEventFullWhenNoSeatsAreLeft() {
+        var claimed = reservationRepository.claimSeats(Map.of(2L, 50));
+
+        assertEquals(List.of(new ClaimedSeats(2L, Event.EventStatus.FULL, 0)), claimed);
+        assertEquals(0, eventRepository.findRemainingSeatsById(2L).orElseThrow());
+    }
+
+    @Test
+    void claimSeatsRejectsSeatsOverCapacity() {
+        var claimed = reservationRepository.claimSeats(Map.of(1L, 101, 2L, 50));
+
+        assertEquals(List.of(new ClaimedSeats(2L, Event.EventStatus.FULL, 0)), claimed);
+        assertEquals(100, eventRepository.findRemainingSeatsById(1L).orElseThrow());
+    }
+
+    @Test
+    void claimSeatsRejectsEventsThatAreNotBookable() {
+        assertTrue(reservationRepository.claimSeats(Map.of(4L, 1)).isEmpty());
+    }
+
+    @Test
+    void insertAll() {
+        var now = LocalDateTime.now();
+        var reservations = List.of(
+                new NewReservation(1L, 1L, 2, now),
+                new NewReservation(1L, 2L, 3, now),
+                new NewReservation(2L, 1L, 1, now));
+
+        var ids = reservationRepository.insertAll(reservations);
+
+        assertEquals(3, ids.size());
+        assertEquals(3, reservationRepository.findAllById(ids).size());
+        assertEquals(5, reservationRepository.countSeatsByEventId(1L));
+        assertEquals(1, reservationRepository.countSeatsByEventId(2L));
+    }
+
+    @Test
+    void insertAllDoesNothingWhenThereAreNoReservations() {
+        assertTrue(reservationRepository.insertAll(List.of()).isEmpty());
+        assertEquals(0, reservationRepository.count());
+    }
+}
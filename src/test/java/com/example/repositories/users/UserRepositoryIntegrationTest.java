@@ -6,6 +6,7 @@ import com.example.dto.users.UserResponse;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -47,4 +48,31 @@ class UserRepositoryIntegrationTest extends AbstractRepositoryIntegrationTest {
         var optionalSavedUser = userRepository.save(user);
         assertNotNull(optionalSavedUser.getId());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findDtosAfterIdShouldPass() {
+        var firstPage = userRepository.findDtosAfterId(0L, Pageable.ofSize(2));
+        var secondPage = userRepository.findDtosAfterId(firstPage.get(1).id(), Pageable.ofSize(2));
+
+        assertEquals(2, firstPage.size());
+        assertEquals(2, secondPage.size());
+        assertTrue(firstPage.get(1).id() < secondPage.get(0).id());
+    }
+
+    @Test
+    void findVersion() {
+        var version = userRepository.findVersion().orElseThrow();
+
+        assertEquals(userRepository.count(), version.key());
+        assertNotNull(version.lastModified());
+    }
+
+    @Test
+    void findVersionById() {
+        var version = userRepository.findVersionById(1L).orElseThrow();
+
+        assertEquals(1L, version.key());
+        assertNotNull(version.lastModified());
+        assertTrue(userRepository.findVersionById(Long.MAX_VALUE).isEmpty());
+    }
+}
@@ -1,20 +1,35 @@
 package com.example.services.museum.impl;
 
 import com.example.config.AbstractServiceIntegrationTest;
+import com.example.config.CacheConfig;
 import com.example.dto.museum.article.ArticlePublishingForm;
+import com.example.dto.museum.article.ArticlePublishingResult;
+import com.example.dto.museum.article.ArticleSearchResult;
 import com.example.dto.museum.article.ArticleWithContent;
 import com.example.dto.museum.article.ArticleWithoutContent;
+import com.example.dto.museum.article.TagMatch;
 import com.example.services.museum.ArticleService;
 import com.example.services.museum.exceptions.ArticleNotFoundException;
+import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import static com.example.constraints.museum.ArticleConstraints.MAX_BULK_SIZE;
 import static com.example.domain.museum.Article.ArticleTag.ARCHAEOLOGY;
 import static com.example.domain.museum.Article.ArticleTag.ART_HISTORY;
+import static com.example.domain.museum.Article.ArticleTag.EVENTS;
+import static com.example.domain.museum.Article.ArticleTag.INTERVIEWS;
 import static org.junit.jupiter.api.Assertions.*;
 
 class ArticleServiceImplIntegrationTest extends AbstractServiceIntegrationTest<ArticlePublishingForm> {
@@ -104,6 +119,15 @@ class ArticleServiceImplIntegrationTest extends AbstractServiceIntegrationTest<A
         assertNotNull(articleWithContent.createdAt());
     }
 
+    @Test
+    void getByIds() {
+        var lookup = articleService.getByIds(List.of(4L, 1L, 4L, Long.MAX_VALUE));
+
+        assertEquals(List.of(4L, 1L), lookup.found().stream().map(ArticleWithoutContent::id).toList());
+        assertEquals(articleService.getById(1L).title(), lookup.found().get(1).title());
+        assertEquals(List.of(Long.MAX_VALUE), lookup.missingIds());
+    }
+
     @Test
     void save() {
         set("authorId", 1L);
@@ -121,6 +145,34 @@ class ArticleServiceImplIntegrationTest extends AbstractServiceIntegrationTest<A
         assertNotNull(savedArticle.createdAt());
     }
 
+    @Test
+    void saveAllPublishesValidFormsAndRejectsInvalidOnes() {
+        var valid = new ArticlePublishingForm("Bulk article", "Content of the article that is published in bulk", Set.of(EVENTS), 1L);
+        var invalid = new ArticlePublishingForm("", "Content of the article that is published in bulk", Set.of(), 1L);
+        var unknownAuthor = new ArticlePublishingForm("Bulk article", "Content of the article that is published in bulk", Set.of(), Long.MAX_VALUE);
+
+        var results = articleService.saveAll(Arrays.asList(valid, invalid, null, unknownAuthor, valid));
+
+        assertEquals(List.of(0, 1, 2, 3, 4), results.stream().map(ArticlePublishingResult::index).toList());
+        assertEquals(valid.title(), articleService.getById(results.get(0).id()).title());
+        assertEquals(valid.title(), articleService.getById(results.get(4).id()).title());
+        assertNotEquals(results.get(0).id(), results.get(4).id());
+        assertTrue(results.get(0).errors().isEmpty());
+        assertNull(results.get(1).id());
+        assertTrue(results.get(1).errors().stream().allMatch(error -> error.startsWith("title: ")));
+        assertEquals(List.of(ArticleServiceImpl.ARTICLE_MUST_NOT_BE_NULL), results.get(2).errors());
+        assertNull(results.get(3).id());
+        assertEquals(1, results.get(3).errors().size());
+    }
+
+    @Test
+    void saveAllThrowsExceptionWhenThereAreTooManyForms() {
+        var form = new ArticlePublishingForm("Bulk article", "Content of the article that is published in bulk", Set.of(), 1L);
+        var forms = Collections.nCopies(MAX_BULK_SIZE + 1, form);
+
+        assertThrows(ConstraintViolationException.class, () -> articleService.saveAll(forms));
+    }
+
     @Test
     void update() {
         var article = getModel();
@@ -133,6 +185,31 @@ class ArticleServiceImplIntegrationTest extends AbstractServiceIntegrationTest<A
         assertEquals(content, updatedArticle.content());
     }
 
+    @Test
+    void saveAndUpdateAreListedWithoutContent() {
+        var form = new ArticlePublishingForm("Listed article", "Content of the article that is listed after saving", Set.of(ARCHAEOLOGY), 1L);
+        var savedArticle = articleService.save(form);
+        articleService.update(1L, "Listed title", "Content of the article that is listed after update");
+
+        var titlesById = articleService.getAllWithoutContent().stream()
+                .collect(Collectors.toMap(ArticleWithoutContent::id, ArticleWithoutContent::title));
+
+        assertEquals("Listed article", titlesById.get(savedArticle.id()));
+        assertEquals("Listed title", titlesById.get(1L));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void deleteByIdRemovesArticleFromList() {
+        var form = new ArticlePublishingForm("Deleted article", "Content of the article that is deleted after saving", Set.of(ARCHAEOLOGY), 1L);
+        var savedArticle = articleService.save(form);
+
+        articleService.deleteById(savedArticle.id());
+
+        assertTrue(articleService.getAllWithoutContent().stream()
+                .noneMatch(article -> article.id().equals(savedArticle.id())));
+    }
+
     @Test
     void deleteById() {
         long id = 1L;
@@ -140,4 +217,115 @@ class ArticleServiceImplIntegrationTest extends AbstractServiceIntegrationTest<A
 
         assertThrows(ArticleNotFoundException.class, () -> articleService.getById(id));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getPageWalksThroughAllRecords() {
+        var ids = new ArrayList<Long>();
+        String cursor = null;
+        do {
+            var page = articleService.getPageWithoutContent(cursor, 2);
+            assertTrue(page.content().size() <= 2);
+            page.content().stream()
+                    .map(ArticleWithoutContent::id)
+                    .forEach(ids::add);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(ids.stream().sorted().distinct().toList(), ids);
+        assertTrue(ids.size() >= 5);
+    }
+
+    @Test
+    void getPageThrowsExceptionWhenCursorIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> articleService.getPageWithoutContent("invalid cursor", 2));
+    }
+
+    @Test
+    void exportAllWithContent() {
+        var exportedArticles = new ArrayList<ArticleWithContent>();
+
+        articleService.exportAllWithContent(exportedArticles::add);
+
+        var ids = exportedArticles.stream()
+                .map(ArticleWithContent::id)
+                .toList();
+        assertEquals(ids.stream().sorted().toList(), ids);
+        assertTrue(ids.size() >= 5);
+        assertTrue(exportedArticles.stream()
+                .map(ArticleWithContent::tags)
+                .anyMatch(tags -> !tags.isEmpty()));
+    }
+
+    @Test
+    void searchWalksThroughAllMatches() {
+        var ids = new ArrayList<Long>();
+        String cursor = null;
+        do {
+            var page = articleService.search("article content", cursor, 2);
+            assertTrue(page.content().size() <= 2);
+            page.content().stream()
+                    .map(ArticleSearchResult::id)
+                    .forEach(ids::add);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(ids.stream().distinct().toList(), ids);
+        assertTrue(ids.size() >= 5);
+    }
+
+    @Test
+    void searchThrowsExceptionWhenQueryIsBlank() {
+        assertThrows(ConstraintViolationException.class, () -> articleService.search(" ", null, 2));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getByIdIsCachedAndRefreshedByUpdate() {
+        var article = articleService.getById(1L);
+        assertEquals(article, cache(CacheConfig.ARTICLES).get(1L, ArticleWithContent.class));
+
+        try {
+            articleService.update(1L, "Cached title", article.content());
+            assertEquals("Cached title", cache(CacheConfig.ARTICLES).get(1L, ArticleWithContent.class).title());
+        } finally {
+            articleService.update(1L, article.title(), article.content());
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void saveIsCachedAndEvictedByDelete() {
+        var form = new ArticlePublishingForm("Cached article", "Content of the article that is cached after saving", Set.of(ARCHAEOLOGY), 1L);
+
+        var savedArticle = articleService.save(form);
+        assertEquals(savedArticle, cache(CacheConfig.ARTICLES).get(savedArticle.id(), ArticleWithContent.class));
+
+        articleService.deleteById(savedArticle.id());
+        assertNull(cache(CacheConfig.ARTICLES).get(savedArticle.id()));
+    }
+
+    @Test
+    void updateIsNotCachedBeforeCommit() {
+        articleService.update(1L, "Uncommitted title", "Uncommitted content");
+
+        assertNull(cache(CacheConfig.ARTICLES).get(1L));
+    }
+
+    @Test
+    void getPageByTags() {
+        var anyPage = articleService.getPageByTags(Set.of(EVENTS, INTERVIEWS), TagMatch.ANY, null, 1);
+        var nextAnyPage = articleService.getPageByTags(Set.of(EVENTS, INTERVIEWS), TagMatch.ANY, anyPage.nextCursor(), 1);
+        var allPage = articleService.getPageByTags(Set.of(EVENTS, INTERVIEWS), TagMatch.ALL, null, 1);
+
+        assertEquals(1L, anyPage.content().get(0).id());
+        assertEquals(3L, nextAnyPage.content().get(0).id());
+        assertTrue(allPage.content().isEmpty());
+        assertNull(allPage.nextCursor());
+    }
+
+    @Test
+    void getPageByTagsThrowsExceptionWhenTagsAreEmpty() {
+        assertThrows(ConstraintViolationException.class,
+                () -> articleService.getPageByTags(Set.of(), TagMatch.ANY, null, 2));
+    }
+}
@@ -1,22 +1,52 @@
 package com.example.services.museum.impl;
 
 import com.example.config.AbstractServiceIntegrationTest;
+import com.example.config.CacheConfig;
+import com.example.constraints.museum.AuthorConstraints;
 import com.example.dto.museum.author.AuthorRegistrationForm;
 import com.example.dto.museum.author.AuthorShortResponse;
+import com.example.dto.museum.event.EventPublishingForm;
+import com.example.services.museum.ArticleService;
 import com.example.services.museum.AuthorService;
+import com.example.services.museum.EventService;
+import com.example.services.museum.exceptions.AuthorAlreadyExistException;
+import com.example.services.museum.exceptions.AuthorNotFoundException;
+import com.example.services.uniqueness.UniquenessFilter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AuthorServiceIntegrationTest extends AbstractServiceIntegrationTest<AuthorRegistrationForm> {
 
     @Autowired
     private AuthorService authorService;
 
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private UniquenessFilter<String> authorUsernames;
+
+    @Autowired
+    private UniquenessFilter<Long> authorUserIds;
+
     @AfterEach
     void tearDown() {
         clearAdditionalSettings();
@@ -53,6 +83,14 @@ class AuthorServiceIntegrationTest extends AbstractServiceIntegrationTest<Author
         assertNotNull(authorShortResponse.userLastName());
     }
 
+    @Test
+    void getByIds() {
+        var lookup = authorService.getByIds(List.of(2L, Long.MAX_VALUE, 1L, 2L));
+
+        assertEquals(List.of(authorService.getById(2L), authorService.getById(1L)), lookup.found());
+        assertEquals(List.of(Long.MAX_VALUE), lookup.missingIds());
+    }
+
     @Test
     void save() {
         set("userId", 6L);
@@ -66,6 +104,42 @@ class AuthorServiceIntegrationTest extends AbstractServiceIntegrationTest<Author
         assertNotNull(authorShortResponse.userLastName());
     }
 
+    @Test
+    void getProfile() {
+        var profile = authorService.getProfile(1L);
+
+        assertEquals(authorService.getById(1L), profile.author());
+        assertEquals(profile.latestArticles().size(), profile.articleCount());
+        assertTrue(profile.upcomingEvents().size() <= AuthorConstraints.PROFILE_UPCOMING_EVENTS);
+    }
+
+    @Test
+    void getProfileThrowsExceptionWhenAuthorIsNotFound() {
+        assertThrows(AuthorNotFoundException.class, () -> authorService.getProfile(Long.MAX_VALUE));
+    }
+
+    @Test
+    void saveThrowsExceptionWhenUsernameIsTaken() {
+        var authorForm = new AuthorRegistrationForm(authorService.getById(1L).username(), 6L);
+
+        assertThrows(AuthorAlreadyExistException.class, () -> authorService.save(authorForm));
+    }
+
+    @Test
+    void saveThrowsExceptionWhenUserAlreadyHasAuthor() {
+        var authorForm = new AuthorRegistrationForm("second-author-of-user", 1L);
+
+        assertThrows(AuthorAlreadyExistException.class, () -> authorService.save(authorForm));
+    }
+
+    @Test
+    void saveAddsAuthorToUniquenessFilters() {
+        authorService.save(new AuthorRegistrationForm("filtered-author", 6L));
+
+        assertTrue(authorUsernames.exists("filtered-author", username -> true));
+        assertTrue(authorUserIds.exists(6L, userId -> true));
+    }
+
     @Test
     void updateUsername() {
         var usernameToUpdate = "updated";
@@ -74,4 +148,73 @@ class AuthorServiceIntegrationTest extends AbstractServiceIntegrationTest<Author
 
         assertEquals(usernameToUpdate, updatedUsername);
     }
-}
\ No newline at end of file
+
+    @Test
+    void updateUsernameThrowsExceptionWhenUsernameIsTaken() {
+        var taken = authorService.getById(2L).username();
+
+        assertThrows(AuthorAlreadyExistException.class, () -> authorService.updateUsername(1L, taken));
+        assertNotEquals(taken, authorService.getById(1L).username());
+    }
+
+    @Test
+    void updateUsernameIsListedWithArticles() {
+        authorService.updateUsername(1L, "renamed");
+
+        assertTrue(articleService.getAllWithoutContent().stream()
+                .filter(article -> article.authorId().equals(1L))
+                .allMatch(article -> article.authorUsername().equals("renamed")));
+    }
+
+    @Test
+    void getPageWalksThroughAllRecords() {
+        var ids = new ArrayList<Long>();
+        String cursor = null;
+        do {
+            var page = authorService.getPage(cursor, 2);
+            assertTrue(page.content().size() <= 2);
+            page.content().stream()
+                    .map(AuthorShortResponse::id)
+                    .forEach(ids::add);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(ids.stream().sorted().distinct().toList(), ids);
+        assertTrue(ids.size() >= 5);
+    }
+
+    @Test
+    void getPageThrowsExceptionWhenCursorIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> authorService.getPage("invalid cursor", 2));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void updateUsernameEvictsCachedArticles() {
+        var article = articleService.getById(1L);
+        var author = authorService.getById(article.authorId());
+
+        authorService.updateUsername(author.id(), author.username());
+
+        assertNull(cache(CacheConfig.ARTICLES).get(article.id()));
+        assertEquals(author, cache(CacheConfig.AUTHORS).get(author.id(), AuthorShortResponse.class));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void updateUsernameIsListedWithUpcomingEvents() {
+        var author = authorService.getById(1L);
+        var event = eventService.save(new EventPublishingForm("Event of renamed author",
+                "Content of the event whose author is renamed", LocalDateTime.now().plusDays(1), 10, author.id()));
+        try {
+            authorService.updateUsername(author.id(), "renamed");
+
+            assertTrue(eventService.getUpcoming(Integer.MAX_VALUE).stream()
+                    .anyMatch(upcoming -> upcoming.id().equals(event.id())
+                            && upcoming.authorUsername().equals("renamed")));
+        } finally {
+            authorService.updateUsername(author.id(), author.username());
+            eventService.deleteById(event.id());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.services.museum.impl;
+
+import com.example.config.AbstractServiceIntegrationTest;
+import com.example.domain.museum.Event;
+import com.example.dto.museum.event.EventChange;
+import com.example.dto.museum.event.EventPublishingForm;
+import com.example.services.museum.EventService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@RecordApplicationEvents
+class EventLifecycleJobIntegrationTest extends AbstractServiceIntegrationTest<EventPublishingForm> {
+
+    @Autowired
+    private EventLifecycleJob eventLifecycleJob;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Test
+    void runActivatesStartedEvents() {
+        var summary = meterRegistry.summary(EventLifecycleJob.ROWS_METRIC, "status", "ACTIVE");
+        var runs = summary.count();
+        var rows = summary.totalAmount();
+
+        eventLifecycleJob.run();
+
+        assertEquals(Event.EventStatus.ACTIVE, eventService.getById(2L).status());
+        assertEquals(runs + 1, summary.count());
+        assertTrue(summary.totalAmount() >= rows + 1);
+        assertTrue(meterRegistry.timer(EventLifecycleJob.LAG_METRIC, "status", "ACTIVE").count() > 0);
+        assertTrue(applicationEvents.stream(EventChange.class).anyMatch(change -> change.eventId().equals(2L)
+                && change.status() == Event.EventStatus.ACTIVE && change.remainingSeats() == 50));
+    }
+
+    @Test
+    void runArchivesEventsStartedLongAgo() {
+        var event = eventService.save(new EventPublishingForm("Long gone event",
+                "Content of the event that has been over for a long time",
+                LocalDateTime.now().plusDays(1), 10, 1L));
+        jdbcTemplate.update("UPDATE events SET timing = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(30)), event.id());
+        var timer = meterRegistry.timer(EventLifecycleJob.LAG_METRIC, "status", "ARCHIVED");
+        var lagged = timer.count();
+
+        eventLifecycleJob.run();
+
+        assertEquals(Event.EventStatus.ARCHIVED, eventService.getById(event.id()).status());
+        assertEquals(lagged + 1, timer.count());
+        assertTrue(timer.max(TimeUnit.DAYS) >= 28);
+        assertTrue(applicationEvents.stream(EventChange.class).anyMatch(change -> change.eventId().equals(event.id())
+                && change.status() == Event.EventStatus.ARCHIVED));
+    }
+
+    @Test
+    void runKeepsEventsThatHaveNotStarted() {
+        var event = eventService.save(new EventPublishingForm("Upcoming event",
+                "Content of the event that starts next week",
+                LocalDateTime.now().plusDays(7), 10, 1L));
+
+        eventLifecycleJob.run();
+
+        assertEquals(Event.EventStatus.SCHEDULED, eventService.getById(event.id()).status());
+        assertTrue(applicationEvents.stream(EventChange.class).noneMatch(change -> change.eventId().equals(event.id())));
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.services.museum.impl;
+
+import com.example.config.AbstractServiceIntegrationTest;
+import com.example.dto.museum.event.EventPublishingForm;
+import com.example.repositories.museum.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventPartitionJobIntegrationTest extends AbstractServiceIntegrationTest<EventPublishingForm> {
+
+    @Autowired
+    private EventPartitionJob eventPartitionJob;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void runKeepsPartitionsOfComingMonths() {
+        eventPartitionJob.run();
+
+        var months = eventRepository.findPartitionMonths();
+        for (var month = YearMonth.now(); !month.isAfter(YearMonth.now().plusMonths(12)); month = month.plusMonths(1)) {
+            assertTrue(months.contains(month), month.toString());
+        }
+    }
+
+    @Test
+    void runDetachesPartitionsOfOldMonths() {
+        var old = YearMonth.now().minusYears(3);
+        var recent = YearMonth.now().minusYears(1);
+        eventRepository.createPartition(old);
+        eventRepository.createPartition(recent);
+
+        eventPartitionJob.run();
+
+        var months = eventRepository.findPartitionMonths();
+        assertFalse(months.contains(old));
+        assertTrue(months.contains(recent));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                String.format("SELECT count(*) FROM reservations_y%dm%02d", old.getYear(), old.getMonthValue()),
+                Integer.class));
+    }
+}
@@ -1,17 +1,42 @@
 package com.example.services.museum.impl;
 
 import com.example.config.AbstractServiceIntegrationTest;
+import com.example.config.CacheConfig;
+import com.example.domain.museum.Event;
+import com.example.dto.museum.event.EventCalendarBucket;
+import com.example.dto.museum.event.EventCalendarPeriod;
+import com.example.dto.museum.event.EventFilter;
 import com.example.dto.museum.event.EventPublishingForm;
+import com.example.dto.museum.event.EventRescheduleForm;
+import com.example.dto.museum.event.EventStub;
+import com.example.dto.museum.event.EventWithContent;
 import com.example.dto.museum.event.EventWithoutContent;
 import com.example.services.museum.EventService;
 import com.example.services.museum.exceptions.EventNotFoundException;
+import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class EventServiceImplIntegrationTest extends AbstractServiceIntegrationTest<EventPublishingForm> {
 
@@ -66,6 +91,15 @@ class EventServiceImplIntegrationTest extends AbstractServiceIntegrationTest<Eve
         assertNotNull(eventWithContent.authorUsername());
     }
 
+    @Test
+    void getByIds() {
+        var lookup = eventService.getByIds(List.of(Long.MAX_VALUE, 5L, 2L, 5L));
+
+        assertEquals(List.of(5L, 2L), lookup.found().stream().map(EventWithoutContent::id).toList());
+        assertEquals(eventService.getById(2L).title(), lookup.found().get(1).title());
+        assertEquals(List.of(Long.MAX_VALUE), lookup.missingIds());
+    }
+
     @Test
     void save() {
         long authorId = 1L;
@@ -90,4 +124,285 @@ class EventServiceImplIntegrationTest extends AbstractServiceIntegrationTest<Eve
 
         assertThrows(EventNotFoundException.class, () -> eventService.getById(id));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getPageWalksThroughAllRecords() {
+        var ids = new ArrayList<Long>();
+        String cursor = null;
+        do {
+            var page = eventService.getPage(cursor, 2);
+            assertTrue(page.content().size() <= 2);
+            page.content().stream()
+                    .map(EventWithoutContent::id)
+                    .forEach(ids::add);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(ids.stream().sorted().distinct().toList(), ids);
+        assertTrue(ids.size() >= 5);
+    }
+
+    @Test
+    void getPageInWindowWalksThroughAllEventsOfWindow() {
+        var from = LocalDateTime.now().minusYears(1);
+        var to = LocalDateTime.now().plusYears(1);
+        var events = new ArrayList<EventWithoutContent>();
+        String cursor = null;
+        do {
+            var page = eventService.getPageInWindow(from, to, null, cursor, 2);
+            assertTrue(page.content().size() <= 2);
+            events.addAll(page.content());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        var order = Comparator.comparing(EventWithoutContent::timing).thenComparing(EventWithoutContent::id);
+        assertEquals(events.stream().sorted(order).distinct().toList(), events);
+        assertEquals(eventService.getAll().size(), events.size());
+    }
+
+    @Test
+    void getPageInWindowThrowsExceptionWhenWindowIsEmpty() {
+        var from = LocalDateTime.now();
+
+        assertThrows(IllegalArgumentException.class, () -> eventService.getPageInWindow(from, from, null, null, 2));
+    }
+
+    @Test
+    void getFilteredWalksThroughAllMatchingEvents() {
+        var filter = new EventFilter(Set.of(Event.EventStatus.ACTIVE), null, null, null, null, null);
+        var expected = eventService.getAll().stream()
+                .filter(e -> e.status() == Event.EventStatus.ACTIVE)
+                .map(EventWithoutContent::id)
+                .toList();
+
+        var ids = new ArrayList<Long>();
+        String cursor = null;
+        do {
+            var page = eventService.getFiltered(filter, cursor, 2);
+            page.content().forEach(e -> ids.add(e.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(expected, ids);
+    }
+
+    @Test
+    void getFilteredThrowsExceptionWhenRangeIsEmpty() {
+        var now = LocalDateTime.now();
+
+        assertThrows(IllegalArgumentException.class, () -> eventService.getFiltered(
+                new EventFilter(null, null, 10, 5, null, null), null, 2));
+        assertThrows(IllegalArgumentException.class, () -> eventService.getFiltered(
+                new EventFilter(null, null, null, null, now, now), null, 2));
+        assertThrows(ConstraintViolationException.class, () -> eventService.getFiltered(
+                new EventFilter(null, -1L, null, null, null, null), null, 2));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void cancelEvictsCachesOnceCommitted() {
+        var timing = LocalDateTime.now().plusDays(3);
+        var event = eventService.save(new EventPublishingForm("Event to cancel",
+                "Content of the event that is canceled in bulk", timing, 10, 1L));
+        try {
+            eventService.getById(event.id());
+            var feed = eventService.getFeed(null);
+
+            var canceled = eventService.cancel(new EventFilter(null, 1L, null, null, timing, timing.plusSeconds(1)));
+
+            assertEquals(List.of(event.id()), canceled);
+            assertNull(cache(CacheConfig.EVENTS).get(event.id()));
+            assertEquals(Event.EventStatus.CANCELED, eventService.getById(event.id()).status());
+            assertNotSame(feed, eventService.getFeed(null));
+            assertTrue(eventService.getUpcoming(10).stream().noneMatch(e -> e.id().equals(event.id())));
+        } finally {
+            eventService.deleteById(event.id());
+        }
+    }
+
+    @Test
+    void rescheduleMovesEventsOfFilter() {
+        var timing = LocalDateTime.now().plusDays(3).truncatedTo(ChronoUnit.MICROS);
+        var event = eventService.save(new EventPublishingForm("Event to reschedule",
+                "Content of the event that is rescheduled in bulk", timing, 10, 1L));
+
+        var moved = eventService.reschedule(new EventRescheduleForm(
+                new EventFilter(null, 1L, null, null, timing, timing.plusSeconds(1)), Duration.ofHours(2)));
+
+        assertEquals(List.of(event.id()), moved);
+        var rescheduled = eventService.getFiltered(
+                new EventFilter(Set.of(Event.EventStatus.TRANSFERRED), 1L, null, null, null, null), null, 10);
+        assertEquals(List.of(timing.plusHours(2)),
+                rescheduled.content().stream().map(EventWithoutContent::timing).toList());
+    }
+
+    @Test
+    void bulkChangesThrowExceptionWhenFilterIsEmptyOrOffsetIsInvalid() {
+        var empty = new EventFilter(Set.of(), null, null, null, null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> eventService.cancel(empty));
+        assertThrows(IllegalArgumentException.class,
+                () -> eventService.reschedule(new EventRescheduleForm(empty, Duration.ofDays(1))));
+        assertThrows(IllegalArgumentException.class, () -> eventService.reschedule(
+                new EventRescheduleForm(new EventFilter(null, 1L, null, null, null, null), Duration.ZERO)));
+        assertThrows(IllegalArgumentException.class, () -> eventService.reschedule(
+                new EventRescheduleForm(new EventFilter(null, 1L, null, null, null, null), Duration.ofNanos(1500))));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getUpcomingListsCommittedEvents() {
+        var later = eventService.save(new EventPublishingForm("Later upcoming event",
+                "Content of the upcoming event that starts in two days",
+                LocalDateTime.now().plusDays(2), 10, 1L));
+        var sooner = eventService.save(new EventPublishingForm("Sooner upcoming event",
+                "Content of the upcoming event that starts tomorrow",
+                LocalDateTime.now().plusDays(1), 10, 1L));
+        try {
+            var upcoming = eventService.getUpcoming(10).stream().map(EventWithoutContent::id).toList();
+
+            assertEquals(List.of(sooner.id(), later.id()), upcoming);
+            assertEquals(List.of(sooner.id()),
+                    eventService.getUpcoming(1).stream().map(EventWithoutContent::id).toList());
+        } finally {
+            eventService.deleteById(later.id());
+            eventService.deleteById(sooner.id());
+        }
+
+        assertTrue(eventService.getUpcoming(10).isEmpty());
+    }
+
+    @Test
+    void getUpcomingDoesNotListUncommittedEvents() {
+        eventService.save(new EventPublishingForm("Uncommitted upcoming event",
+                "Content of the upcoming event that is never committed",
+                LocalDateTime.now().plusDays(1), 10, 1L));
+
+        assertTrue(eventService.getUpcoming(10).isEmpty());
+    }
+
+    @Test
+    void getCalendarCountsEventsOfEveryBucket() {
+        var events = eventService.getAll();
+        var day = events.get(0).timing().truncatedTo(ChronoUnit.DAYS);
+
+        var calendar = eventService.getCalendar(EventCalendarPeriod.DAY, day.plusHours(1), day.plusDays(2));
+
+        assertEquals(List.of(day, day.plusDays(1)), calendar.stream().map(EventCalendarBucket::start).toList());
+        var firstDay = events.stream().filter(e -> e.timing().isBefore(day.plusDays(1))).toList();
+        assertEquals(firstDay.size(), calendar.get(0).total());
+        assertEquals(firstDay.stream().filter(e -> e.status() == Event.EventStatus.ACTIVE).count(),
+                calendar.get(0).countsByStatus().get(Event.EventStatus.ACTIVE));
+        assertEquals(firstDay.stream().map(EventWithoutContent::id).toList(),
+                calendar.get(0).events().stream().map(EventStub::id).toList());
+        assertEquals(EventCalendarBucket.empty(day.plusDays(1)), calendar.get(1));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getCalendarCachesSealedBuckets() {
+        var from = LocalDateTime.of(2020, 1, 15, 0, 0);
+        var to = LocalDateTime.of(2020, 3, 1, 0, 0);
+
+        var calendar = eventService.getCalendar(EventCalendarPeriod.MONTH, from, to);
+
+        assertEquals(List.of(EventCalendarBucket.empty(LocalDateTime.of(2020, 1, 1, 0, 0)),
+                EventCalendarBucket.empty(LocalDateTime.of(2020, 2, 1, 0, 0))), calendar);
+        assertSame(calendar.get(0), cache(CacheConfig.EVENT_CALENDAR).get(
+                EventServiceImpl.calendarKey(EventCalendarPeriod.MONTH, calendar.get(0).start()), EventCalendarBucket.class));
+        assertSame(calendar.get(1), eventService.getCalendar(EventCalendarPeriod.MONTH, from, to).get(1));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getCalendarDoesNotCacheCurrentBuckets() {
+        var now = LocalDateTime.now();
+
+        var calendar = eventService.getCalendar(EventCalendarPeriod.WEEK, now, now.plusWeeks(1));
+
+        assertEquals(EventCalendarPeriod.WEEK.start(now), calendar.get(0).start());
+        assertNull(cache(CacheConfig.EVENT_CALENDAR).get(
+                EventServiceImpl.calendarKey(EventCalendarPeriod.WEEK, calendar.get(0).start())));
+    }
+
+    @Test
+    void getCalendarThrowsExceptionWhenWindowHasTooManyBuckets() {
+        var from = LocalDateTime.now();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> eventService.getCalendar(EventCalendarPeriod.DAY, from, from.plusYears(2)));
+        assertThrows(IllegalArgumentException.class,
+                () -> eventService.getCalendar(EventCalendarPeriod.DAY, from, from));
+    }
+
+    @Test
+    void getFeedRendersEveryEventAsVEvent() {
+        var events = eventService.getAll();
+
+        var feed = eventService.getFeed(null);
+
+        var calendar = new String(feed.body(), StandardCharsets.UTF_8);
+        assertTrue(calendar.startsWith("BEGIN:VCALENDAR\r\n"));
+        assertEquals(events.size(), calendar.split("BEGIN:VEVENT", -1).length - 1);
+        events.forEach(e -> assertTrue(calendar.contains("UID:event-" + e.id() + "@museum\r\n")));
+        assertEquals(events.size(), feed.version().key());
+        assertNotNull(feed.version().lastModified());
+    }
+
+    @Test
+    void getFeedOfAuthorListsOnlyEventsOfAuthor() {
+        var authorId = eventService.getAll().get(0).authorId();
+        var events = eventService.getAll().stream().filter(e -> e.authorId().equals(authorId)).toList();
+
+        var feed = eventService.getFeed(authorId);
+
+        var calendar = new String(feed.body(), StandardCharsets.UTF_8);
+        assertEquals(events.size(), calendar.split("BEGIN:VEVENT", -1).length - 1);
+        assertEquals(events.size(), feed.version().key());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getFeedIsCachedUntilEventIsSaved() {
+        var feed = eventService.getFeed(null);
+        assertSame(feed, eventService.getFeed(null));
+
+        var event = eventService.save(new EventPublishingForm("Event of the feed",
+                "Content of the event that is added to the feed",
+                LocalDateTime.now().plusDays(3), 10, 1L));
+        try {
+            var updated = eventService.getFeed(null);
+
+            assertNotSame(feed, updated);
+            assertTrue(new String(updated.body(), StandardCharsets.UTF_8).contains("SUMMARY:Event of the feed"));
+            assertEquals(feed.version().key() + 1, updated.version().key());
+        } finally {
+            eventService.deleteById(event.id());
+        }
+        assertEquals(feed.version().key(), eventService.getFeed(null).version().key());
+    }
+
+    @Test
+    void getPageThrowsExceptionWhenCursorIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> eventService.getPage("invalid cursor", 2));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getByIdIsCached() {
+        var event = eventService.getById(1L);
+
+        assertSame(event, eventService.getById(1L));
+        assertEquals(event, cache(CacheConfig.EVENTS).get(1L, EventWithContent.class));
+    }
+
+    @Test
+    void deleteByIdEvictsOnlyAfterCommit() {
+        var event = eventService.getById(1L);
+        cache(CacheConfig.EVENTS).putIfAbsent(1L, event);
+
+        eventService.deleteById(1L);
+
+        assertEquals(event, cache(CacheConfig.EVENTS).get(1L, EventWithContent.class));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.services.museum.impl;
+
+import com.example.domain.museum.Event;
+import com.example.repositories.museum.EventRepository.EventFeedRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ICalendarWriterTest {
+
+    @Test
+    void escapeQuotesTextSeparatorsAndLineBreaks() {
+        assertEquals("a\\\\b\\;c\\,d\\ne\\nf", ICalendarWriter.escape("a\\b;c,d\r\ne\nf"));
+    }
+
+    @Test
+    void foldLeavesShortLinesUntouched() {
+        var line = "x".repeat(75);
+        assertEquals(line, ICalendarWriter.fold(line));
+    }
+
+    @Test
+    void foldSplitsLongLinesAt75Octets() {
+        var folded = ICalendarWriter.fold("x".repeat(160));
+        var lines = folded.split("\r\n");
+        assertEquals(3, lines.length);
+        assertEquals(75, lines[0].length());
+        assertEquals(" " + "x".repeat(74), lines[1]);
+        assertEquals(" " + "x".repeat(11), lines[2]);
+    }
+
+    @Test
+    void foldDoesNotSplitMultibyteCharacters() {
+        var folded = ICalendarWriter.fold("x" + "é".repeat(40));
+        for (var line : folded.split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75);
+        }
+        assertEquals("x" + "é".repeat(40), folded.replace("\r\n ", ""));
+    }
+
+    @Test
+    void writeRendersEventAsVEvent() {
+        var out = new ByteArrayOutputStream();
+        var writer = new ICalendarWriter(out);
+        var timing = LocalDateTime.of(2030, 5, 1, 18, 30);
+
+        writer.begin("Museum events");
+        writer.write(new EventFeedRow(7L, "Night, at the museum", "Tour", timing,
+                Event.EventStatus.CANCELED, timing.minusDays(3)));
+        writer.end();
+
+        var calendar = out.toString(StandardCharsets.UTF_8);
+        assertTrue(calendar.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+        assertTrue(calendar.contains("\r\nUID:event-7@museum\r\n"));
+        assertTrue(calendar.contains("\r\nSUMMARY:Night\\, at the museum\r\n"));
+        assertTrue(calendar.contains("\r\nSTATUS:CANCELLED\r\n"));
+        assertTrue(calendar.endsWith("END:VEVENT\r\nEND:VCALENDAR\r\n"));
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.services.museum.impl;
+
+import com.example.config.AbstractServiceIntegrationTest;
+import com.example.domain.museum.Event;
+import com.example.dto.museum.event.EventFilter;
+import com.example.dto.museum.event.EventPublishingForm;
+import com.example.dto.museum.reservation.ReservationForm;
+import com.example.dto.museum.reservation.ReservationResponse;
+import com.example.repositories.museum.ReservationRepository;
+import com.example.services.museum.EventService;
+import com.example.services.museum.ReservationService;
+import com.example.services.museum.exceptions.EventFullException;
+import com.example.services.museum.exceptions.EventNotFoundException;
+import com.example.services.users.exceptions.UserNotFoundException;
+import com.example.web.streams.EventChangeBroadcaster;
+import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class ReservationServiceImplIntegrationTest extends AbstractServiceIntegrationTest<ReservationForm> {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @SpyBean
+    private EventChangeBroadcaster eventChangeBroadcaster;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void reserveNeverOversellsConcurrentBookings() throws InterruptedException {
+        var event = eventService.save(new EventPublishingForm("Sold out event",
+                "Content of the event that is sold out by concurrent bookings",
+                LocalDateTime.now().plusDays(1), 3, 1L));
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var bookings = new ArrayList<CompletableFuture<ReservationResponse>>();
+            for (var i = 0; i < 20; i++) {
+                bookings.add(CompletableFuture
+                        .supplyAsync(() -> reservationService.reserve(event.id(), new ReservationForm(1L, 1)), executor)
+                        .thenCompose(booking -> booking));
+            }
+
+            var reserved = 0;
+            for (var booking : bookings) {
+                try {
+                    booking.get(10, TimeUnit.SECONDS);
+                    reserved++;
+                } catch (ExecutionException e) {
+                    var cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+                    assertInstanceOf(EventFullException.class, cause);
+                } catch (TimeoutException e) {
+                    throw new AssertionError("Reservation was not flushed", e);
+                }
+            }
+
+            assertEquals(3, reserved);
+            assertEquals(3, reservationRepository.countSeatsByEventId(event.id()));
+            assertEquals(Event.EventStatus.FULL, eventService.getById(event.id()).status());
+            assertEquals(Event.EventStatus.FULL, eventService.getUpcoming(10).get(0).status());
+            verify(eventChangeBroadcaster, timeout(5000)).broadcast(argThat(change -> change.eventId().equals(event.id())
+                    && change.status() == Event.EventStatus.FULL && change.remainingSeats() == 0));
+        } finally {
+            executor.shutdown();
+            eventService.deleteById(event.id());
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void reserveThrowsExceptionWhenEventIsCanceled() throws Exception {
+        var timing = LocalDateTime.now().plusDays(2);
+        var event = eventService.save(new EventPublishingForm("Canceled event",
+                "Content of the event that is canceled after its first booking", timing, 10, 1L));
+        try {
+            reservationService.reserve(event.id(), new ReservationForm(1L, 1)).get(10, TimeUnit.SECONDS);
+
+            eventService.cancel(new EventFilter(null, 1L, null, null, timing, timing.plusSeconds(1)));
+
+            assertThrows(EventFullException.class,
+                    () -> reservationService.reserve(event.id(), new ReservationForm(1L, 1)));
+            assertEquals(1, reservationRepository.countSeatsByEventId(event.id()));
+        } finally {
+            eventService.deleteById(event.id());
+        }
+    }
+
+    @Test
+    void reserveThrowsExceptionWhenEventIsNotBookable() {
+        assertThrows(EventFullException.class, () -> reservationService.reserve(4L, new ReservationForm(1L, 1)));
+    }
+
+    @Test
+    void reserveThrowsExceptionWhenEventIsNotFound() {
+        assertThrows(EventNotFoundException.class,
+                () -> reservationService.reserve(Long.MAX_VALUE, new ReservationForm(1L, 1)));
+    }
+
+    @Test
+    void reserveThrowsExceptionWhenUserIsNotFound() {
+        assertThrows(UserNotFoundException.class,
+                () -> reservationService.reserve(1L, new ReservationForm(Long.MAX_VALUE, 1)));
+    }
+
+    @Test
+    void reserveThrowsExceptionWhenSeatsAreInvalid() {
+        assertThrows(ConstraintViolationException.class,
+                () -> reservationService.reserve(1L, new ReservationForm(1L, 0)));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.services.museum.impl;
+
+import com.example.config.AbstractServiceIntegrationTest;
+import com.example.dto.museum.event.EventPublishingForm;
+import com.example.dto.museum.reservation.ReservationForm;
+import com.example.repositories.museum.ReservationRepository;
+import com.example.services.museum.EventService;
+import com.example.services.museum.ReservationService;
+import com.example.services.museum.exceptions.ReservationTimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestPropertySource(properties = {
+        "museum.reservations.flush-interval=1h",
+        "museum.reservations.request-timeout=50ms"})
+class ReservationTimeoutIntegrationTest extends AbstractServiceIntegrationTest<ReservationForm> {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void reserveDropsReservationThatWasNotFlushedInTime() {
+        var event = eventService.save(new EventPublishingForm("Slow event",
+                "Content of the event whose reservations are not flushed in time",
+                LocalDateTime.now().plusDays(1), 1, 1L));
+        ReservationServiceImpl reservations = AopTestUtils.getTargetObject(reservationService);
+        try {
+            var booking = reservationService.reserve(event.id(), new ReservationForm(1L, 1));
+
+            var exception = assertThrows(ExecutionException.class, () -> booking.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(ReservationTimeoutException.class, exception.getCause());
+
+            reservations.flush();
+
+            assertEquals(0, reservationRepository.countSeatsByEventId(event.id()));
+            assertDoesNotThrow(() -> reservationService.reserve(event.id(), new ReservationForm(1L, 1)));
+        } finally {
+            reservations.flush();
+            eventService.deleteById(event.id());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.services.uniqueness;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContainEveryAddedKey() {
+        var filter = new BloomFilter(10_000, 0.01);
+
+        IntStream.range(0, 10_000).forEach(i -> filter.add("user" + i + "@museum.com"));
+
+        IntStream.range(0, 10_000).forEach(i -> assertTrue(filter.mightContain("user" + i + "@museum.com")));
+    }
+
+    @Test
+    void falsePositivesStayNearConfiguredProbability() {
+        var filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.add("author" + i));
+
+        var falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("visitor" + i))
+                .count();
+
+        assertTrue(falsePositives < 2_000, "False positives: " + falsePositives);
+        assertTrue(filter.expectedFalsePositiveProbability() < 0.02);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        var filter = new BloomFilter(100, 0.01);
+
+        assertFalse(filter.mightContain("anyone"));
+        assertEquals(0, filter.expectedFalsePositiveProbability());
+    }
+
+    @Test
+    void sizeFollowsExpectedInsertionsAndProbability() {
+        var filter = new BloomFilter(1_000, 0.01);
+
+        assertEquals(9_600, filter.bitCount());
+        assertEquals(7, filter.hashCount());
+    }
+
+    @Test
+    void constructorRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1));
+    }
+}
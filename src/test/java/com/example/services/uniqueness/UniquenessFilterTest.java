@@ -0,0 +1,56 @@
+package com.example.services.uniqueness;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UniquenessFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final UniquenessFilter<String> filter =
+            new UniquenessFilter<>("emails", new BloomFilter(1_000, 0.01), meterRegistry);
+
+    @Test
+    void existsSkipsQueryOfUnknownValue() {
+        var queries = new AtomicInteger();
+
+        assertFalse(filter.exists("new@museum.com", email -> queries.incrementAndGet() > 0));
+
+        assertEquals(0, queries.get());
+        assertEquals(1, checks("absent"));
+    }
+
+    @Test
+    void existsAsksQueryAboutAddedValue() {
+        filter.add("taken@museum.com");
+
+        assertTrue(filter.exists("taken@museum.com", "taken@museum.com"::equals));
+
+        assertEquals(1, checks("present"));
+    }
+
+    @Test
+    void existsCountsFalsePositive() {
+        filter.add("freed@museum.com");
+
+        assertFalse(filter.exists("freed@museum.com", email -> false));
+        assertFalse(filter.exists("other@museum.com", email -> false));
+
+        assertEquals(1, checks("false_positive"));
+        assertEquals(0.5, meterRegistry.get(UniquenessFilter.FALSE_POSITIVE_RATE_METRIC)
+                .tag("domain", "emails").gauge().value());
+    }
+
+    private double checks(final String result) {
+        return meterRegistry.get(UniquenessFilter.CHECKS_METRIC)
+                .tags("domain", "emails", "result", result)
+                .counter()
+                .count();
+    }
+}
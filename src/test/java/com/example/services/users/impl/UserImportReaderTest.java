@@ -0,0 +1,72 @@
+package com.example.services.users.impl;
+
+import com.example.dto.users.UserImportFormat;
+import com.example.dto.users.UserRegistrationForm;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<UserImportReader.Row> read(final String input, final UserImportFormat format) {
+        return UserImportReader.read(new BufferedReader(new StringReader(input)), format, objectMapper).toList();
+    }
+
+    @Test
+    void csvMapsColumnsByHeaderAndUnquotesFields() {
+        var rows = read("email,password,first_name,last_name\r\n"
+                + "john@example.com,Abc12345,John,Doe\r\n"
+                + "\"jane@example.com\",\"Hello123\",\"Jane \"\"J\"\"\",\"Smith, Jr.\nthe second\"\n",
+                UserImportFormat.CSV);
+
+        assertEquals(List.of(
+                        new UserImportReader.Row(1, new UserRegistrationForm(
+                                "John", "Doe", "john@example.com", "Abc12345"), null),
+                        new UserImportReader.Row(2, new UserRegistrationForm(
+                                "Jane \"J\"", "Smith, Jr.\nthe second", "jane@example.com", "Hello123"), null)),
+                rows);
+    }
+
+    @Test
+    void csvSkipsBlankLinesAndRejectsRowsWithWrongColumnCount() {
+        var rows = read("first_name,last_name,email,password\n\nJohn,Doe,john@example.com\n\n", UserImportFormat.CSV);
+
+        assertEquals(1, rows.size());
+        assertEquals(1, rows.get(0).number());
+        assertNull(rows.get(0).form());
+        assertEquals(String.format(UserImportReader.WRONG_CSV_COLUMN_COUNT, 4, 3), rows.get(0).error());
+    }
+
+    @Test
+    void csvThrowsExceptionWhenHeaderLacksColumnOrQuoteIsUnterminated() {
+        assertThrows(IllegalArgumentException.class, () -> read("first_name,email,password\n", UserImportFormat.CSV));
+        assertThrows(IllegalArgumentException.class, () -> read("", UserImportFormat.CSV));
+        assertThrows(IllegalArgumentException.class, () -> read(
+                "first_name,last_name,email,password\nJohn,\"Doe,john@example.com,Abc12345\n", UserImportFormat.CSV));
+    }
+
+    @Test
+    void ndjsonParsesEachLineAndRejectsInvalidJson() {
+        var rows = read("""
+                {"firstName":"John","lastName":"Doe","email":"john@example.com","password":"Abc12345"}
+
+                {"firstName":"Jane",
+                """, UserImportFormat.NDJSON);
+
+        assertEquals(2, rows.size());
+        assertEquals(new UserRegistrationForm("John", "Doe", "john@example.com", "Abc12345"), rows.get(0).form());
+        assertEquals(2, rows.get(1).number());
+        assertNull(rows.get(1).form());
+        assertTrue(rows.get(1).error().startsWith("Invalid JSON"));
+    }
+}
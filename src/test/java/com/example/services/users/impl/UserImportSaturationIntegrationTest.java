@@ -0,0 +1,62 @@
+package com.example.services.users.impl;
+
+import com.example.config.AbstractServiceIntegrationTest;
+import com.example.dto.users.UserImportFormat;
+import com.example.dto.users.UserRegistrationForm;
+import com.example.repositories.users.UserRepository;
+import com.example.services.users.UserService;
+import com.example.services.users.exceptions.PasswordHashingBusyException;
+import com.example.services.users.passwords.PasswordHasher;
+import com.example.services.users.passwords.PasswordHashes;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestPropertySource(properties = {
+        "museum.users.import.batch-size=2",
+        "museum.users.password-hashing.threads=1",
+        "museum.users.password-hashing.queue-size=0",
+        "museum.users.password-hashing.queue-timeout=10ms",
+        "museum.users.password-hashing.min-iterations=1000000",
+        "museum.users.password-hashing.max-iterations=1000000"})
+class UserImportSaturationIntegrationTest extends AbstractServiceIntegrationTest<UserRegistrationForm> {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Test
+    void importUsersWaitsForSaturatedHashingWorkers() throws Exception {
+        var csv = """
+                first_name,last_name,email,password
+                Imported,First,first.saturated@example.com,Import123
+                Imported,Second,second.saturated@example.com,Import123
+                Imported,Third,third.saturated@example.com,Import123
+                """;
+        var running = CompletableFuture.supplyAsync(() -> passwordHasher.hash("Password1"));
+        Thread.sleep(100);
+        assertThrows(PasswordHashingBusyException.class, () -> passwordHasher.hash("Password2"));
+
+        var result = userService.importUsers(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), UserImportFormat.CSV);
+
+        assertEquals(3, result.imported());
+        assertTrue(userRepository.findAll().stream()
+                .filter(user -> user.getEmail().endsWith(".saturated@example.com"))
+                .allMatch(user -> PasswordHashes.matches("Import123", user.getPassword())));
+        assertTrue(PasswordHashes.matches("Password1", running.get()));
+    }
+}
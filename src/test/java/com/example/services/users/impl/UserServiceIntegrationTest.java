@@ -1,23 +1,49 @@
 package com.example.services.users.impl;
 
 import com.example.config.AbstractServiceIntegrationTest;
+import com.example.config.CacheConfig;
+import com.example.dto.users.UserImportFormat;
+import com.example.dto.users.UserImportResult;
 import com.example.dto.users.UserRegistrationForm;
 import com.example.dto.users.UserResponse;
+import com.example.repositories.users.UserRepository;
+import com.example.services.uniqueness.UniquenessFilter;
 import com.example.services.users.UserService;
+import com.example.services.users.exceptions.UserAlreadyExistsException;
+import com.example.services.users.passwords.PasswordHashes;
 import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static com.example.constraints.users.UserConstraints.ENCODED_PASSWORD_REGEXP;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class UserServiceIntegrationTest extends AbstractServiceIntegrationTest<UserRegistrationForm> {
 
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UniquenessFilter<String> userEmails;
+
+    @Autowired
+    private UserRepository userRepository;
+
     @AfterEach
     void tearDown() {
         clearAdditionalSettings();
@@ -54,6 +80,27 @@ class UserServiceIntegrationTest extends AbstractServiceIntegrationTest<UserRegi
         assertNotNull(user.email());
     }
 
+    @Test
+    void getByIds() {
+        var lookup = userService.getByIds(List.of(3L, 1L, Long.MAX_VALUE, 3L));
+
+        assertEquals(List.of(3L, 1L), lookup.found().stream().map(UserResponse::id).toList());
+        assertEquals(userService.getById(1L), lookup.found().get(1));
+        assertEquals(List.of(Long.MAX_VALUE), lookup.missingIds());
+    }
+
+    @Test
+    void getByIdsThrowsExceptionWhenTooManyIdsAreRequested() {
+        var ids = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        assertThrows(IllegalArgumentException.class, () -> userService.getByIds(ids));
+    }
+
+    @Test
+    void getByIdsThrowsExceptionWhenNoIdsAreRequested() {
+        assertThrows(ConstraintViolationException.class, () -> userService.getByIds(List.of()));
+    }
+
     @Test
     void saveShouldPass() {
         set("password", "ValidPassword1");
@@ -69,6 +116,91 @@ class UserServiceIntegrationTest extends AbstractServiceIntegrationTest<UserRegi
         assertNotNull(userShortResponse.lastName());
     }
 
+    @Test
+    void saveShouldStoreHashOfPassword() {
+        set("password", "ValidPassword1");
+        set("email", "hashed@gmail.com");
+
+        var userResponse = userService.save(getModel());
+
+        var storedPassword = userRepository.findById(userResponse.id()).orElseThrow().getPassword();
+        assertNotEquals("ValidPassword1", storedPassword);
+        assertTrue(PasswordHashes.matches("ValidPassword1", storedPassword));
+    }
+
+    @Test
+    void saveShouldThrowExceptionWhenEmailIsTaken() {
+        set("password", "ValidPassword1");
+        set("email", userService.getById(1L).email());
+
+        var registrationForm = getModel();
+
+        assertThrows(UserAlreadyExistsException.class, () -> userService.save(registrationForm));
+    }
+
+    @Test
+    void saveShouldAddEmailToUniquenessFilter() {
+        set("password", "ValidPassword1");
+        set("email", "filtered@gmail.com");
+
+        userService.save(getModel());
+
+        assertTrue(userEmails.exists("filtered@gmail.com", email -> true));
+    }
+
+    @Test
+    void passwordsStoredBeforeHashingAreHashed() {
+        var users = userRepository.findAll();
+
+        assertTrue(users.stream().allMatch(user -> user.getPassword().matches(ENCODED_PASSWORD_REGEXP)));
+        assertTrue(users.stream()
+                .filter(user -> user.getEmail().equals("john@example.com"))
+                .allMatch(user -> PasswordHashes.matches("Abc12345", user.getPassword())));
+    }
+
+    @Test
+    void importUsersFromCsv() {
+        var csv = """
+                first_name,last_name,email,password
+                Imported,First,first.import@example.com,Import123
+                Existing,User,john@example.com,Import123
+                Imported,Second,second.import@example.com,Import123
+                Repeated,First,first.import@example.com,Import123
+                No,Password,third.import@example.com,
+                """;
+
+        var result = userService.importUsers(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), UserImportFormat.CSV);
+
+        assertEquals(5, result.received());
+        assertEquals(2, result.imported());
+        assertEquals(2, result.duplicates());
+        assertEquals(1, result.rejected());
+        assertEquals(5, result.rejections().get(0).row());
+        assertEquals(List.of("First", "Second"), userService.getAll().stream()
+                .filter(user -> user.email().endsWith(".import@example.com"))
+                .map(UserResponse::lastName)
+                .toList());
+        assertTrue(userEmails.exists("second.import@example.com", email -> true));
+        assertTrue(userRepository.findAll().stream()
+                .filter(user -> user.getEmail().equals("second.import@example.com"))
+                .allMatch(user -> PasswordHashes.matches("Import123", user.getPassword())));
+    }
+
+    @Test
+    void importUsersFromNdjson() {
+        var ndjson = """
+                {"firstName":"Imported","lastName":"Json","email":"json.import@example.com","password":"Import123"}
+                {"firstName":"Broken",
+                """;
+
+        var result = userService.importUsers(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), UserImportFormat.NDJSON);
+
+        assertEquals(new UserImportResult(2, 1, 0, 1, result.rejections()), result);
+        assertEquals(2, result.rejections().get(0).row());
+    }
+
     @Test
     void saveShouldThrowExceptionWhenFormInvalid() {
         var registrationForm = getModel();
@@ -76,4 +208,35 @@ class UserServiceIntegrationTest extends AbstractServiceIntegrationTest<UserRegi
         assertThrows(ConstraintViolationException.class,
                 () -> userService.save(registrationForm));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getPageWalksThroughAllRecords() {
+        var ids = new ArrayList<Long>();
+        String cursor = null;
+        do {
+            var page = userService.getPage(cursor, 2);
+            assertTrue(page.content().size() <= 2);
+            page.content().stream()
+                    .map(UserResponse::id)
+                    .forEach(ids::add);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(ids.stream().sorted().distinct().toList(), ids);
+        assertTrue(ids.size() >= 5);
+    }
+
+    @Test
+    void getPageThrowsExceptionWhenCursorIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> userService.getPage("invalid cursor", 2));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getByIdIsCached() {
+        var user = userService.getById(1L);
+
+        assertSame(user, userService.getById(1L));
+        assertEquals(user, cache(CacheConfig.USERS).get(1L, UserResponse.class));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.services.users.passwords;
+
+import com.example.config.PasswordHashingProperties;
+import com.example.constraints.users.UserConstraints;
+import com.example.services.users.exceptions.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHasher passwordHasher;
+
+    private PasswordHasher hasher(final int threads, final int queueSize, final Duration targetDuration,
+                                  final int minIterations, final int maxIterations) {
+        passwordHasher = new PasswordHasher(new PasswordHashingProperties(threads, queueSize,
+                Duration.ofMillis(10), targetDuration, minIterations, maxIterations), meterRegistry);
+        return passwordHasher;
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.close();
+    }
+
+    @Test
+    void hashIsSaltedAndMatchesOnlyItsPassword() {
+        var hasher = hasher(2, 4, Duration.ofMillis(5), 1000, 10000);
+
+        var hash = hasher.hash("Password1");
+
+        assertTrue(hash.matches(UserConstraints.ENCODED_PASSWORD_REGEXP));
+        assertNotEquals(hash, hasher.hash("Password1"));
+        assertTrue(PasswordHashes.matches("Password1", hash));
+        assertFalse(PasswordHashes.matches("Password2", hash));
+        assertEquals(hasher.getIterations(), meterRegistry.get(PasswordHasher.ITERATIONS_METRIC).gauge().value());
+    }
+
+    @Test
+    void iterationsFollowTargetDurationWithinBounds() {
+        var fast = hasher(1, 0, Duration.ofNanos(1), 1000, 10000);
+        fast.hash("Password1");
+        assertEquals(1000, fast.getIterations());
+        fast.close();
+
+        var slow = hasher(1, 0, Duration.ofHours(1), 1000, 10000);
+        slow.hash("Password1");
+        assertEquals(10000, slow.getIterations());
+    }
+
+    @Test
+    void hashThrowsExceptionWhenWorkersAreSaturated() throws Exception {
+        var hasher = hasher(1, 0, Duration.ofHours(1), 3_000_000, 3_000_000);
+        var running = CompletableFuture.supplyAsync(() -> hasher.hash("Password1"));
+        Thread.sleep(200);
+
+        assertThrows(PasswordHashingBusyException.class, () -> hasher.hash("Password2"));
+        assertEquals(1, meterRegistry.get(PasswordHasher.REJECTED_METRIC).counter().count());
+        assertTrue(PasswordHashes.matches("Password1", running.get()));
+    }
+
+    @Test
+    void hashAllWaitsForSaturatedWorkers() throws Exception {
+        var hasher = hasher(1, 0, Duration.ofHours(1), 3_000_000, 3_000_000);
+        var running = CompletableFuture.supplyAsync(() -> hasher.hash("Password1"));
+        Thread.sleep(200);
+
+        var hashes = hasher.hashAll(List.of("Password2", "Password3"));
+
+        assertEquals(2, hashes.size());
+        assertTrue(PasswordHashes.matches("Password2", hashes.get(0)));
+        assertTrue(PasswordHashes.matches("Password3", hashes.get(1)));
+        assertTrue(PasswordHashes.matches("Password1", running.get()));
+        assertEquals(0, meterRegistry.get(PasswordHasher.REJECTED_METRIC).counter().count());
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.services.users.passwords;
+
+import com.example.constraints.users.UserConstraints;
+
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * Verifies the hashes of {@link PasswordHasher} in tests.
+ */
+public final class PasswordHashes {
+
+    private PasswordHashes() {
+    }
+
+    /**
+     * Check a password against a stored hash. Stored values which are not hashes never match.
+     *
+     * @param rawPassword     password to check.
+     * @param encodedPassword stored password.
+     * @return true if the password matches.
+     */
+    public static boolean matches(final String rawPassword, final String encodedPassword) {
+        if (!encodedPassword.matches(UserConstraints.ENCODED_PASSWORD_REGEXP)) {
+            return false;
+        }
+        var parts = encodedPassword.split("\\$");
+        var salt = Base64.getDecoder().decode(parts[2]);
+        var expected = Base64.getDecoder().decode(parts[3]);
+        return MessageDigest.isEqual(expected, PasswordHasher.pbkdf2(rawPassword, salt, Integer.parseInt(parts[1])));
+    }
+}
@@ -1,7 +1,15 @@
 package com.example.web.museum.controllers;
 
+import com.example.config.ArticleExportProperties;
+import com.example.dto.lookup.BatchLookup;
 import com.example.dto.museum.article.ArticlePublishingForm;
+import com.example.dto.museum.article.ArticlePublishingResult;
+import com.example.dto.museum.article.ArticleSearchResult;
 import com.example.dto.museum.article.ArticleWithContent;
+import com.example.dto.museum.article.ArticleWithoutContent;
+import com.example.dto.museum.article.TagMatch;
+import com.example.dto.pagination.CursorPage;
+import com.example.dto.versioning.ResourceVersion;
 import com.example.services.museum.ArticleService;
 import com.example.services.museum.exceptions.ArticleNotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -12,24 +20,47 @@ import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 import java.util.Set;
 
+import static com.example.constraints.museum.ArticleConstraints.MAX_BULK_SIZE;
 import static com.example.domain.museum.Article.ArticleTag.*;
 import static org.instancio.Select.field;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = ArticleController.class)
+@EnableConfigurationProperties(ArticleExportProperties.class)
 @ExtendWith(InstancioExtension.class)
 class ArticleControllerTest {
     @WithSettings
@@ -96,6 +127,30 @@ class ArticleControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void getByIds_status_is_ok() throws Exception {
+        var records = Instancio.ofList(ArticleWithoutContent.class)
+                .size(2)
+                .withSettings(settings)
+                .create();
+        var ids = List.of(records.get(0).id(), records.get(1).id(), Long.MAX_VALUE);
+
+        when(articleService.getByIds(ids)).thenReturn(new BatchLookup<>(records, List.of(Long.MAX_VALUE)));
+
+        mockMvc.perform(get("/articles").param("ids", ids.stream().map(String::valueOf).toArray(String[]::new)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("found[0].id").value(records.get(0).id()))
+                .andExpect(jsonPath("found[1].id").value(records.get(1).id()))
+                .andExpect(jsonPath("missingIds[0]").value(Long.MAX_VALUE));
+    }
+
+    @Test
+    void getByIds_status_is_bad_request() throws Exception {
+        mockMvc.perform(get("/articles").param("ids", "1", "-1"))
+                .andExpect(status().isBadRequest());
+        verify(articleService, never()).getByIds(List.of(1L, -1L));
+    }
+
     @Test
     void create_status_is_created() throws Exception {
         var articleForm = Instancio.of(ArticlePublishingForm.class)
@@ -141,6 +196,42 @@ class ArticleControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void createAll_status_is_ok() throws Exception {
+        var articleForms = Instancio.ofList(ArticlePublishingForm.class)
+                .size(2)
+                .withSettings(settings)
+                .create();
+        var results = List.of(
+                ArticlePublishingResult.published(0, 1L),
+                ArticlePublishingResult.rejected(1, List.of("authorId: author with ID: 1 not found.")));
+
+        when(articleService.saveAll(articleForms)).thenReturn(results);
+
+        mockMvc.perform(post("/articles/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(articleForms)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1L))
+                .andExpect(jsonPath("$[1].index").value(1))
+                .andExpect(jsonPath("$[1].errors[0]").value(results.get(1).errors().get(0)));
+    }
+
+    @Test
+    void createAll_status_is_bad_request() throws Exception {
+        var articleForms = Instancio.ofList(ArticlePublishingForm.class)
+                .size(MAX_BULK_SIZE + 1)
+                .withSettings(settings)
+                .create();
+
+        mockMvc.perform(post("/articles/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(articleForms)))
+                .andExpect(status().isBadRequest());
+
+        verify(articleService, never()).saveAll(any());
+    }
+
     @Test
     void delete_status_is_no_content() throws Exception {
         mockMvc.perform(delete("/articles/{id}", 1L))
@@ -162,4 +253,209 @@ class ArticleControllerTest {
         mockMvc.perform(delete("/articles/{id}", id))
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getPage_status_is_ok() throws Exception {
+        var record = Instancio.of(ArticleWithoutContent.class)
+                .withSettings(settings)
+                .create();
+        var page = new CursorPage<>(List.of(record), "next");
+
+        when(articleService.getPageWithoutContent("current", 10)).thenReturn(page);
+
+        mockMvc.perform(get("/articles/page")
+                        .param("cursor", "current")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("content[0].id").value(record.id()))
+                .andExpect(jsonPath("nextCursor").value(page.nextCursor()));
+    }
+
+    @Test
+    void getPage_status_is_bad_request() throws Exception {
+        mockMvc.perform(get("/articles/page").param("size", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getPageByTags_status_is_ok() throws Exception {
+        var record = Instancio.of(ArticleWithoutContent.class)
+                .withSettings(settings)
+                .create();
+        var page = new CursorPage<>(List.of(record), "next");
+
+        when(articleService.getPageByTags(Set.of(EVENTS, INTERVIEWS), TagMatch.ALL, null, 10)).thenReturn(page);
+
+        mockMvc.perform(get("/articles/by-tags")
+                        .param("tags", "EVENTS", "INTERVIEWS")
+                        .param("match", "ALL")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("content[0].id").value(record.id()))
+                .andExpect(jsonPath("nextCursor").value(page.nextCursor()));
+    }
+
+    @Test
+    void getPageByTags_status_is_bad_request() throws Exception {
+        mockMvc.perform(get("/articles/by-tags").param("tags", "UNKNOWN"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void search_status_is_ok() throws Exception {
+        var record = Instancio.of(ArticleSearchResult.class)
+                .withSettings(settings)
+                .create();
+        var page = new CursorPage<>(List.of(record), "next");
+
+        when(articleService.search("museum", "current", 10)).thenReturn(page);
+
+        mockMvc.perform(get("/articles/search")
+                        .param("query", "museum")
+                        .param("cursor", "current")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("content[0].id").value(record.id()))
+                .andExpect(jsonPath("content[0].headline").value(record.headline()))
+                .andExpect(jsonPath("nextCursor").value(page.nextCursor()));
+    }
+
+    @Test
+    void search_status_is_bad_request() throws Exception {
+        mockMvc.perform(get("/articles/search").param("query", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void export_streams_ndjson() throws Exception {
+        var articles = exportArticles();
+
+        var result = mockMvc.perform(get("/articles/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(Duration.ofMinutes(30).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(toNdjson(articles)));
+    }
+
+    @Test
+    void export_streams_gzip_ndjson_when_accepted() throws Exception {
+        var articles = exportArticles();
+
+        var result = mockMvc.perform(get("/articles/export")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        try (var gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertEquals(toNdjson(articles),
+                    new String(gzipInputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void export_streams_plain_ndjson_when_gzip_is_refused() throws Exception {
+        var articles = exportArticles();
+
+        var result = mockMvc.perform(get("/articles/export")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(toNdjson(articles)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "GZIP", "deflate, gzip;q=0.5", "*", "br, *;q=0.1"})
+    void acceptsGzip_accepts_gzip_with_positive_quality(final String acceptEncoding) {
+        assertTrue(ArticleController.acceptsGzip(acceptEncoding));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "deflate", "x-gzip", "gzip;q=0", "gzip; q=0.0, deflate", "*;q=0", "*, gzip;q=0"})
+    void acceptsGzip_refuses_missing_or_zero_quality_gzip(final String acceptEncoding) {
+        assertFalse(ArticleController.acceptsGzip(acceptEncoding));
+    }
+
+    @Test
+    void acceptsGzip_refuses_missing_header() {
+        assertFalse(ArticleController.acceptsGzip(null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ArticleWithContent> exportArticles() {
+        var articles = Instancio.ofList(ArticleWithContent.class)
+                .size(3)
+                .withSettings(settings)
+                .create();
+
+        doAnswer(invocation -> {
+            articles.forEach(invocation.<Consumer<ArticleWithContent>>getArgument(0));
+            return null;
+        }).when(articleService).exportAllWithContent(any(Consumer.class));
+
+        return articles;
+    }
+
+    private String toNdjson(List<ArticleWithContent> articles) throws Exception {
+        var ndjson = new StringBuilder();
+        for (var article : articles) {
+            ndjson.append(objectMapper.writeValueAsString(article)).append('\n');
+        }
+        return ndjson.toString();
+    }
+
+    @Test
+    void getById_sets_validators() throws Exception {
+        var article = Instancio.of(ArticleWithContent.class)
+                .withSettings(settings)
+                .create();
+        var version = new ResourceVersion(article.id(), LocalDateTime.of(2023, 8, 14, 5, 16, 43));
+
+        when(articleService.getVersionById(article.id())).thenReturn(Optional.of(version));
+        when(articleService.getById(article.id())).thenReturn(article);
+
+        mockMvc.perform(get("/articles/{id}", article.id()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, version.eTag()))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, version.lastModifiedMillis()));
+    }
+
+    @Test
+    void getById_status_is_not_modified() throws Exception {
+        var version = new ResourceVersion(1L, LocalDateTime.of(2023, 8, 14, 5, 16, 43));
+
+        when(articleService.getVersionById(1L)).thenReturn(Optional.of(version));
+
+        mockMvc.perform(get("/articles/{id}", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, version.eTag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, version.eTag()))
+                .andExpect(content().string(""));
+        verify(articleService, never()).getById(1L);
+    }
+
+    @Test
+    void getAll_status_is_not_modified() throws Exception {
+        var version = new ResourceVersion(5L, LocalDateTime.of(2023, 8, 14, 5, 16, 43));
+
+        when(articleService.getVersion()).thenReturn(Optional.of(version));
+
+        mockMvc.perform(get("/articles")
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, version.lastModifiedMillis()))
+                .andExpect(status().isNotModified());
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.web.museum.controllers;
+
+import com.example.dto.museum.author.AuthorProfile;
+import com.example.dto.museum.author.AuthorShortResponse;
+import com.example.services.museum.AuthorService;
+import com.example.services.museum.exceptions.AuthorAlreadyExistException;
+import com.example.services.museum.exceptions.AuthorNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = AuthorController.class)
+class AuthorControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AuthorService authorService;
+
+    @Test
+    void getProfile_status_is_ok() throws Exception {
+        var author = new AuthorShortResponse(1L, "username", "John", "Doe");
+        when(authorService.getProfile(1L)).thenReturn(new AuthorProfile(author, 0L, List.of(), List.of()));
+
+        mockMvc.perform(get("/authors/{id}/profile", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("author.id").value(author.id()))
+                .andExpect(jsonPath("articleCount").value(0));
+    }
+
+    @Test
+    void getProfile_status_is_notfound() throws Exception {
+        when(authorService.getProfile(1L)).thenThrow(new AuthorNotFoundException("Not found"));
+
+        mockMvc.perform(get("/authors/{id}/profile", 1L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void updateUsername_status_is_ok() throws Exception {
+        var author = new AuthorShortResponse(1L, "new_username", "John", "Doe");
+        when(authorService.updateUsername(1L, "new_username")).thenReturn(author);
+
+        mockMvc.perform(put("/authors/{id}", 1L)
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("new_username"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("id").value(author.id()))
+                .andExpect(jsonPath("username").value(author.username()));
+    }
+
+    @Test
+    void updateUsername_status_is_conflict_when_username_is_taken() throws Exception {
+        when(authorService.updateUsername(1L, "taken_username"))
+                .thenThrow(new AuthorAlreadyExistException("Username is taken"));
+
+        mockMvc.perform(put("/authors/{id}", 1L)
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("taken_username"))
+                .andExpect(status().isConflict());
+    }
+}
@@ -1,10 +1,21 @@
 package com.example.web.museum.controllers;
 
 import com.example.domain.museum.Event;
+import com.example.dto.lookup.BatchLookup;
+import com.example.dto.museum.event.EventCalendarBucket;
+import com.example.dto.museum.event.EventCalendarPeriod;
+import com.example.dto.museum.event.EventFeed;
+import com.example.dto.museum.event.EventFilter;
 import com.example.dto.museum.event.EventPublishingForm;
+import com.example.dto.museum.event.EventRescheduleForm;
+import com.example.dto.museum.event.EventStub;
 import com.example.dto.museum.event.EventWithContent;
+import com.example.dto.museum.event.EventWithoutContent;
+import com.example.dto.pagination.CursorPage;
+import com.example.dto.versioning.ResourceVersion;
 import com.example.services.museum.EventService;
 import com.example.services.museum.exceptions.EventNotFoundException;
+import com.example.web.streams.EventChangeBroadcaster;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.instancio.Instancio;
 import org.instancio.junit.InstancioExtension;
@@ -16,14 +27,29 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.instancio.Select.field;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = EventController.class)
@@ -44,6 +70,9 @@ class EventControllerTest {
     @MockBean
     private EventService eventService;
 
+    @MockBean
+    private EventChangeBroadcaster eventChangeBroadcaster;
+
     @Test
     void getAll_status_is_ok() throws Exception {
         mockMvc.perform(get("/events"))
@@ -95,6 +124,30 @@ class EventControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void getByIds_status_is_ok() throws Exception {
+        var records = Instancio.ofList(EventWithoutContent.class)
+                .size(2)
+                .withSettings(settings)
+                .create();
+        var ids = List.of(records.get(0).id(), records.get(1).id(), Long.MAX_VALUE);
+
+        when(eventService.getByIds(ids)).thenReturn(new BatchLookup<>(records, List.of(Long.MAX_VALUE)));
+
+        mockMvc.perform(get("/events").param("ids", ids.stream().map(String::valueOf).toArray(String[]::new)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("found[0].id").value(records.get(0).id()))
+                .andExpect(jsonPath("found[1].id").value(records.get(1).id()))
+                .andExpect(jsonPath("missingIds[0]").value(Long.MAX_VALUE));
+    }
+
+    @Test
+    void getByIds_status_is_bad_request() throws Exception {
+        mockMvc.perform(get("/events").param("ids", "1", "-1"))
+                .andExpect(status().isBadRequest());
+        verify(eventService, never()).getByIds(List.of(1L, -1L));
+    }
+
     @Test
     void create_status_is_created() throws Exception {
         var eventForm = Instancio.of(EventPublishingForm.class)
@@ -162,4 +215,269 @@ class EventControllerTest {
         mockMvc.perform(delete("/events/{id}", id))
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getPage_status_is_ok() throws Exception {
+        var record = Instancio.of(EventWithoutContent.class)
+                .withSettings(settings)
+                .create();
+        var page = new CursorPage<>(List.of(record), "next");
+
+        when(eventService.getPage("current", 10)).thenReturn(page);
+
+        mockMvc.perform(get("/events/page")
+                        .param("cursor", "current")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("content[0].id").value(record.id()))
+                .andExpect(jsonPath("nextCursor").value(page.nextCursor()));
+    }
+
+    @Test
+    void getPage_status_is_bad_request() throws Exception {
+        mockMvc.perform(get("/events/page").param("size", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getPageInWindow_status_is_ok() throws Exception {
+        var record = Instancio.of(EventWithoutContent.class)
+                .withSettings(settings)
+                .create();
+        var page = new CursorPage<>(List.of(record), "next");
+        var from = LocalDateTime.of(2023, 8, 1, 0, 0);
+        var to = LocalDateTime.of(2023, 8, 8, 0, 0);
+
+        when(eventService.getPageInWindow(from, to, Event.EventStatus.ACTIVE, "current", 10)).thenReturn(page);
+
+        mockMvc.perform(get("/events")
+                        .param("from", "2023-08-01T00:00:00")
+                        .param("to", "2023-08-08T00:00:00")
+                        .param("status", "ACTIVE")
+                        .param("cursor", "current")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("content[0].id").value(record.id()))
+                .andExpect(jsonPath("nextCursor").value(page.nextCursor()));
+    }
+
+    @Test
+    void getPageInWindow_status_is_bad_request() throws Exception {
+        mockMvc.perform(get("/events")
+                        .param("from", "yesterday")
+                        .param("to", "2023-08-08T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getUpcoming_status_is_ok() throws Exception {
+        var record = Instancio.of(EventWithoutContent.class)
+                .withSettings(settings)
+                .create();
+
+        when(eventService.getUpcoming(5)).thenReturn(List.of(record));
+
+        mockMvc.perform(get("/events").param("upcoming", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("[0].id").value(record.id()));
+        verify(eventService, never()).getVersion();
+    }
+
+    @Test
+    void getUpcoming_status_is_bad_request() throws Exception {
+        mockMvc.perform(get("/events").param("upcoming", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void streamChanges_status_is_ok() throws Exception {
+        when(eventChangeBroadcaster.subscribe(Set.of(1L, 2L))).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/events/changes").param("ids", "1", "2"))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void streamChanges_status_is_bad_request() throws Exception {
+        mockMvc.perform(get("/events/changes").param("ids", "-1"))
+                .andExpect(status().isBadRequest());
+        verify(eventChangeBroadcaster, never()).subscribe(Set.of(-1L));
+    }
+
+    @Test
+    void getFiltered_status_is_ok() throws Exception {
+        var record = Instancio.of(EventWithoutContent.class)
+                .withSettings(settings)
+                .create();
+        var filter = new EventFilter(Set.of(Event.EventStatus.ACTIVE, Event.EventStatus.FULL), 3L, 10, null,
+                LocalDateTime.of(2023, 8, 1, 0, 0), null);
+
+        when(eventService.getFiltered(filter, null, 5)).thenReturn(new CursorPage<>(List.of(record), "next"));
+
+        mockMvc.perform(get("/events/filter")
+                        .param("statuses", "ACTIVE", "FULL")
+                        .param("authorId", "3")
+                        .param("minCapacity", "10")
+                        .param("from", "2023-08-01T00:00:00")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("content[0].id").value(record.id()))
+                .andExpect(jsonPath("nextCursor").value("next"));
+    }
+
+    @Test
+    void getFiltered_status_is_bad_request() throws Exception {
+        mockMvc.perform(get("/events/filter").param("authorId", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/events/filter").param("statuses", "UNKNOWN"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void reschedule_status_is_ok() throws Exception {
+        var form = new EventRescheduleForm(new EventFilter(null, 3L, null, null, null, null), Duration.ofDays(7));
+
+        when(eventService.reschedule(form)).thenReturn(List.of(4L, 9L));
+
+        mockMvc.perform(post("/events/reschedule")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(form)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("[0]").value(4))
+                .andExpect(jsonPath("[1]").value(9));
+    }
+
+    @Test
+    void reschedule_status_is_bad_request() throws Exception {
+        mockMvc.perform(post("/events/reschedule")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filter\": {\"authorId\": 3}}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void cancel_status_is_ok() throws Exception {
+        var filter = new EventFilter(Set.of(Event.EventStatus.SCHEDULED), 3L, null, null, null, null);
+
+        when(eventService.cancel(filter)).thenReturn(List.of(4L));
+
+        mockMvc.perform(post("/events/cancel")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(filter)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("[0]").value(4));
+    }
+
+    @Test
+    void cancel_status_is_bad_request() throws Exception {
+        mockMvc.perform(post("/events/cancel")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"authorId\": 0}"))
+                .andExpect(status().isBadRequest());
+        verify(eventService, never()).cancel(new EventFilter(null, 0L, null, null, null, null));
+    }
+
+    @Test
+    void getCalendar_status_is_ok() throws Exception {
+        var stub = Instancio.of(EventStub.class)
+                .withSettings(settings)
+                .create();
+        var start = LocalDateTime.of(2023, 8, 7, 0, 0);
+        var bucket = new EventCalendarBucket(start, 1, Map.of(stub.status(), 1L), List.of(stub));
+        var from = LocalDateTime.of(2023, 8, 1, 0, 0);
+        var to = LocalDateTime.of(2023, 9, 1, 0, 0);
+
+        when(eventService.getCalendar(EventCalendarPeriod.WEEK, from, to)).thenReturn(List.of(bucket));
+
+        mockMvc.perform(get("/events/calendar")
+                        .param("period", "WEEK")
+                        .param("from", "2023-08-01T00:00:00")
+                        .param("to", "2023-09-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("[0].total").value(1))
+                .andExpect(jsonPath("[0].events[0].id").value(stub.id()));
+    }
+
+    @Test
+    void getCalendar_status_is_bad_request() throws Exception {
+        mockMvc.perform(get("/events/calendar")
+                        .param("period", "YEAR")
+                        .param("from", "2023-08-01T00:00:00")
+                        .param("to", "2023-09-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getById_sets_validators() throws Exception {
+        var event = Instancio.of(EventWithContent.class)
+                .withSettings(settings)
+                .create();
+        var version = new ResourceVersion(event.id(), LocalDateTime.of(2023, 8, 14, 5, 16, 43));
+
+        when(eventService.getVersionById(event.id())).thenReturn(Optional.of(version));
+        when(eventService.getById(event.id())).thenReturn(event);
+
+        mockMvc.perform(get("/events/{id}", event.id()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, version.eTag()))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, version.lastModifiedMillis()));
+    }
+
+    @Test
+    void getById_status_is_not_modified() throws Exception {
+        var version = new ResourceVersion(1L, LocalDateTime.of(2023, 8, 14, 5, 16, 43));
+
+        when(eventService.getVersionById(1L)).thenReturn(Optional.of(version));
+
+        mockMvc.perform(get("/events/{id}", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, version.eTag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, version.eTag()))
+                .andExpect(content().string(""));
+        verify(eventService, never()).getById(1L);
+    }
+
+    @Test
+    void getAll_status_is_not_modified() throws Exception {
+        var version = new ResourceVersion(5L, LocalDateTime.of(2023, 8, 14, 5, 16, 43));
+
+        when(eventService.getVersion()).thenReturn(Optional.of(version));
+
+        mockMvc.perform(get("/events")
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, version.lastModifiedMillis()))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getFeed_status_is_ok() throws Exception {
+        var body = "BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n".getBytes(StandardCharsets.UTF_8);
+        var version = new ResourceVersion(0L, LocalDateTime.of(2023, 8, 14, 5, 16, 43));
+
+        when(eventService.getFeed(7L)).thenReturn(new EventFeed(body, version));
+
+        mockMvc.perform(get("/events/feed.ics").param("authorId", "7"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/calendar"))
+                .andExpect(header().string(HttpHeaders.ETAG, version.eTag()))
+                .andExpect(content().bytes(body));
+    }
+
+    @Test
+    void getFeed_status_is_not_modified() throws Exception {
+        var version = new ResourceVersion(3L, LocalDateTime.of(2023, 8, 14, 5, 16, 43));
+
+        when(eventService.getFeed(null)).thenReturn(new EventFeed(new byte[]{1}, version));
+
+        mockMvc.perform(get("/events/feed.ics")
+                        .header(HttpHeaders.IF_NONE_MATCH, version.eTag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getFeed_status_is_bad_request() throws Exception {
+        mockMvc.perform(get("/events/feed.ics").param("authorId", "0"))
+                .andExpect(status().isBadRequest());
+    }
+}
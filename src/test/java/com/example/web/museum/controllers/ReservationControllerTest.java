@@ -0,0 +1,127 @@
+package com.example.web.museum.controllers;
+
+import com.example.dto.museum.reservation.ReservationForm;
+import com.example.dto.museum.reservation.ReservationResponse;
+import com.example.services.museum.ReservationService;
+import com.example.services.museum.exceptions.EventFullException;
+import com.example.services.museum.exceptions.EventNotFoundException;
+import com.example.services.museum.exceptions.ReservationTimeoutException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = ReservationController.class)
+class ReservationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ReservationService reservationService;
+
+    @Test
+    void create_status_is_created() throws Exception {
+        var form = new ReservationForm(2L, 3);
+        var reservation = new ReservationResponse(10L, 1L, 2L, 3, LocalDateTime.of(2023, 8, 1, 10, 0));
+        when(reservationService.reserve(1L, form)).thenReturn(CompletableFuture.completedFuture(reservation));
+
+        var result = mockMvc.perform(post("/events/{eventId}/reservations", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(form)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("id").value(reservation.id()))
+                .andExpect(jsonPath("eventId").value(reservation.eventId()))
+                .andExpect(jsonPath("seats").value(reservation.seats()));
+    }
+
+    @Test
+    void create_status_is_conflict() throws Exception {
+        var form = new ReservationForm(2L, 3);
+        when(reservationService.reserve(1L, form)).thenThrow(new EventFullException("No seats left"));
+
+        mockMvc.perform(post("/events/{eventId}/reservations", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(form)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void create_status_is_conflict_when_seats_are_not_kept() throws Exception {
+        var form = new ReservationForm(2L, 3);
+        when(reservationService.reserve(1L, form))
+                .thenReturn(CompletableFuture.failedFuture(new EventFullException("No seats left")));
+
+        var result = mockMvc.perform(post("/events/{eventId}/reservations", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(form)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void create_status_is_service_unavailable_when_reservation_times_out() throws Exception {
+        var form = new ReservationForm(2L, 3);
+        when(reservationService.reserve(1L, form))
+                .thenReturn(CompletableFuture.failedFuture(new ReservationTimeoutException("Not committed in time")));
+
+        var result = mockMvc.perform(post("/events/{eventId}/reservations", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(form)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void create_status_is_notfound() throws Exception {
+        var form = new ReservationForm(2L, 3);
+        when(reservationService.reserve(1L, form)).thenThrow(new EventNotFoundException("Not found"));
+
+        mockMvc.perform(post("/events/{eventId}/reservations", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(form)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void create_status_is_bad_request() throws Exception {
+        mockMvc.perform(post("/events/{eventId}/reservations", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ReservationForm(2L, 11))))
+                .andExpect(status().isBadRequest());
+
+        verify(reservationService, never()).reserve(any(), any());
+    }
+}
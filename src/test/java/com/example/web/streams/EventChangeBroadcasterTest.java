@@ -0,0 +1,85 @@
+package com.example.web.streams;
+
+import com.example.config.EventStreamProperties;
+import com.example.domain.museum.Event;
+import com.example.dto.museum.event.EventChange;
+import com.example.services.museum.EventService;
+import com.example.web.museum.controllers.EventController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@WebMvcTest(controllers = EventController.class)
+@Import(EventChangeBroadcaster.class)
+@EnableConfigurationProperties(EventStreamProperties.class)
+class EventChangeBroadcasterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventChangeBroadcaster eventChangeBroadcaster;
+
+    @MockBean
+    private EventService eventService;
+
+    @Test
+    void broadcastSendsChangesOfFollowedEvents() throws Exception {
+        var first = mockMvc.perform(get("/events/changes").param("ids", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+        var all = mockMvc.perform(get("/events/changes"))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+        var changedAt = LocalDateTime.of(2023, 8, 14, 5, 16, 43);
+
+        eventChangeBroadcaster.broadcast(new EventChange(2L, Event.EventStatus.TRANSFERRED, 10, changedAt));
+        eventChangeBroadcaster.broadcast(new EventChange(1L, Event.EventStatus.FULL, 0, changedAt));
+
+        var body = awaitContent(first, content -> content.contains("\"eventId\":1"));
+        assertTrue(body.contains("event:" + EventChangeBroadcaster.EVENT_NAME));
+        assertTrue(body.contains("\"status\":\"FULL\",\"remainingSeats\":0"));
+        assertFalse(body.contains("\"eventId\":2"));
+        var allBody = awaitContent(all, content -> content.contains("\"eventId\":1"));
+        assertTrue(allBody.indexOf("\"eventId\":2") < allBody.indexOf("\"eventId\":1"));
+    }
+
+    @Test
+    void subscribersAreCountedUntilTheyComplete() throws Exception {
+        var subscribers = eventChangeBroadcaster.getSubscriberCount();
+
+        var result = mockMvc.perform(get("/events/changes"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals(subscribers + 1, eventChangeBroadcaster.getSubscriberCount());
+        result.getRequest().getAsyncContext().complete();
+        assertEquals(subscribers, eventChangeBroadcaster.getSubscriberCount());
+    }
+
+    private static String awaitContent(final MockHttpServletResponse response,
+                                       final Predicate<String> condition) throws Exception {
+        var deadline = System.nanoTime() + 5_000_000_000L;
+        var content = response.getContentAsString();
+        while (!condition.test(content) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = response.getContentAsString();
+        }
+        assertTrue(condition.test(content), content);
+        return content;
+    }
+}
@@ -1,8 +1,14 @@
 package com.example.web.users;
 
+import com.example.dto.lookup.BatchLookup;
+import com.example.dto.pagination.CursorPage;
+import com.example.dto.versioning.ResourceVersion;
+import com.example.dto.users.UserImportFormat;
+import com.example.dto.users.UserImportResult;
 import com.example.dto.users.UserRegistrationForm;
 import com.example.dto.users.UserResponse;
 import com.example.services.users.UserService;
+import com.example.services.users.exceptions.PasswordHashingBusyException;
 import com.example.services.users.exceptions.UserNotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.instancio.Instancio;
@@ -15,13 +21,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.time.LocalDateTime;
+
 import static org.instancio.Select.field;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -93,6 +111,30 @@ class UserControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void getByIds_status_is_ok() throws Exception {
+        var records = Instancio.ofList(UserResponse.class)
+                .size(2)
+                .withSettings(settings)
+                .create();
+        var ids = List.of(records.get(0).id(), records.get(1).id(), Long.MAX_VALUE);
+
+        when(userService.getByIds(ids)).thenReturn(new BatchLookup<>(records, List.of(Long.MAX_VALUE)));
+
+        mockMvc.perform(get("/users").param("ids", ids.stream().map(String::valueOf).toArray(String[]::new)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("found[0].id").value(records.get(0).id()))
+                .andExpect(jsonPath("found[1].id").value(records.get(1).id()))
+                .andExpect(jsonPath("missingIds[0]").value(Long.MAX_VALUE));
+    }
+
+    @Test
+    void getByIds_status_bad_request() throws Exception {
+        mockMvc.perform(get("/users").param("ids", "1", "-1"))
+                .andExpect(status().isBadRequest());
+        verify(userService, never()).getByIds(List.of(1L, -1L));
+    }
+
     @Test
     void create_status_is_created() throws Exception {
         var email = "valid@email.com";
@@ -135,4 +177,104 @@ class UserControllerTest {
                         .content(objectMapper.writeValueAsString(userForm)))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getPage_status_is_ok() throws Exception {
+        var record = Instancio.of(UserResponse.class)
+                .withSettings(settings)
+                .create();
+        var page = new CursorPage<>(List.of(record), "next");
+
+        when(userService.getPage("current", 10)).thenReturn(page);
+
+        mockMvc.perform(get("/users/page")
+                        .param("cursor", "current")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("content[0].id").value(record.id()))
+                .andExpect(jsonPath("nextCursor").value(page.nextCursor()));
+    }
+
+    @Test
+    void getPage_status_is_bad_request() throws Exception {
+        mockMvc.perform(get("/users/page").param("size", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getById_sets_validators() throws Exception {
+        var user = Instancio.of(UserResponse.class)
+                .withSettings(settings)
+                .create();
+        var version = new ResourceVersion(user.id(), LocalDateTime.of(2023, 8, 14, 5, 16, 43));
+
+        when(userService.getVersionById(user.id())).thenReturn(Optional.of(version));
+        when(userService.getById(user.id())).thenReturn(user);
+
+        mockMvc.perform(get("/users/{id}", user.id()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, version.eTag()))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, version.lastModifiedMillis()));
+    }
+
+    @Test
+    void getById_status_is_not_modified() throws Exception {
+        var version = new ResourceVersion(1L, LocalDateTime.of(2023, 8, 14, 5, 16, 43));
+
+        when(userService.getVersionById(1L)).thenReturn(Optional.of(version));
+
+        mockMvc.perform(get("/users/{id}", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, version.eTag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, version.eTag()))
+                .andExpect(content().string(""));
+        verify(userService, never()).getById(1L);
+    }
+
+    @Test
+    void getAll_status_is_not_modified() throws Exception {
+        var version = new ResourceVersion(5L, LocalDateTime.of(2023, 8, 14, 5, 16, 43));
+
+        when(userService.getVersion()).thenReturn(Optional.of(version));
+
+        mockMvc.perform(get("/users")
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, version.lastModifiedMillis()))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void create_status_is_service_unavailable() throws Exception {
+        var user = new UserRegistrationForm("John", "Doe", "valid@email.com", "ValidPassword1");
+        when(userService.save(user)).thenThrow(new PasswordHashingBusyException("busy"));
+
+        mockMvc.perform(post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(user)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void importCsv_status_is_ok() throws Exception {
+        var result = new UserImportResult(1, 1, 0, 0, List.of());
+        when(userService.importUsers(any(InputStream.class), eq(UserImportFormat.CSV))).thenReturn(result);
+
+        mockMvc.perform(post("/users/import")
+                        .contentType("text/csv")
+                        .content("first_name,last_name,email,password\nJohn,Doe,john@example.com,Abc12345\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("imported").value(1));
+    }
+
+    @Test
+    void importNdjson_status_is_ok() throws Exception {
+        var result = new UserImportResult(1, 0, 1, 0, List.of());
+        when(userService.importUsers(any(InputStream.class), eq(UserImportFormat.NDJSON))).thenReturn(result);
+
+        mockMvc.perform(post("/users/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("duplicates").value(1));
+    }
+}